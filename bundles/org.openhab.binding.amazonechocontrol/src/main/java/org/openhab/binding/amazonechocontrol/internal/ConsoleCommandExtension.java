@@ -14,6 +14,7 @@ package org.openhab.binding.amazonechocontrol.internal;
 
 import static org.openhab.binding.amazonechocontrol.internal.AmazonEchoControlBindingConstants.BINDING_ID;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +38,7 @@ import org.osgi.service.component.annotations.Reference;
 public class ConsoleCommandExtension extends AbstractConsoleCommandExtension {
     private static final String LIST_ACCOUNTS = "listAccounts";
     private static final String RESET_ACCOUNT = "resetAccount";
+    private static final String STATISTICS = "statistics";
 
     private final AmazonEchoControlHandlerFactory handlerFactory;
 
@@ -54,6 +56,9 @@ public class ConsoleCommandExtension extends AbstractConsoleCommandExtension {
                 case LIST_ACCOUNTS:
                     listAccounts(console);
                     break;
+                case STATISTICS:
+                    statistics(console);
+                    break;
                 case RESET_ACCOUNT:
                     if (args.length == 2) {
                         resetAccount(console, args[1]);
@@ -79,6 +84,15 @@ public class ConsoleCommandExtension extends AbstractConsoleCommandExtension {
                 "Thing-Id: " + handler.getThing().getUID().getId() + " ('" + handler.getThing().getLabel() + "')"));
     }
 
+    private void statistics(Console console) {
+        handlerFactory.getAccountHandlers().forEach(handler -> {
+            Duration cacheAge = handler.getDeviceStateCache().getAge();
+            console.println("Thing-Id: " + handler.getThing().getUID().getId() + ", requests in the last minute: "
+                    + handler.getConnection().getRequestsPerMinute() + ", device state age: "
+                    + (cacheAge == null ? "never refreshed" : cacheAge.toSeconds() + "s"));
+        });
+    }
+
     private void resetAccount(Console console, String accountId) {
         Optional<AccountHandler> accountHandler = handlerFactory.getAccountHandlers().stream()
                 .filter(handler -> handler.getThing().getUID().getId().equals(accountId)).findAny();
@@ -94,6 +108,8 @@ public class ConsoleCommandExtension extends AbstractConsoleCommandExtension {
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(LIST_ACCOUNTS, "list all AmazonEchoControl accounts"), buildCommandUsage(
                 RESET_ACCOUNT + " <account_id>",
-                "resets the account connection (clears all authentication data) for the thing with the given id"));
+                "resets the account connection (clears all authentication data) for the thing with the given id"),
+                buildCommandUsage(STATISTICS,
+                        "list the number of requests in the last minute and the device state age of all accounts"));
     }
 }
@@ -189,6 +189,10 @@ public class Connection {
         return requestBuilder;
     }
 
+    public int getRequestsPerMinute() {
+        return requestBuilder.getRequestsPerMinute();
+    }
+
     public LoginData getLoginData() {
         // update cookies
         return loginData;
@@ -55,6 +55,7 @@ import org.openhab.binding.amazonechocontrol.internal.dto.DeviceTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.DoNotDisturbDeviceStatusTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.EnabledFeedTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.NotificationSoundTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.PlayerStateInfoTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.push.NotifyNowPlayingUpdatedTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.push.PushCommandTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.push.PushDeviceTO;
@@ -115,6 +116,7 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
     private final Set<SmartHomeDeviceHandler> smartHomeDeviceHandlers = new CopyOnWriteArraySet<>();
     private final Set<FlashBriefingProfileHandler> flashBriefingProfileHandlers = new CopyOnWriteArraySet<>();
     private final LinkedBlockingQueue<String> pushActivityProcessingQueue = new LinkedBlockingQueue<>();
+    private final DeviceStateCache deviceStateCache = new DeviceStateCache();
 
     private final Object synchronizeConnection = new Object();
     private Map<String, DeviceTO> serialNumberDeviceMapping = new HashMap<>();
@@ -368,6 +370,7 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
     public void resetConnection(boolean newDevice) {
         pushConnection.close();
         connection.logout(newDevice);
+        deviceStateCache.clear();
         sessionStorage.put("sessionStorage", null);
 
         updateStatus(ThingStatus.OFFLINE);
@@ -377,6 +380,7 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
     public void setConnection(Connection newConnection) {
         pushConnection.close();
         connection = newConnection;
+        deviceStateCache.clear();
         storeSession();
 
         // force data check
@@ -400,6 +404,8 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
                 if (connection.isLoggedIn()) {
                     if (now > nextDataRefresh) {
                         nextDataRefresh = now + CHECK_DATA_INTERVAL * 1000;
+                        // request the cached device states again with the account data
+                        deviceStateCache.invalidateDeviceStates();
                         refreshData();
                     }
                     if (now > nextRefreshNotifications) {
@@ -445,11 +451,9 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
             updateSmartHomeDeviceList(false);
             updateFlashBriefingHandlers();
 
-            List<DeviceNotificationStateTO> deviceNotificationStates = connection.getDeviceNotificationStates();
-            List<AscendingAlarmModelTO> ascendingAlarmModels = connection.getAscendingAlarms();
-            List<DoNotDisturbDeviceStatusTO> doNotDisturbDeviceStatuses = connection.getDoNotDisturbs();
-            List<BluetoothStateTO> bluetoothStates = connection.getBluetoothConnectionStates();
-            List<MusicProviderTO> musicProviders = connection.getMusicProviders();
+            // one request per resource type for all devices
+            deviceStateCache.refresh(connection);
+            List<MusicProviderTO> musicProviders = deviceStateCache.getMusicProviders();
 
             // forward device information to echo handler
             echoHandlers.forEach((serialNumber, echoHandler) -> {
@@ -459,17 +463,16 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
                 }
 
                 // update alarm sounds
-                List<NotificationSoundTO> notificationSounds = connection.getNotificationSounds(device);
+                List<NotificationSoundTO> notificationSounds = deviceStateCache.getNotificationSounds(connection,
+                        device);
                 commandDescriptionProvider.setEchoHandlerAlarmSounds(echoHandler, notificationSounds);
 
-                BluetoothStateTO bluetoothState = findIn(bluetoothStates, k -> k.deviceSerialNumber,
-                        device.serialNumber).orElse(null);
-                AscendingAlarmModelTO ascendingAlarmModel = findIn(ascendingAlarmModels, a -> a.deviceSerialNumber,
-                        device.serialNumber).orElse(null);
-                DeviceNotificationStateTO deviceNotificationState = findIn(deviceNotificationStates,
-                        a -> a.deviceSerialNumber, device.serialNumber).orElse(null);
-                DoNotDisturbDeviceStatusTO doNotDisturbDeviceStatus = findIn(doNotDisturbDeviceStatuses,
-                        a -> a.deviceSerialNumber, device.serialNumber).orElse(null);
+                BluetoothStateTO bluetoothState = deviceStateCache.getBluetoothState(serialNumber);
+                AscendingAlarmModelTO ascendingAlarmModel = deviceStateCache.getAscendingAlarmModel(serialNumber);
+                DeviceNotificationStateTO deviceNotificationState = deviceStateCache
+                        .getDeviceNotificationState(serialNumber);
+                DoNotDisturbDeviceStatusTO doNotDisturbDeviceStatus = deviceStateCache
+                        .getDoNotDisturbDeviceStatus(serialNumber);
 
                 echoHandler.updateState(device, bluetoothState, deviceNotificationState, ascendingAlarmModel,
                         doNotDisturbDeviceStatus, musicProviders);
@@ -569,6 +572,10 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
         return this.connection;
     }
 
+    public DeviceStateCache getDeviceStateCache() {
+        return deviceStateCache;
+    }
+
     public List<EnabledFeedTO> getEnabledFlashBriefings() {
         if (!currentFlashBriefings.isEmpty()) {
             return currentFlashBriefings;
@@ -648,7 +655,13 @@ public class AccountHandler extends BaseBridgeHandler implements PushConnection.
             case "NotifyMediaSessionsUpdated":
                 // we can't determine which session was updated, but it only makes sense for currently playing devices
                 // echoHandlers.forEach(e -> e.refreshAudioPlayerState(true));
-                echoHandlers.values().forEach(EchoHandler::updateMediaSessions);
+                List<DeviceTO> playingDevices = echoHandlers.values().stream().map(EchoHandler::getPlayingDevice)
+                        .filter(Objects::nonNull).map(Objects::requireNonNull).toList();
+                if (!playingDevices.isEmpty()) {
+                    Map<String, PlayerStateInfoTO> nowPlaying = deviceStateCache.getMediaSessions(connection,
+                            playingDevices);
+                    echoHandlers.values().forEach(e -> e.updateMediaSessions(nowPlaying));
+                }
                 break;
             case "PUSH_LIST_ITEM_CHANGE":
                 PushListItemChangeTO itemChange = Objects
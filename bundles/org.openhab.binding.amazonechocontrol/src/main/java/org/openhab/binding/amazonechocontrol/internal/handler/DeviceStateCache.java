@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.amazonechocontrol.internal.handler;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.amazonechocontrol.internal.ConnectionException;
+import org.openhab.binding.amazonechocontrol.internal.connection.Connection;
+import org.openhab.binding.amazonechocontrol.internal.dto.AscendingAlarmModelTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.DeviceIdTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.DeviceNotificationStateTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.DeviceTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.DoNotDisturbDeviceStatusTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.NotificationSoundTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.PlayerStateInfoTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.BluetoothStateTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.MediaSessionEndpointTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.MediaSessionTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.MusicProviderTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.PlayerStateTO;
+
+/**
+ * The {@link DeviceStateCache} keeps the state of all echo devices of an account.
+ * <p>
+ * The account wide resources (bluetooth, notification volume, ascending alarm, do not disturb and music providers) are
+ * fetched with one request per resource type and refresh cycle. The player state and the notification sounds are
+ * fetched per device, but only if they are not cached, so a refresh caused by a push message or a new thing does not
+ * request them again for every device.
+ * <p>
+ * Push messages that carry the new value (volume, media sessions) are applied to the cached player state directly,
+ * the other player related push messages and commands drop it (see {@link #handlePushCommand(String, String)}). The
+ * scheduled refresh of the account drops all player states and notification sounds with
+ * {@link #invalidateDeviceStates()}, so values that changed without a push message are not kept longer.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DeviceStateCache {
+    private final Map<String, PlayerState> playerStates = new ConcurrentHashMap<>();
+    private final Map<String, List<NotificationSoundTO>> notificationSounds = new ConcurrentHashMap<>();
+
+    /* All access must be guarded by "this" */
+    private Map<String, BluetoothStateTO> bluetoothStates = Map.of();
+    private Map<String, DeviceNotificationStateTO> deviceNotificationStates = Map.of();
+    private Map<String, AscendingAlarmModelTO> ascendingAlarmModels = Map.of();
+    private Map<String, DoNotDisturbDeviceStatusTO> doNotDisturbDeviceStatuses = Map.of();
+    private List<MusicProviderTO> musicProviders = List.of();
+    private long lastRefresh = 0;
+
+    /**
+     * Requests all account wide resources, one request per resource type.
+     *
+     * @param connection the connection of the account
+     */
+    public void refresh(Connection connection) {
+        Map<String, DeviceNotificationStateTO> deviceNotificationStates = toMap(
+                connection.getDeviceNotificationStates(), s -> s.deviceSerialNumber);
+        Map<String, AscendingAlarmModelTO> ascendingAlarmModels = toMap(connection.getAscendingAlarms(),
+                a -> a.deviceSerialNumber);
+        Map<String, DoNotDisturbDeviceStatusTO> doNotDisturbDeviceStatuses = toMap(connection.getDoNotDisturbs(),
+                d -> d.deviceSerialNumber);
+        Map<String, BluetoothStateTO> bluetoothStates = toMap(connection.getBluetoothConnectionStates(),
+                b -> b.deviceSerialNumber);
+        List<MusicProviderTO> musicProviders = connection.getMusicProviders();
+
+        synchronized (this) {
+            this.deviceNotificationStates = deviceNotificationStates;
+            this.ascendingAlarmModels = ascendingAlarmModels;
+            this.doNotDisturbDeviceStatuses = doNotDisturbDeviceStatuses;
+            this.bluetoothStates = bluetoothStates;
+            this.musicProviders = musicProviders;
+            this.lastRefresh = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Requests the bluetooth states of all devices.
+     *
+     * @param connection the connection of the account
+     */
+    public void refreshBluetoothStates(Connection connection) {
+        Map<String, BluetoothStateTO> bluetoothStates = toMap(connection.getBluetoothConnectionStates(),
+                b -> b.deviceSerialNumber);
+        synchronized (this) {
+            this.bluetoothStates = bluetoothStates;
+        }
+    }
+
+    public synchronized @Nullable BluetoothStateTO getBluetoothState(String serialNumber) {
+        return bluetoothStates.get(serialNumber);
+    }
+
+    public synchronized @Nullable DeviceNotificationStateTO getDeviceNotificationState(String serialNumber) {
+        return deviceNotificationStates.get(serialNumber);
+    }
+
+    public synchronized @Nullable AscendingAlarmModelTO getAscendingAlarmModel(String serialNumber) {
+        return ascendingAlarmModels.get(serialNumber);
+    }
+
+    public synchronized @Nullable DoNotDisturbDeviceStatusTO getDoNotDisturbDeviceStatus(String serialNumber) {
+        return doNotDisturbDeviceStatuses.get(serialNumber);
+    }
+
+    public synchronized List<MusicProviderTO> getMusicProviders() {
+        return musicProviders;
+    }
+
+    /**
+     * Get the player state of a device, from the cache if it has not been invalidated.
+     *
+     * @param connection the connection of the account
+     * @param device the device
+     * @return the player state
+     * @throws ConnectionException if the player state is not cached and the request failed
+     */
+    public PlayerState getPlayerState(Connection connection, DeviceTO device) throws ConnectionException {
+        PlayerState playerState = playerStates.get(device.serialNumber);
+        if (playerState != null) {
+            return playerState;
+        }
+        PlayerStateTO playerStateTO = connection.getPlayerState(device);
+        playerState = new PlayerState(playerStateTO.playerInfo, System.currentTimeMillis());
+        playerStates.put(device.serialNumber, playerState);
+        return playerState;
+    }
+
+    /**
+     * Stores a player state that was received with a push message.
+     */
+    public void putPlayerState(String serialNumber, PlayerStateInfoTO playerInfo) {
+        playerStates.put(serialNumber, new PlayerState(playerInfo, System.currentTimeMillis()));
+    }
+
+    /**
+     * Forces a request of the player state on the next access.
+     */
+    public void invalidatePlayerState(String serialNumber) {
+        playerStates.remove(serialNumber);
+    }
+
+    /**
+     * Drops the cached player state of a device if the push message may have changed it. Volume changes are applied
+     * with {@link #applyVolumeChange(String, int, boolean)} instead and equalizer changes are not part of it.
+     *
+     * @param serialNumber the serial number of the device the push message is for
+     * @param command the command of the push message
+     */
+    public void handlePushCommand(String serialNumber, String command) {
+        switch (command) {
+            case "PUSH_VOLUME_CHANGE":
+            case "PUSH_EQUALIZER_STATE_CHANGE":
+                break;
+            default:
+                invalidatePlayerState(serialNumber);
+        }
+    }
+
+    /**
+     * Forces a request of the player states and the notification sounds of all devices on the next access.
+     */
+    public void invalidateDeviceStates() {
+        playerStates.clear();
+        notificationSounds.clear();
+    }
+
+    /**
+     * Applies a volume change that was received with a push message to the cached player state.
+     */
+    public void applyVolumeChange(String serialNumber, int volume, boolean muted) {
+        PlayerState playerState = playerStates.get(serialNumber);
+        if (playerState != null && playerState.info.volume != null) {
+            playerState.info.volume.volume = volume;
+            playerState.info.volume.muted = muted;
+        }
+    }
+
+    /**
+     * Requests the media sessions of the given devices. A response that contains the session of other devices as
+     * well is used for them, so that these are not requested again.
+     *
+     * @param connection the connection of the account
+     * @param devices the devices
+     * @return the now playing data of the devices that have a media session, by serial number
+     */
+    public Map<String, PlayerStateInfoTO> getMediaSessions(Connection connection, Collection<DeviceTO> devices) {
+        Map<String, PlayerStateInfoTO> result = new HashMap<>();
+        Set<String> requested = new HashSet<>();
+        for (DeviceTO device : devices) {
+            if (requested.contains(device.serialNumber)) {
+                continue;
+            }
+            requested.add(device.serialNumber);
+            for (MediaSessionTO mediaSession : connection.getMediaSessions(device)) {
+                PlayerStateInfoTO nowPlayingData = mediaSession.nowPlayingData;
+                if (nowPlayingData == null) {
+                    continue;
+                }
+                for (MediaSessionEndpointTO endpoint : mediaSession.endpointList) {
+                    DeviceIdTO id = endpoint.id;
+                    if (id == null || id.deviceSerialNumber == null) {
+                        continue;
+                    }
+                    requested.add(id.deviceSerialNumber);
+                    result.put(id.deviceSerialNumber, nowPlayingData);
+                    putPlayerState(id.deviceSerialNumber, nowPlayingData);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the notification sounds of a device, from the cache if they have not been invalidated.
+     */
+    public List<NotificationSoundTO> getNotificationSounds(Connection connection, DeviceTO device) {
+        List<NotificationSoundTO> sounds = notificationSounds.get(device.serialNumber);
+        if (sounds != null) {
+            return sounds;
+        }
+        sounds = connection.getNotificationSounds(device);
+        notificationSounds.put(device.serialNumber, sounds);
+        return sounds;
+    }
+
+    /**
+     * @return the time since the last refresh of the account wide resources, or <code>null</code> if they have never
+     *         been refreshed
+     */
+    public synchronized @Nullable Duration getAge() {
+        return lastRefresh == 0 ? null : Duration.ofMillis(System.currentTimeMillis() - lastRefresh);
+    }
+
+    /**
+     * Removes all cached values, e.g. after the connection was replaced.
+     */
+    public void clear() {
+        playerStates.clear();
+        notificationSounds.clear();
+        synchronized (this) {
+            bluetoothStates = Map.of();
+            deviceNotificationStates = Map.of();
+            ascendingAlarmModels = Map.of();
+            doNotDisturbDeviceStatuses = Map.of();
+            musicProviders = List.of();
+            lastRefresh = 0;
+        }
+    }
+
+    private static <T> Map<String, T> toMap(List<T> values, Function<T, @Nullable String> keyExtractor) {
+        Map<String, T> map = new HashMap<>();
+        for (T value : values) {
+            String key = keyExtractor.apply(value);
+            if (key != null) {
+                map.put(key, value);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * A cached player state
+     *
+     * @param info the player state
+     * @param timestamp the time the player state was received
+     */
+    public record PlayerState(PlayerStateInfoTO info, long timestamp) {
+        /**
+         * @return the time since the player state was received in milliseconds
+         */
+        public long age() {
+            return System.currentTimeMillis() - timestamp;
+        }
+    }
+}
@@ -15,7 +15,6 @@ package org.openhab.binding.amazonechocontrol.internal.handler;
 import static org.eclipse.jetty.util.StringUtil.isNotBlank;
 import static org.openhab.binding.amazonechocontrol.internal.AmazonEchoControlBindingConstants.*;
 import static org.openhab.binding.amazonechocontrol.internal.dto.push.PushAudioPlayerStateTO.AudioPlayerState.*;
-import static org.openhab.binding.amazonechocontrol.internal.util.Util.findIn;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -57,9 +56,8 @@ import org.openhab.binding.amazonechocontrol.internal.dto.request.WHAVolumeLevel
 import org.openhab.binding.amazonechocontrol.internal.dto.response.BluetoothStateTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.response.CustomerHistoryRecordTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.response.CustomerHistoryRecordVoiceTO;
-import org.openhab.binding.amazonechocontrol.internal.dto.response.MediaSessionTO;
 import org.openhab.binding.amazonechocontrol.internal.dto.response.MusicProviderTO;
-import org.openhab.binding.amazonechocontrol.internal.dto.response.PlayerStateTO;
+import org.openhab.binding.amazonechocontrol.internal.handler.DeviceStateCache.PlayerState;
 import org.openhab.binding.amazonechocontrol.internal.types.Announcement;
 import org.openhab.binding.amazonechocontrol.internal.types.Notification;
 import org.openhab.core.cache.ExpiringCacheMap;
@@ -201,6 +199,10 @@ public class EchoHandler extends BaseThingHandler {
         return getAccountHandler().map(AccountHandler::getConnection);
     }
 
+    private Optional<DeviceStateCache> findDeviceStateCache() {
+        return getAccountHandler().map(AccountHandler::getDeviceStateCache);
+    }
+
     public String getSerialNumber() {
         return Objects.requireNonNullElse((String) getConfig().get(DEVICE_PROPERTY_SERIAL_NUMBER), "");
     }
@@ -573,13 +575,16 @@ public class EchoHandler extends BaseThingHandler {
             // force update of the state
             this.disableUpdate = true;
             final boolean bluetoothRefresh = needBluetoothRefresh;
+            DeviceStateCache deviceStateCache = accountHandler.getDeviceStateCache();
             Runnable doRefresh = () -> {
                 this.disableUpdate = false;
                 BluetoothStateTO state = null;
                 if (bluetoothRefresh) {
-                    List<BluetoothStateTO> states = connection.getBluetoothConnectionStates();
-                    state = findIn(states, a -> a.deviceSerialNumber, device.serialNumber).orElse(null);
+                    deviceStateCache.refreshBluetoothStates(connection);
+                    state = deviceStateCache.getBluetoothState(device.serialNumber);
                 }
+                // the command may have changed the player state
+                deviceStateCache.invalidatePlayerState(device.serialNumber);
                 updateState(device, state, null, null, null, null);
             };
             if (waitForUpdate == 0) {
@@ -695,6 +700,19 @@ public class EchoHandler extends BaseThingHandler {
     }
 
     private void updateMediaPlayerState(PlayerStateInfoTO playerInfo, boolean sequenceNodeRunning, int timeFactor) {
+        updateMediaPlayerState(playerInfo, sequenceNodeRunning, timeFactor, 0);
+    }
+
+    /**
+     * Update the media player channels
+     *
+     * @param playerInfo the player state
+     * @param sequenceNodeRunning whether a sequence is running, the volume is not updated then
+     * @param timeFactor the factor to convert the progress of the player state to milliseconds
+     * @param ageMs the time since the player state was received, added to the progress of a playing media
+     */
+    private void updateMediaPlayerState(PlayerStateInfoTO playerInfo, boolean sequenceNodeRunning, int timeFactor,
+            long ageMs) {
         PlayerStateProviderTO provider = playerInfo.provider;
         PlayerStateInfoTextTO infoText = playerInfo.infoText != null ? playerInfo.infoText : playerInfo.miniInfoText;
         PlayerStateMainArtTO mainArt = playerInfo.mainArt;
@@ -732,7 +750,7 @@ public class EchoHandler extends BaseThingHandler {
         synchronized (progressLock) {
             if (isPlaying) {
                 if (progress != null) {
-                    mediaProgressMs = progress.mediaProgress * timeFactor;
+                    mediaProgressMs = progress.mediaProgress * timeFactor + ageMs;
                     mediaLengthMs = progress.mediaLength * timeFactor;
                     mediaStartMs = System.currentTimeMillis() - mediaProgressMs;
                 }
@@ -849,7 +867,8 @@ public class EchoHandler extends BaseThingHandler {
             }
 
             Connection connection = findConnection().orElse(null);
-            if (connection == null) {
+            DeviceStateCache deviceStateCache = findDeviceStateCache().orElse(null);
+            if (connection == null || deviceStateCache == null) {
                 return;
             }
 
@@ -858,8 +877,9 @@ public class EchoHandler extends BaseThingHandler {
             }
 
             try {
-                PlayerStateTO playerState = connection.getPlayerState(device);
-                updateMediaPlayerState(playerState.playerInfo, connection.isSequenceNodeQueueRunning(), 1000);
+                PlayerState playerState = deviceStateCache.getPlayerState(connection, device);
+                updateMediaPlayerState(playerState.info(), connection.isSequenceNodeQueueRunning(), 1000,
+                        playerState.age());
             } catch (ConnectionException e) {
                 logger.debug("Failed to update player state: {}", e.getMessage(), e);
             }
@@ -980,17 +1000,22 @@ public class EchoHandler extends BaseThingHandler {
         });
     }
 
-    public void updateMediaSessions() {
+    /**
+     * @return the device if it is currently playing, <code>null</code> otherwise
+     */
+    public @Nullable DeviceTO getPlayingDevice() {
+        return isPlaying ? device : null;
+    }
+
+    public void updateMediaSessions(Map<String, PlayerStateInfoTO> nowPlaying) {
         findConnection().ifPresent(connection -> {
             DeviceTO device = this.device;
             if (device == null || !isPlaying) {
                 return;
             }
-            List<MediaSessionTO> mediaSessions = connection.getMediaSessions(device);
-            for (MediaSessionTO mediaSession : mediaSessions) {
-                if (findIn(mediaSession.endpointList, e -> e.id.deviceSerialNumber, device.serialNumber).isPresent()) {
-                    updateMediaPlayerState(mediaSession.nowPlayingData, connection.isSequenceNodeQueueRunning(), 1000);
-                }
+            PlayerStateInfoTO nowPlayingData = nowPlaying.get(device.serialNumber);
+            if (nowPlayingData != null) {
+                updateMediaPlayerState(nowPlayingData, connection.isSequenceNodeQueueRunning(), 1000);
             }
         });
     }
@@ -999,9 +1024,10 @@ public class EchoHandler extends BaseThingHandler {
         findConnection().ifPresent(connection -> {
             try {
                 DeviceTO device = this.device;
-                if (device != null) {
-                    PlayerStateTO playerState = connection.getPlayerState(device);
-                    updateMediaPlayerState(playerState.playerInfo, connection.isSequenceNodeQueueRunning(), 1000);
+                DeviceStateCache deviceStateCache = findDeviceStateCache().orElse(null);
+                if (device != null && deviceStateCache != null) {
+                    PlayerState playerState = deviceStateCache.getPlayerState(connection, device);
+                    updateMediaPlayerState(playerState.info(), connection.isSequenceNodeQueueRunning(), 1000);
                 }
             } catch (ConnectionException e) {
                 logger.debug("Failed to refresh audio player state: {}", e.getMessage(), e);
@@ -1012,12 +1038,21 @@ public class EchoHandler extends BaseThingHandler {
     public void handlePushCommand(String command, String payload) {
         this.logger.debug("Handle push command {}", command);
         Connection connection = this.findConnection().orElse(null);
+        DeviceTO pushDevice = this.device;
+        if (pushDevice != null) {
+            findDeviceStateCache().ifPresent(cache -> cache.handlePushCommand(pushDevice.serialNumber, command));
+        }
 
         switch (command) {
             case "PUSH_VOLUME_CHANGE":
                 PushVolumeChangeTO volumeChange = Objects
                         .requireNonNull(gson.fromJson(payload, PushVolumeChangeTO.class));
 
+                DeviceTO volumeDevice = this.device;
+                if (volumeDevice != null) {
+                    findDeviceStateCache().ifPresent(cache -> cache.applyVolumeChange(volumeDevice.serialNumber,
+                            volumeChange.volumeSetting, volumeChange.isMuted));
+                }
                 if (volumeChange.isMuted) {
                     updateState(CHANNEL_VOLUME, new PercentType(0));
                 }
@@ -25,6 +25,8 @@ import java.net.CookieManager;
 import java.net.HttpCookie;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -73,6 +75,8 @@ public class HttpRequestBuilder {
     private final Gson gson;
     private final Lock lock = new ReentrantLock();
     private final Semaphore semaphore = new Semaphore(2, true);
+    // All access must be guarded by "requestTimestamps"
+    private final Deque<Long> requestTimestamps = new ArrayDeque<>();
 
     public HttpRequestBuilder(HttpClient httpClient, CookieManager cookieManager, Gson gson) {
         this.httpClient = httpClient;
@@ -100,6 +104,36 @@ public class HttpRequestBuilder {
         return new Builder(httpMethod, uriString);
     }
 
+    /**
+     * Get the number of requests that have been sent in the last minute, including retries and redirects
+     *
+     * @return the number of requests
+     */
+    public int getRequestsPerMinute() {
+        return getRequestsPerMinute(System.currentTimeMillis());
+    }
+
+    int getRequestsPerMinute(long now) {
+        synchronized (requestTimestamps) {
+            removeExpiredRequestTimestamps(now);
+            return requestTimestamps.size();
+        }
+    }
+
+    void countRequest(long now) {
+        synchronized (requestTimestamps) {
+            removeExpiredRequestTimestamps(now);
+            requestTimestamps.add(now);
+        }
+    }
+
+    private void removeExpiredRequestTimestamps(long now) {
+        Long oldest;
+        while ((oldest = requestTimestamps.peek()) != null && now - oldest >= 60000) {
+            requestTimestamps.poll();
+        }
+    }
+
     private void createRequest(URI uri, RequestParams params, HttpResponseListener responseListener) {
         Request request = httpClient.newRequest(uri).method(params.method());
         request.header(ACCEPT_LANGUAGE, "en-US");
@@ -140,6 +174,7 @@ public class HttpRequestBuilder {
                     HttpUtil.logToString(request.getHeaders()), request.getCookies(), params.requestContent());
         }
 
+        countRequest(System.currentTimeMillis());
         request.send(responseListener);
     }
 
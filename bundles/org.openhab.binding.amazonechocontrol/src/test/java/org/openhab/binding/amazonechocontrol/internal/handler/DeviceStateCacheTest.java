@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.amazonechocontrol.internal.handler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.amazonechocontrol.internal.ConnectionException;
+import org.openhab.binding.amazonechocontrol.internal.connection.Connection;
+import org.openhab.binding.amazonechocontrol.internal.dto.DeviceIdTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.DeviceTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.NotificationSoundTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.PlayerStateInfoTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.MediaSessionEndpointTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.MediaSessionTO;
+import org.openhab.binding.amazonechocontrol.internal.dto.response.PlayerStateTO;
+
+/**
+ * The {@link DeviceStateCacheTest} contains tests for the {@link DeviceStateCache}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DeviceStateCacheTest {
+    private final Connection connection = mock(Connection.class);
+    private final DeviceStateCache cache = new DeviceStateCache();
+    private final DeviceTO kitchen = device("kitchen");
+    private final DeviceTO livingRoom = device("livingRoom");
+
+    @BeforeEach
+    public void setUp() throws ConnectionException {
+        when(connection.getPlayerState(any())).thenAnswer(invocation -> new PlayerStateTO());
+        when(connection.getNotificationSounds(any())).thenAnswer(invocation -> List.of(new NotificationSoundTO()));
+    }
+
+    @Test
+    public void playerStateIsRequestedOnce() throws ConnectionException {
+        PlayerStateInfoTO first = cache.getPlayerState(connection, kitchen).info();
+        PlayerStateInfoTO second = cache.getPlayerState(connection, kitchen).info();
+
+        assertThat(second, is(sameInstance(first)));
+        verify(connection, times(1)).getPlayerState(kitchen);
+    }
+
+    @Test
+    public void invalidatedPlayerStateIsRequestedAgain() throws ConnectionException {
+        cache.getPlayerState(connection, kitchen);
+        cache.getPlayerState(connection, livingRoom);
+        cache.invalidatePlayerState(kitchen.serialNumber);
+        cache.getPlayerState(connection, kitchen);
+        cache.getPlayerState(connection, livingRoom);
+
+        verify(connection, times(2)).getPlayerState(kitchen);
+        verify(connection, times(1)).getPlayerState(livingRoom);
+    }
+
+    @Test
+    public void playerRelatedPushMessagesInvalidatePlayerState() throws ConnectionException {
+        for (String command : List.of("PUSH_AUDIO_PLAYER_STATE", "PUSH_MEDIA_QUEUE_CHANGE", "PUSH_MEDIA_CHANGE",
+                "PUSH_MEDIA_PROGRESS_CHANGE", "PUSH_CONTENT_FOCUS_CHANGE")) {
+            cache.getPlayerState(connection, kitchen);
+            cache.handlePushCommand(kitchen.serialNumber, command);
+        }
+        cache.getPlayerState(connection, kitchen);
+
+        verify(connection, times(6)).getPlayerState(kitchen);
+    }
+
+    @Test
+    public void volumeAndEqualizerPushMessagesKeepPlayerState() throws ConnectionException {
+        cache.getPlayerState(connection, kitchen);
+        cache.handlePushCommand(kitchen.serialNumber, "PUSH_VOLUME_CHANGE");
+        cache.applyVolumeChange(kitchen.serialNumber, 42, true);
+        cache.handlePushCommand(kitchen.serialNumber, "PUSH_EQUALIZER_STATE_CHANGE");
+        PlayerStateInfoTO info = cache.getPlayerState(connection, kitchen).info();
+
+        assertThat(info.volume.volume, is(42));
+        assertThat(info.volume.muted, is(true));
+        verify(connection, times(1)).getPlayerState(kitchen);
+    }
+
+    @Test
+    public void pushMessageForOtherDeviceKeepsPlayerState() throws ConnectionException {
+        cache.getPlayerState(connection, kitchen);
+        cache.handlePushCommand(livingRoom.serialNumber, "PUSH_AUDIO_PLAYER_STATE");
+        cache.getPlayerState(connection, kitchen);
+
+        verify(connection, times(1)).getPlayerState(kitchen);
+    }
+
+    @Test
+    public void mediaSessionIsUsedForAllDevicesOfTheSession() throws ConnectionException {
+        PlayerStateInfoTO nowPlaying = new PlayerStateInfoTO();
+        MediaSessionTO session = new MediaSessionTO();
+        session.nowPlayingData = nowPlaying;
+        session.endpointList = List.of(endpoint(kitchen), endpoint(livingRoom));
+        when(connection.getMediaSessions(kitchen)).thenReturn(List.of(session));
+
+        Map<String, PlayerStateInfoTO> result = cache.getMediaSessions(connection, List.of(kitchen, livingRoom));
+
+        assertThat(result, is(Map.of(kitchen.serialNumber, nowPlaying, livingRoom.serialNumber, nowPlaying)));
+        assertThat(cache.getPlayerState(connection, livingRoom).info(), is(sameInstance(nowPlaying)));
+        verify(connection, never()).getMediaSessions(livingRoom);
+        verify(connection, never()).getPlayerState(any());
+    }
+
+    @Test
+    public void scheduledRefreshRequestsDeviceStatesAgain() throws ConnectionException {
+        cache.getPlayerState(connection, kitchen);
+        cache.getNotificationSounds(connection, kitchen);
+        cache.getNotificationSounds(connection, kitchen);
+        verify(connection, times(1)).getNotificationSounds(kitchen);
+
+        cache.invalidateDeviceStates();
+        cache.getPlayerState(connection, kitchen);
+        cache.getNotificationSounds(connection, kitchen);
+
+        verify(connection, times(2)).getPlayerState(kitchen);
+        verify(connection, times(2)).getNotificationSounds(kitchen);
+    }
+
+    private static DeviceTO device(String serialNumber) {
+        DeviceTO device = new DeviceTO();
+        device.serialNumber = serialNumber;
+        return device;
+    }
+
+    private static MediaSessionEndpointTO endpoint(DeviceTO device) {
+        MediaSessionEndpointTO endpoint = new MediaSessionEndpointTO();
+        endpoint.id = new DeviceIdTO();
+        endpoint.id.deviceSerialNumber = device.serialNumber;
+        return endpoint;
+    }
+}
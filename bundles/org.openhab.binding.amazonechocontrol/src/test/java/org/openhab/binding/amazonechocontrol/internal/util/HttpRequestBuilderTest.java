@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.amazonechocontrol.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.CookieManager;
+import java.net.URI;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * The {@link HttpRequestBuilderTest} contains tests for the request counter of the {@link HttpRequestBuilder}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HttpRequestBuilderTest {
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final HttpRequestBuilder requestBuilder = new HttpRequestBuilder(httpClient, new CookieManager(),
+            new Gson());
+
+    @Test
+    public void sentRequestsAreCounted() {
+        Request request = mock(Request.class, RETURNS_SELF);
+        when(httpClient.newRequest(any(URI.class))).thenReturn(request);
+
+        requestBuilder.get("https://alexa.amazon.com/api/devices-v2/device").send();
+        requestBuilder.post("https://alexa.amazon.com/api/behaviors/preview").withContent("{}").send();
+
+        assertThat(requestBuilder.getRequestsPerMinute(), is(2));
+        verify(request, times(2)).send(any(Request.CompleteListener.class));
+    }
+
+    @Test
+    public void requestsOlderThanOneMinuteAreNotCounted() {
+        requestBuilder.countRequest(1000);
+        requestBuilder.countRequest(30000);
+        requestBuilder.countRequest(60000);
+
+        assertThat(requestBuilder.getRequestsPerMinute(60999), is(3));
+        assertThat(requestBuilder.getRequestsPerMinute(61000), is(2));
+        assertThat(requestBuilder.getRequestsPerMinute(90000), is(1));
+        assertThat(requestBuilder.getRequestsPerMinute(120000), is(0));
+    }
+}
@@ -16,15 +16,19 @@ import static org.openhab.binding.astro.internal.util.MathUtils.*;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.InstantSource;
 import java.util.Calendar;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.TimeZone;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.model.DistanceType;
 import org.openhab.binding.astro.internal.model.EclipseSet;
 import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.MoonDistance;
 import org.openhab.binding.astro.internal.model.MoonPosition;
 import org.openhab.binding.astro.internal.model.Range;
 import org.openhab.binding.astro.internal.util.AstroConstants;
@@ -45,6 +49,17 @@ import org.openhab.binding.astro.internal.util.MathUtils;
 public class MoonCalc extends AstroCalc {
     private static final double FL = 1.0 - AstroConstants.WGS84_EARTH_FLATTENING;
     private static final EclipseCalc ECLIPSE_CALC = new MoonEclipseCalc();
+    private static final int MAX_CACHED_LOCATIONS = 64;
+
+    /* All access must be guarded by EVENT_CACHE */
+    private static final Map<Location, MoonEvents> EVENT_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<Location, MoonEvents> eldest) {
+            return size() > MAX_CACHED_LOCATIONS;
+        }
+    };
 
     private final InstantSource instantSource;
 
@@ -85,13 +100,25 @@ public class MoonCalc extends AstroCalc {
 
         double julianDate = DateTimeUtils.dateToJulianDate(calendar);
 
-        if (moon.getEclipseSet().needsRecalc(julianDate)) {
-            moon.setEclipseSet(new EclipseSet(ECLIPSE_CALC.getNextEclipses(julianDate).stream()
-                    .map(eclipse -> eclipse.withPosition(getMoonPosition(eclipse.when(), latitude, longitude)))));
+        // the next eclipses, apogee and perigee after a date stay the same until one of them has passed
+        Location location = new Location(latitude, longitude);
+        MoonEvents events;
+        synchronized (EVENT_CACHE) {
+            events = EVENT_CACHE.get(location);
+        }
+        if (events == null || events.needsRecalc(julianDate)) {
+            EclipseSet eclipseSet = new EclipseSet(ECLIPSE_CALC.getNextEclipses(julianDate).stream()
+                    .map(eclipse -> eclipse.withPosition(getMoonPosition(eclipse.when(), latitude, longitude))));
+            events = new MoonEvents(julianDate, eclipseSet, MoonDistanceCalc.get(DistanceType.APOGEE, julianDate),
+                    MoonDistanceCalc.get(DistanceType.PERIGEE, julianDate));
+            synchronized (EVENT_CACHE) {
+                EVENT_CACHE.put(location, events);
+            }
         }
 
-        Set.of(DistanceType.APOGEE, DistanceType.PERIGEE)
-                .forEach(type -> moon.setDistance(type, MoonDistanceCalc.get(type, julianDate)));
+        moon.setEclipseSet(events.eclipseSet());
+        moon.setDistance(DistanceType.APOGEE, events.apogee());
+        moon.setDistance(DistanceType.PERIGEE, events.perigee());
 
         return moon;
     }
@@ -436,4 +463,21 @@ public class MoonCalc extends AstroCalc {
         }
         return d;
     }
+
+    private record Location(double latitude, double longitude) {
+    }
+
+    private record MoonEvents(double calculatedFor, EclipseSet eclipseSet, MoonDistance apogee,
+            MoonDistance perigee) {
+        private boolean needsRecalc(double julianDate) {
+            Instant now = DateTimeUtils.jdToInstant(julianDate);
+            return julianDate < calculatedFor || eclipseSet.needsRecalc(julianDate) || isBefore(apogee, now)
+                    || isBefore(perigee, now);
+        }
+
+        private static boolean isBefore(MoonDistance distance, Instant now) {
+            Instant date = distance.getDate();
+            return date == null || date.isBefore(now);
+        }
+    }
 }
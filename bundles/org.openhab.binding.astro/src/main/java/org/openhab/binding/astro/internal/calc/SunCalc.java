@@ -43,6 +43,8 @@ import org.openhab.binding.astro.internal.util.MathUtils;
  * @author Gerhard Riegler - Initial contribution
  * @author Christoph Weitkamp - Introduced UoM
  * @implNote based on the calculations of http://www.suncalc.net
+ *           The daily data of a location only depends on the day, so it is calculated once per day and location and
+ *           shared by all things at that location. Only the zodiac and the sun phase are calculated for each call.
  */
 @NonNullByDefault
 public class SunCalc {
@@ -66,6 +68,17 @@ public class SunCalc {
     private static final double H3 = Math.toRadians(-18.0); // darkness angle
     private static final int CURVE_TIME_INTERVAL = 20; // 20 minutes
     private static final EclipseCalc ECLIPSE_CALC = new SunEclipseCalc();
+    private static final int MAX_CACHED_DAYS = 64;
+
+    /* All access must be guarded by DAILY_CACHE */
+    private static final Map<DayKey, Sun> DAILY_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<DayKey, Sun> eldest) {
+            return size() > MAX_CACHED_DAYS;
+        }
+    };
 
     private final InstantSource instantSource;
 
@@ -126,7 +139,36 @@ public class SunCalc {
      */
     public Sun getSunInfo(Calendar calendar, double latitude, double longitude, @Nullable Double altitude,
             boolean useMeteorologicalSeason, TimeZone zone, Locale locale) {
-        return getSunInfo(calendar, latitude, longitude, altitude, false, useMeteorologicalSeason, zone, locale);
+        DayKey key = new DayKey(DateTimeUtils.midnightDateToJulianDate(calendar), calendar.getTimeZone().getID(),
+                latitude, longitude, useMeteorologicalSeason, zone.getID(), locale, instantSource);
+        Sun daily;
+        synchronized (DAILY_CACHE) {
+            daily = DAILY_CACHE.get(key);
+        }
+        if (daily == null) {
+            daily = getSunInfo(calendar, latitude, longitude, altitude, false, useMeteorologicalSeason, zone, locale);
+            synchronized (DAILY_CACHE) {
+                DAILY_CACHE.put(key, daily);
+            }
+        }
+
+        // the ranges hold mutable calendars, so every caller gets its own copy
+        Sun sun = copyOf(daily);
+        sun.setZodiac(ZodiacCalc.calculate(getEclipticLongitude(calendar, longitude), calendar.toInstant()));
+
+        // phase
+        for (Entry<SunPhase, Range> rangeEntry : sortByValue(sun.getAllRanges()).entrySet()) {
+            SunPhase entryPhase = rangeEntry.getKey();
+            if (rangeEntry.getValue().matches(calendar)) {
+                if (entryPhase == SunPhase.MORNING_NIGHT || entryPhase == SunPhase.EVENING_NIGHT) {
+                    sun.setSunPhase(SunPhase.NIGHT);
+                } else {
+                    sun.setSunPhase(entryPhase);
+                }
+            }
+        }
+
+        return sun;
     }
 
     private Sun getSunInfo(Calendar calendar, double latitude, double longitude, @Nullable Double altitude,
@@ -262,29 +304,47 @@ public class SunCalc {
             })));
         }
 
-        sun.setZodiac(ZodiacCalc.calculate(lsun, calendar.toInstant()));
-
         Season season = sun.getSeason();
         var year = calendar.get(Calendar.YEAR);
         if (season == null || season.getYear() != year) {
             sun.setSeason(SeasonCalc.calculate(year, latitude, useMeteorologicalSeason, zone, instantSource));
         }
 
-        // phase
-        for (Entry<SunPhase, Range> rangeEntry : sortByValue(sun.getAllRanges()).entrySet()) {
-            SunPhase entryPhase = rangeEntry.getKey();
-            if (rangeEntry.getValue().matches(calendar)) {
-                if (entryPhase == SunPhase.MORNING_NIGHT || entryPhase == SunPhase.EVENING_NIGHT) {
-                    sun.setSunPhase(SunPhase.NIGHT);
-                } else {
-                    sun.setSunPhase(entryPhase);
-                }
-            }
-        }
+        return sun;
+    }
 
+    /**
+     * Returns the ecliptic longitude of the sun at the solar transit of the day.
+     */
+    private double getEclipticLongitude(Calendar calendar, double longitude) {
+        double lw = Math.toRadians(-longitude);
+        double j = DateTimeUtils.midnightDateToJulianDate(calendar) + 0.5;
+        double m = getSolarMeanAnomaly(getApproxSolarTransit(0, lw, getJulianCycle(j, lw)));
+        return getEclipticLongitude(m, getEquationOfCenter(m));
+    }
+
+    /**
+     * Copies the daily data of the sun. Eclipses and seasons are immutable and shared.
+     */
+    private static Sun copyOf(Sun daily) {
+        Sun sun = new Sun();
+        daily.getAllRanges().forEach((phase, range) -> sun.setRange(phase, copyOf(range)));
+        sun.setRise(copyOf(daily.getRise()));
+        sun.setSet(copyOf(daily.getSet()));
+        sun.setEclipseSet(daily.getEclipseSet());
+        Season season = daily.getSeason();
+        if (season != null) {
+            sun.setSeason(season);
+        }
         return sun;
     }
 
+    private static Range copyOf(Range range) {
+        Calendar start = range.getStart();
+        Calendar end = range.getEnd();
+        return new Range(start == null ? null : (Calendar) start.clone(), end == null ? null : (Calendar) end.clone());
+    }
+
     // all the following methods are translated to java based on the javascript
     // calculations of http://www.suncalc.net
     private double getJulianCycle(double j, double lw) {
@@ -363,4 +423,11 @@ public class SunCalc {
 
         return result;
     }
+
+    /**
+     * Identifies the daily data of a location. The altitude is not part of it, because it does not change the data.
+     */
+    private record DayKey(double midnight, String calendarZone, double latitude, double longitude,
+            boolean useMeteorologicalSeason, String zone, Locale locale, InstantSource instantSource) {
+    }
 }
@@ -441,6 +441,57 @@ public class SunCalcTest {
         }
     }
 
+    @Test
+    public void testDailyDataIsSharedWithoutSharingCalendars() {
+        SunCalc calc = Objects.requireNonNull(sunCalc);
+        Calendar night = SunCalcTest.newCalendar(2019, Calendar.FEBRUARY, 27, 1, 0, AMSTERDAM_TIME_ZONE);
+        Calendar noon = SunCalcTest.newCalendar(2019, Calendar.FEBRUARY, 27, 13, 0, AMSTERDAM_TIME_ZONE);
+        Sun nightSun = calc.getSunInfo(night, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false,
+                AMSTERDAM_TIME_ZONE, Locale.ROOT);
+        Sun noonSun = new SunCalc(InstantSource.fixed(Instant.ofEpochMilli(1645671600000L))).getSunInfo(noon,
+                AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false, AMSTERDAM_TIME_ZONE, Locale.ROOT);
+
+        assertEquals(SunPhase.NIGHT, nightSun.getSunPhase());
+        assertEquals(SunPhase.DAYLIGHT, noonSun.getSunPhase());
+        assertSame(nightSun.getEclipseSet(), noonSun.getEclipseSet());
+        assertSame(nightSun.getSeason(), noonSun.getSeason());
+
+        Calendar nightRise = Objects.requireNonNull(nightSun.getRise().getStart());
+        Calendar noonRise = Objects.requireNonNull(noonSun.getRise().getStart());
+        assertNotSame(nightRise, noonRise);
+        assertEquals(nightRise.getTimeInMillis(), noonRise.getTimeInMillis());
+
+        nightRise.setTimeZone(TimeZone.getTimeZone("UTC"));
+        nightRise.add(Calendar.HOUR_OF_DAY, 1);
+        assertEquals(AMSTERDAM_TIME_ZONE, noonRise.getTimeZone());
+        assertEquals(nightRise.getTimeInMillis() - 3600000, noonRise.getTimeInMillis());
+    }
+
+    /**
+     * Calculates a year of daily data for ten things at the same location and checks that the cached data of the
+     * other things is the same as the calculated data of the first thing, but a copy of it.
+     */
+    @Test
+    public void testDailyRecomputeUsesCachedData() {
+        final int things = 10;
+        SunCalc calc = new SunCalc(InstantSource.fixed(Instant.ofEpochMilli(1546300800000L)));
+        Calendar day = SunCalcTest.newCalendar(2019, Calendar.JANUARY, 1, 6, 0, AMSTERDAM_TIME_ZONE);
+        for (int i = 0; i < 365; i++) {
+            Sun calculated = calc.getSunInfo(day, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false,
+                    AMSTERDAM_TIME_ZONE, Locale.ROOT);
+            for (int thing = 1; thing < things; thing++) {
+                Sun cached = calc.getSunInfo(day, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false,
+                        AMSTERDAM_TIME_ZONE, Locale.ROOT);
+                assertEquals(calculated.getSunPhase(), cached.getSunPhase());
+                assertEquals(calculated.getRise().toString(), cached.getRise().toString());
+                assertNotSame(calculated.getRise(), cached.getRise());
+                assertEquals(String.valueOf(calculated.getRange(SunPhase.NIGHT)),
+                        String.valueOf(cached.getRange(SunPhase.NIGHT)));
+            }
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
     /***
      * Constructs a <code>GregorianCalendar</code> with the given date and time set
      * for the provided time zone.
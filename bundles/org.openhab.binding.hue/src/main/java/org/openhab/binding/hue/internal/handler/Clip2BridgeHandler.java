@@ -145,6 +145,13 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
+    /**
+     * Index between resource IDs and the child thing handlers that consume the respective resources. It is rebuilt
+     * lazily after a child thing handler has been initialized or disposed, or its set of consumed resources changed.
+     */
+    private volatile Clip2ResourceIndex<Clip2ThingHandler> resourceIndex = new Clip2ResourceIndex<>(Map.of());
+    private volatile boolean resourceIndexValid;
+
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
     private int connectRetriesRemaining;
@@ -291,6 +298,16 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        invalidateResourceIndex();
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        invalidateResourceIndex();
+    }
+
     @Override
     public void dispose() {
         if (assetsLoaded) {
@@ -573,8 +590,41 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Get the index between resource IDs and the child thing handlers that consume them, rebuilding it if necessary.
+     *
+     * @return the resource index.
+     */
+    private Clip2ResourceIndex<Clip2ThingHandler> getResourceIndex() {
+        if (!resourceIndexValid) {
+            synchronized (this) {
+                if (!resourceIndexValid) {
+                    // set the flag before reading the handlers, so that concurrent changes cause another rebuild
+                    resourceIndexValid = true;
+                    Map<Clip2ThingHandler, Set<String>> resourceIdsByHandler = new HashMap<>();
+                    getThing().getThings().forEach(thing -> {
+                        if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
+                            resourceIdsByHandler.put(clip2ThingHandler, clip2ThingHandler.getConsumedResourceIds());
+                        }
+                    });
+                    resourceIndex = new Clip2ResourceIndex<>(resourceIdsByHandler);
+                    logger.debug("getResourceIndex() indexed {} resource ids for {} things", resourceIndex.size(),
+                            resourceIdsByHandler.size());
+                }
+            }
+        }
+        return resourceIndex;
+    }
+
+    /**
+     * Called by the child thing handlers when the set of resource IDs that they consume has changed.
+     */
+    public void invalidateResourceIndex() {
+        resourceIndexValid = false;
+    }
+
+    /**
+     * Called when an SSE event message comes in with a valid list of resources. Inform each child thing handler with
+     * the respective resources that it consumes.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -600,11 +650,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (onResources(resources)) {
             updateAutomationChannelsNow();
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
-            }
-        });
+        getResourceIndex().route(resources)
+                .forEach((clip2ThingHandler, handlerResources) -> clip2ThingHandler.onResources(handlerResources));
     }
 
     /**
@@ -793,7 +840,9 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Execute the mass download of all relevant resource types, and inform all child thing handlers.
+     * Execute the mass download of all relevant resource types, and inform all child thing handlers with the respective
+     * resources that they consume. Handlers that consume none of the resources are called with an empty list so they
+     * can detect that their resource is gone.
      */
     private void updateThingsNow() {
         logger.debug("updateThingsNow()");
@@ -817,10 +866,12 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                     default:
                         break;
                 }
+                Map<Clip2ThingHandler, List<Resource>> resourcesByHandler = getResourceIndex().route(resourceList);
                 getThing().getThings().forEach(thing -> {
                     ThingHandler handler = thing.getHandler();
                     if (handler instanceof Clip2ThingHandler clip2ThingHandler) {
-                        clip2ThingHandler.onResourcesList(resourceType, resourceList);
+                        clip2ThingHandler.onResourcesList(resourceType,
+                                resourcesByHandler.getOrDefault(clip2ThingHandler, List.of()));
                     }
                 });
             }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+
+/**
+ * Immutable index between resource IDs and the consumers (i.e. thing handlers) that are interested in the respective
+ * resources. It allows the bridge to deliver to each consumer only the slice of an incoming resource list that the
+ * consumer actually uses, rather than letting every consumer scan every resource.
+ *
+ * A resource is delivered to the consumers which have registered either its own ID, the ID of its owner (e.g. the
+ * DEVICE that owns a LIGHT service), or the ID of its group (e.g. the ROOM or ZONE that a SCENE belongs to).
+ *
+ * @author agent - Initial contribution
+ *
+ * @param <T> the type of consumer.
+ */
+@NonNullByDefault
+public class Clip2ResourceIndex<T> {
+
+    private final Map<String, List<T>> consumersById = new HashMap<>();
+
+    /**
+     * Create an index.
+     *
+     * @param resourceIdsByConsumer a map between each consumer and the IDs of the resources that it is interested in.
+     */
+    public Clip2ResourceIndex(Map<T, ? extends Collection<String>> resourceIdsByConsumer) {
+        resourceIdsByConsumer.forEach((consumer, resourceIds) -> resourceIds
+                .forEach(id -> consumersById.computeIfAbsent(id, k -> new ArrayList<>()).add(consumer)));
+    }
+
+    /**
+     * Split the given resources into one list per consumer. The order of the resources is preserved within each list,
+     * and resources that are of no interest to any consumer are dropped.
+     *
+     * @param resources the incoming resources.
+     * @return a map between each interested consumer and its slice of the resources.
+     */
+    public Map<T, List<Resource>> route(List<Resource> resources) {
+        Map<T, List<Resource>> resourcesByConsumer = new LinkedHashMap<>();
+        Set<T> consumers = new LinkedHashSet<>();
+        for (Resource resource : resources) {
+            consumers.clear();
+            addConsumers(consumers, resource.getId());
+            addConsumers(consumers, resource.getOwner());
+            addConsumers(consumers, resource.getGroup());
+            for (T consumer : consumers) {
+                resourcesByConsumer.computeIfAbsent(consumer, k -> new ArrayList<>()).add(resource);
+            }
+        }
+        return resourcesByConsumer;
+    }
+
+    /**
+     * @return the number of indexed resource IDs.
+     */
+    public int size() {
+        return consumersById.size();
+    }
+
+    private void addConsumers(Set<T> consumers, @Nullable ResourceReference reference) {
+        if (reference != null) {
+            addConsumers(consumers, reference.getId());
+        }
+    }
+
+    private void addConsumers(Set<T> consumers, @Nullable String id) {
+        if (id != null) {
+            List<T> idConsumers = consumersById.get(id);
+            if (idConsumers != null) {
+                consumers.addAll(idConsumers);
+            }
+        }
+    }
+}
@@ -316,6 +316,32 @@ public class Clip2ThingHandler extends BaseThingHandler {
         extendedResourceTypes.clear();
     }
 
+    /**
+     * Get the IDs of the resources that this thing consumes, i.e. its own resource, the service resources and the
+     * scene resources that contribute to its state. The bridge uses them to deliver only the relevant resources.
+     *
+     * @return a set of resource IDs.
+     */
+    public Set<String> getConsumedResourceIds() {
+        if (disposing) {
+            return Set.of();
+        }
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the set of resource IDs consumed by this thing has changed.
+     */
+    private void consumedResourceIdsChanged() {
+        Bridge bridge = getBridge();
+        if (Objects.nonNull(bridge) && bridge.getHandler() instanceof Clip2BridgeHandler clip2BridgeHandler) {
+            clip2BridgeHandler.invalidateResourceIndex();
+        }
+    }
+
     /**
      * Get the bridge handler.
      *
@@ -844,6 +870,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     sceneContributorsCache.put(sceneResource.getId(), sceneResource);
                     sceneResourceEntries.put(sceneResource.getName(), sceneResource);
                     updateSceneChannelStateDescription();
+                    consumedResourceIdsChanged();
                     return FLAG_SCENE_ADD;
                 }
                 break;
@@ -852,6 +879,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 if (Objects.nonNull(deletedScene)) {
                     sceneResourceEntries.remove(deletedScene.getName());
                     updateSceneChannelStateDescription();
+                    consumedResourceIdsChanged();
                     return FLAG_SCENE_DELETE;
                 }
             default:
@@ -879,7 +907,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
      * any other resource, or else if the resourceType nevertheless matches the thing type, set the thing state offline.
      *
      * @param resourceType the type of the resources in the list.
-     * @param fullResources the full list of resources of the given type.
+     * @param fullResources the list of resources of the given type, which must include any resource of this thing.
      */
     public void onResourcesList(ResourceType resourceType, List<Resource> fullResources) {
         if (SUPPORTED_SCENE_TYPES.contains(resourceType)) {
@@ -1333,6 +1361,8 @@ public class Clip2ThingHandler extends BaseThingHandler {
             commandResourceIds.clear();
             commandResourceIds.putAll(services.stream() // use a 'mergeFunction' to prevent duplicates
                     .collect(Collectors.toMap(ResourceReference::getType, ResourceReference::getId, (r1, r2) -> r1)));
+
+            consumedResourceIdsChanged();
         }
     }
 
@@ -1484,6 +1514,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                         scenes.size());
             }
             updateSceneContributorsDone = true;
+            consumedResourceIdsChanged();
         }
         return updateSceneContributorsDone;
     }
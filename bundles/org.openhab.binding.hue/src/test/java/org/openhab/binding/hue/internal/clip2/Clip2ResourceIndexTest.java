@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.clip2;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.handler.Clip2ResourceIndex;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for {@link Clip2ResourceIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2ResourceIndexTest {
+
+    private static final Gson GSON = new Gson();
+
+    private static Resource createResource(String type, String id) {
+        return Objects.requireNonNull(
+                GSON.fromJson("{\"type\":\"%s\",\"id\":\"%s\"}".formatted(type, id), Resource.class));
+    }
+
+    private static Resource createResource(String type, String id, String referenceName, String referenceId,
+            String referenceType) {
+        return Objects.requireNonNull(GSON.fromJson(
+                "{\"type\":\"%s\",\"id\":\"%s\",\"%s\":{\"rid\":\"%s\",\"rtype\":\"%s\"}}".formatted(type, id,
+                        referenceName, referenceId, referenceType),
+                Resource.class));
+    }
+
+    /**
+     * Resources are delivered only to the consumers that registered their IDs, in their original order.
+     */
+    @Test
+    void routeById() {
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(
+                Map.of("light1", Set.of("device1", "light1"), "light2", Set.of("device2", "light2")));
+
+        Resource light1 = createResource("light", "light1");
+        Resource light2 = createResource("light", "light2");
+        Resource motion = createResource("motion", "motion3");
+        Resource device1 = createResource("device", "device1");
+
+        Map<String, List<Resource>> routed = index.route(List.of(light1, light2, motion, device1));
+
+        assertThat(routed.size(), is(2));
+        assertThat(routed.get("light1"), is(equalTo(List.of(light1, device1))));
+        assertThat(routed.get("light2"), is(equalTo(List.of(light2))));
+    }
+
+    /**
+     * Resources are delivered to the consumers that registered the ID of their owner or group, and a resource matching
+     * a consumer in several ways is delivered to it only once.
+     */
+    @Test
+    void routeByOwnerAndGroup() {
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(
+                Map.of("device", Set.of("device1", "light1"), "room", Set.of("room1")));
+
+        Resource light = createResource("light", "light1", "owner", "device1", "device");
+        Resource newService = createResource("zigbee_connectivity", "zigbee1", "owner", "device1", "device");
+        Resource scene = createResource("scene", "scene1", "group", "room1", "room");
+
+        Map<String, List<Resource>> routed = index.route(List.of(light, newService, scene));
+
+        assertThat(routed.get("device"), is(equalTo(List.of(light, newService))));
+        assertThat(routed.get("room"), is(equalTo(List.of(scene))));
+    }
+
+    /**
+     * A resource ID that is registered by several consumers is delivered to all of them.
+     */
+    @Test
+    void routeToSeveralConsumers() {
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(
+                Map.of("room", Set.of("room1", "grouped1"), "zone", Set.of("zone1", "grouped1")));
+
+        Resource groupedLight = createResource("grouped_light", "grouped1");
+
+        Map<String, List<Resource>> routed = index.route(List.of(groupedLight));
+
+        assertThat(routed.get("room"), is(equalTo(List.of(groupedLight))));
+        assertThat(routed.get("zone"), is(equalTo(List.of(groupedLight))));
+        assertThat(index.size(), is(3));
+    }
+}
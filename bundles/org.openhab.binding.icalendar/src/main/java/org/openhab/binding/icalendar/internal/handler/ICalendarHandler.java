@@ -14,13 +14,17 @@ package org.openhab.binding.icalendar.internal.handler;
 
 import static org.openhab.binding.icalendar.internal.ICalendarBindingConstants.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +82,7 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
     private final TimeZoneProvider tzProvider;
     private @Nullable ScheduledFuture<?> pullJobFuture;
     private @Nullable AbstractPresentableCalendar runtimeCalendar;
+    private byte @Nullable [] runtimeCalendarDigest;
     private @Nullable ScheduledFuture<?> updateJobFuture;
     private Instant updateStatesLastCalledTime;
     private @Nullable Instant calendarDownloadedTime;
@@ -299,6 +304,7 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
     /**
      * Reloads the calendar from local ical-file. Replaces the class internal calendar - if loading succeeds. Else
      * logging details at warn-level logger.
+     * The calendar is only parsed again if the content of the file has changed.
      *
      * @return Whether the calendar was loaded successfully.
      */
@@ -313,12 +319,19 @@ public class ICalendarHandler extends BaseBridgeHandler implements CalendarUpdat
             logger.warn("Can't reload calendar when configuration is missing.");
             return false;
         }
-        try (final FileInputStream fileStream = new FileInputStream(calendarFile)) {
-            final AbstractPresentableCalendar calendar = AbstractPresentableCalendar.create(fileStream);
-            runtimeCalendar = calendar;
+        try {
+            final byte[] content = Files.readAllBytes(calendarFile.toPath());
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            if (runtimeCalendar != null && Arrays.equals(digest, runtimeCalendarDigest)) {
+                // keep the calendar and the occurrences it has already expanded
+                logger.trace("Content of calendar {} is unchanged", getThing().getUID());
+            } else {
+                runtimeCalendar = AbstractPresentableCalendar.create(new ByteArrayInputStream(content));
+                runtimeCalendarDigest = digest;
+            }
             rescheduleCalendarStateUpdate();
             calendarDownloadedTime = Instant.ofEpochMilli(calendarFile.lastModified());
-        } catch (IOException | CalendarException e) {
+        } catch (IOException | CalendarException | NoSuchAlgorithmException e) {
             logger.warn("Loading calendar failed: {}", e.getMessage());
             return false;
         }
@@ -19,6 +19,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
@@ -54,6 +55,11 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  * Implementation of {@link AbstractPresentableCalendar} with ical4j. Please
  * use {@link AbstractPresentableCalendar#create(InputStream)} for productive
  * instantiation.
+ * <p>
+ * The occurrences of all events are expanded once for a time span around the
+ * requested instants into an {@link OccurrenceIndex}, with counter events
+ * already applied. Lookups within that span are answered from the index,
+ * lookups beyond it iterate the recurrences of the events.
  *
  * @author Michael Wodniok - Initial contribution
  * @author Andrew Fiddian-Green - Methods getJustBegunEvents() & getJustEndedEvents()
@@ -66,7 +72,15 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    /** Time the index covers before the earliest instant it is built for */
+    private static final Duration INDEX_LOOKBACK = Duration.ofDays(1);
+    /** Time the index covers after the latest instant it is built for, also the longest frame searched in the index */
+    private static final Duration INDEX_HORIZON = Duration.ofDays(31);
+    /** An index is extended instead of replaced as long as it covers at most this time */
+    private static final Duration MAX_INDEX_SPAN = Duration.ofDays(93);
+
     private final ICalendar usedCalendar;
+    private volatile @Nullable OccurrenceIndex occurrenceIndex;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -102,39 +116,12 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
-        final Collection<VEventWPeriod> candidates = new ArrayList<>();
-        final Collection<VEvent> negativeEvents = new ArrayList<>();
-        final Collection<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
-            }
-            startDates.advanceTo(Date.from(instant));
-            while (startDates.hasNext()) {
-                final Instant startInstant = startDates.next().toInstant();
-                if (startInstant.isAfter(instant)) {
-                    final Uid currentEventUid = currentEvent.getUid();
-                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
-                        candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
-                        break;
-                    }
-                }
-            }
-        }
-        VEventWPeriod earliestNextEvent = null;
-        for (final VEventWPeriod positiveCandidate : candidates) {
-            if (earliestNextEvent == null || earliestNextEvent.start.isAfter(positiveCandidate.start)) {
-                earliestNextEvent = positiveCandidate;
-            }
-        }
-
-        if (earliestNextEvent == null) {
-            return null;
+        VEventWPeriod nextEvent = getOccurrenceIndex(instant, instant).getNext(instant);
+        if (nextEvent == null) {
+            // the next event, if any, starts after the indexed time span
+            nextEvent = searchNextComponentWPeriod(instant);
         }
-        return earliestNextEvent.toEvent();
+        return nextEvent == null ? null : nextEvent.toEvent();
     }
 
     @Override
@@ -210,6 +197,24 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             EventTimeFilter eventTimeFilter) {
+        if (frameEnd.isBefore(frameBegin) || Duration.between(frameBegin, frameEnd).compareTo(INDEX_HORIZON) > 0) {
+            return searchVEventWPeriodsBetween(frameBegin, frameEnd, maximumPerSeries, eventTimeFilter);
+        }
+        return getOccurrenceIndex(frameBegin, frameEnd).getBetween(frameBegin, frameEnd, maximumPerSeries,
+                eventTimeFilter);
+    }
+
+    /**
+     * Finds events which begin in the given frame by iterating the recurrences of all events.
+     *
+     * @param frameBegin Begin of the frame where to search events.
+     * @param frameEnd End of the time frame where to search events.
+     * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
+     * @param eventTimeFilter Strategy that decides which events should be considered in the time frame.
+     * @return All events which begin in the time frame.
+     */
+    private List<VEventWPeriod> searchVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd,
+            int maximumPerSeries, EventTimeFilter eventTimeFilter) {
         final List<VEvent> positiveEvents = new ArrayList<>();
         final List<VEvent> negativeEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -256,6 +261,44 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return eventList;
     }
 
+    /**
+     * Searches the next event after the given instant by iterating the recurrences of all events.
+     *
+     * @param instant The Instant after which the next event should be searched.
+     * @return A VEventWPeriod describing the next event or null if there is none.
+     */
+    private @Nullable VEventWPeriod searchNextComponentWPeriod(Instant instant) {
+        final Collection<VEventWPeriod> candidates = new ArrayList<>();
+        final Collection<VEvent> negativeEvents = new ArrayList<>();
+        final Collection<VEvent> positiveEvents = new ArrayList<>();
+        classifyEvents(positiveEvents, negativeEvents);
+        for (final VEvent currentEvent : positiveEvents) {
+            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
+            final Duration duration = getEventLength(currentEvent);
+            if (duration == null) {
+                continue;
+            }
+            startDates.advanceTo(Date.from(instant));
+            while (startDates.hasNext()) {
+                final Instant startInstant = startDates.next().toInstant();
+                if (startInstant.isAfter(instant)) {
+                    final Uid currentEventUid = currentEvent.getUid();
+                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
+                        candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
+                        break;
+                    }
+                }
+            }
+        }
+        VEventWPeriod earliestNextEvent = null;
+        for (final VEventWPeriod positiveCandidate : candidates) {
+            if (earliestNextEvent == null || earliestNextEvent.start.isAfter(positiveCandidate.start)) {
+                earliestNextEvent = positiveCandidate;
+            }
+        }
+        return earliestNextEvent;
+    }
+
     /**
      * Classifies events into positive and negative ones.
      *
@@ -285,37 +328,79 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<>();
+        return getOccurrenceIndex(instant, instant).getCurrent(instant);
+    }
+
+    /**
+     * Gets an index which covers the given time span, extending or replacing the current one if it does not.
+     *
+     * @param from The begin of the time span.
+     * @param to The end of the time span.
+     * @return The index.
+     */
+    private OccurrenceIndex getOccurrenceIndex(Instant from, Instant to) {
+        OccurrenceIndex index = occurrenceIndex;
+        if (index != null && index.covers(from, to)) {
+            return index;
+        }
+        synchronized (this) {
+            index = occurrenceIndex;
+            if (index != null && index.covers(from, to)) {
+                return index;
+            }
+            Instant begin = from.minus(INDEX_LOOKBACK);
+            Instant end = to.plus(INDEX_HORIZON);
+            if (index != null) {
+                final Instant extendedBegin = index.begin.isBefore(begin) ? index.begin : begin;
+                final Instant extendedEnd = index.end.isAfter(end) ? index.end : end;
+                if (Duration.between(extendedBegin, extendedEnd).compareTo(MAX_INDEX_SPAN) <= 0) {
+                    begin = extendedBegin;
+                    end = extendedEnd;
+                }
+            }
+            index = buildOccurrenceIndex(begin, end);
+            occurrenceIndex = index;
+            return index;
+        }
+    }
+
+    /**
+     * Expands the occurrences of all events which overlap the given time span. Occurrences blocked by counter events
+     * are left out.
+     *
+     * @param begin The begin of the time span.
+     * @param end The end of the time span.
+     * @return The index of the occurrences.
+     */
+    private OccurrenceIndex buildOccurrenceIndex(Instant begin, Instant end) {
         final List<VEvent> positiveEvents = new ArrayList<>();
+        final List<VEvent> negativeEvents = new ArrayList<>();
         classifyEvents(positiveEvents, negativeEvents);
 
-        VEventWPeriod earliestEndingEvent = null;
-
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
-            }
-            startDates.advanceTo(Date.from(instant.minus(duration)));
+        final List<Occurrence> occurrences = new ArrayList<>();
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent positiveEvent = positiveEvents.get(series);
+            final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+            final Duration eventLength = getEventLength(positiveEvent);
+            final Duration duration = eventLength == null ? Duration.ZERO : eventLength;
+            final Uid eventUid = positiveEvent.getUid();
+            startDates.advanceTo(Date.from(begin.minus(duration)));
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
+                if (startInstant.isAfter(end)) {
+                    break;
+                }
                 final Instant endInstant = startInstant.plus(duration);
-                if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
-                    final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
-                        if (earliestEndingEvent == null || endInstant.isBefore(earliestEndingEvent.end)) {
-                            earliestEndingEvent = new VEventWPeriod(currentEvent, startInstant, endInstant);
-                        }
-                    }
+                if (endInstant.isBefore(begin) && startInstant.isBefore(begin)) {
+                    continue;
                 }
-                if (startInstant.isAfter(instant.plus(duration))) {
-                    break;
+                if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
+                    occurrences.add(new Occurrence(new VEventWPeriod(positiveEvent, startInstant, endInstant), series,
+                            duration, eventLength != null));
                 }
             }
         }
-
-        return earliestEndingEvent;
+        return new OccurrenceIndex(begin, end, occurrences);
     }
 
     /**
@@ -432,4 +517,172 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             return new Event(title, start, end, description, location);
         }
     }
+
+    /**
+     * An occurrence of an event.
+     *
+     * @param period The event with start and end of the occurrence.
+     * @param series The position of the event in the list of positive events, for ordering like the iterating
+     *            searches.
+     * @param duration The duration of the occurrence.
+     * @param hasLength Whether the length of the event is known. Occurrences without are neither current nor next
+     *            events.
+     */
+    private record Occurrence(VEventWPeriod period, int series, Duration duration, boolean hasLength) {
+        /**
+         * @return The later of start and end, as the end of malformed events may be before their start.
+         */
+        Instant latest() {
+            return period.end.isAfter(period.start) ? period.end : period.start;
+        }
+    }
+
+    /**
+     * The occurrences of all events overlapping a time span, sorted by start. An implicit binary tree over the sorted
+     * occurrences holds the occurrence with the latest end in each subtree, so that lookups only visit the occurrences
+     * which may overlap the requested instant or frame.
+     */
+    private static class OccurrenceIndex {
+        private static final Comparator<Occurrence> SERIES_ORDER = Comparator.comparingInt(Occurrence::series)
+                .thenComparing(occurrence -> occurrence.period.start);
+
+        final Instant begin;
+        final Instant end;
+        private final Occurrence[] occurrences;
+        private final int[] latestEnds;
+
+        OccurrenceIndex(Instant begin, Instant end, List<Occurrence> occurrences) {
+            this.begin = begin;
+            this.end = end;
+            occurrences.sort(Comparator.comparing((Occurrence occurrence) -> occurrence.period.start)
+                    .thenComparingInt(Occurrence::series));
+            this.occurrences = occurrences.toArray(new Occurrence[0]);
+            this.latestEnds = new int[Math.max(1, 4 * this.occurrences.length)];
+            if (this.occurrences.length > 0) {
+                buildLatestEnds(1, 0, this.occurrences.length);
+            }
+        }
+
+        boolean covers(Instant from, Instant to) {
+            return !from.isBefore(begin) && !to.isAfter(end);
+        }
+
+        /**
+         * @return The occurrence with the earliest end which is active at the given instant, or null if there is
+         *         none.
+         */
+        @Nullable VEventWPeriod getCurrent(Instant instant) {
+            Occurrence current = null;
+            for (final Occurrence candidate : collect(firstStartingAt(instant, false), instant)) {
+                final VEventWPeriod period = candidate.period;
+                if (!candidate.hasLength || !period.start.isBefore(instant) || !period.end.isAfter(instant)) {
+                    continue;
+                }
+                if (current == null || period.end.isBefore(current.period.end)
+                        || (period.end.equals(current.period.end) && SERIES_ORDER.compare(candidate, current) < 0)) {
+                    current = candidate;
+                }
+            }
+            return current == null ? null : current.period;
+        }
+
+        /**
+         * @return The first occurrence starting after the given instant, or null if there is none in the index.
+         */
+        @Nullable VEventWPeriod getNext(Instant instant) {
+            for (int i = firstStartingAt(instant, true); i < occurrences.length; i++) {
+                if (occurrences[i].hasLength) {
+                    return occurrences[i].period;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return The occurrences in the given frame, ordered by series and start.
+         */
+        List<VEventWPeriod> getBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+                EventTimeFilter eventTimeFilter) {
+            final List<Occurrence> candidates = collect(firstStartingAt(frameEnd, true), frameBegin);
+            candidates.sort(SERIES_ORDER);
+            final List<VEventWPeriod> eventList = new ArrayList<>();
+            int series = -1;
+            int foundInSeries = 0;
+            for (final Occurrence candidate : candidates) {
+                final Instant start = candidate.period.start;
+                if (eventTimeFilter.eventAfterFrame(frameEnd, start, candidate.duration)
+                        || eventTimeFilter.eventBeforeFrame(frameBegin, start, candidate.duration)) {
+                    continue;
+                }
+                if (candidate.series != series) {
+                    series = candidate.series;
+                    foundInSeries = 0;
+                }
+                if (maximumPerSeries == 0 || foundInSeries < maximumPerSeries) {
+                    eventList.add(candidate.period);
+                    foundInSeries++;
+                }
+            }
+            return eventList;
+        }
+
+        /**
+         * Binary search for the first occurrence which starts at or after the given instant.
+         *
+         * @param instant The instant to search for.
+         * @param after Whether occurrences starting exactly at the instant should be skipped.
+         * @return The position of the occurrence, the number of occurrences if there is none.
+         */
+        private int firstStartingAt(Instant instant, boolean after) {
+            int low = 0;
+            int high = occurrences.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                final int comparison = occurrences[middle].period.start.compareTo(instant);
+                if (comparison < 0 || (after && comparison == 0)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Collects the occurrences before the given position which do not end before the given instant.
+         */
+        private List<Occurrence> collect(int toPosition, Instant minimumEnd) {
+            final List<Occurrence> result = new ArrayList<>();
+            if (occurrences.length > 0) {
+                collect(1, 0, occurrences.length, toPosition, minimumEnd, result);
+            }
+            return result;
+        }
+
+        private void collect(int node, int from, int to, int toPosition, Instant minimumEnd,
+                List<Occurrence> result) {
+            if (from >= toPosition || occurrences[latestEnds[node]].latest().isBefore(minimumEnd)) {
+                return;
+            }
+            if (to - from == 1) {
+                result.add(occurrences[from]);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            collect(2 * node, from, middle, toPosition, minimumEnd, result);
+            collect(2 * node + 1, middle, to, toPosition, minimumEnd, result);
+        }
+
+        private int buildLatestEnds(int node, int from, int to) {
+            int latest = from;
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                final int left = buildLatestEnds(2 * node, from, middle);
+                final int right = buildLatestEnds(2 * node + 1, middle, to);
+                latest = occurrences[right].latest().isAfter(occurrences[left].latest()) ? right : left;
+            }
+            latestEnds[node] = latest;
+            return latest;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -657,6 +658,35 @@ public class BiweeklyPresentableCalendarTest {
         assertEquals(0, realFilteredEvents9.size());
     }
 
+    /**
+     * Tests that lookups in the occurrence index give the same results as iterating the recurrences, which is done for
+     * frames longer than the indexed time span and for next events beyond it.
+     */
+    @Test
+    public void testIndexedLookupsMatchIteratedLookups() {
+        Instant begin = Instant.parse("2019-11-01T00:00:00Z");
+        Instant middle = Instant.parse("2019-12-01T00:00:00Z");
+        Instant end = Instant.parse("2019-12-31T00:00:00Z");
+        List<Event> iteratedEvents = calendar2.getFilteredEventsBetween(begin, end, null, 100);
+        List<Event> indexedEvents = new ArrayList<>(calendar2.getFilteredEventsBetween(begin, middle, null, 100));
+        indexedEvents.addAll(calendar2.getFilteredEventsBetween(middle, end, null, 100));
+        assertEquals(iteratedEvents, indexedEvents);
+
+        // the cancelled occurrence is missing in both
+        assertFalse(calendar2.isEventPresent(Instant.parse("2019-11-24T10:01:00Z")));
+        assertEquals(0, indexedEvents.stream().filter(e -> e.start.equals(Instant.parse("2019-11-24T10:00:00Z")))
+                .count());
+
+        // next event beyond the indexed time span, excluded dates are skipped
+        Event nextEvent = calendar.getNextEvent(Instant.parse("2019-06-01T00:00:00Z"));
+        assertNotNull(nextEvent);
+        assertEquals("Test Series in UTC", nextEvent.title);
+        assertEquals(Instant.parse("2019-09-08T09:05:00Z"), nextEvent.start);
+        Event nextEventAfterExcluded = calendar.getNextEvent(Instant.parse("2019-09-08T10:00:00Z"));
+        assertNotNull(nextEventAfterExcluded);
+        assertEquals(Instant.parse("2019-09-10T09:05:00Z"), nextEventAfterExcluded.start);
+    }
+
     /**
      * Tests location field extraction from events.
      */
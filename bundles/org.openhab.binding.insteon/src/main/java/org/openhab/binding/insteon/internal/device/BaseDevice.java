@@ -57,6 +57,7 @@ public abstract class BaseDevice<@NonNull T extends DeviceAddress, @NonNull S ex
     private @Nullable ProductData productData;
     private DeviceStatus status = DeviceStatus.INITIALIZED;
     private Map<String, DeviceFeature> features = new LinkedHashMap<>();
+    private volatile List<DeviceFeature> featureList = List.of();
     private Map<String, Boolean> flags = new HashMap<>();
     private Queue<DeviceRequest> requestQueue = new PriorityQueue<>();
     private Map<Msg, DeviceRequest> requestQueueHash = new HashMap<>();
@@ -97,9 +98,7 @@ public abstract class BaseDevice<@NonNull T extends DeviceAddress, @NonNull S ex
 
     @Override
     public List<DeviceFeature> getFeatures() {
-        synchronized (features) {
-            return features.values().stream().toList();
-        }
+        return featureList;
     }
 
     @Override
@@ -360,6 +359,8 @@ public abstract class BaseDevice<@NonNull T extends DeviceAddress, @NonNull S ex
     private void addFeature(DeviceFeature feature) {
         synchronized (features) {
             features.put(feature.getName(), feature);
+            // keep an immutable copy for message dispatching, features are only added when the device type is set
+            featureList = List.copyOf(features.values());
         }
     }
 
@@ -105,6 +105,7 @@ public class DeviceFeature {
 
     private Map<String, String> parameters = new HashMap<>();
     private Map<String, MessageHandler> msgHandlers = new HashMap<>();
+    private volatile Map<Long, MessageHandler> msgHandlerTable = Map.of();
     private Map<String, CommandHandler> commandHandlers = new HashMap<>();
     private List<DeviceFeature> connectedFeatures = new ArrayList<>();
     private Set<FeatureListener> listeners = new CopyOnWriteArraySet<>();
@@ -255,15 +256,11 @@ public class DeviceFeature {
     }
 
     public @Nullable MessageHandler getMsgHandler(int command, int group) {
-        synchronized (msgHandlers) {
-            return msgHandlers.get(MessageHandler.generateId(command, group));
-        }
+        return msgHandlerTable.get(MessageHandler.generateKey(command, group));
     }
 
     public MessageHandler getOrDefaultMsgHandler(int command, int group) {
-        synchronized (msgHandlers) {
-            return msgHandlers.getOrDefault(MessageHandler.generateId(command, group), defaultMsgHandler);
-        }
+        return msgHandlerTable.getOrDefault(MessageHandler.generateKey(command, group), defaultMsgHandler);
     }
 
     public MessageHandler getOrDefaultMsgHandler(int command) {
@@ -374,6 +371,8 @@ public class DeviceFeature {
         synchronized (msgHandlers) {
             if (msgHandlers.putIfAbsent(key, handler) != null) {
                 logger.warn("{}: ignoring duplicate message handler: {}->{}", type, key, handler);
+            } else {
+                updateMessageHandlerTable();
             }
         }
     }
@@ -393,7 +392,22 @@ public class DeviceFeature {
                         .collect(Collectors.toMap(MessageHandler::getId, Function.identity()));
                 msgHandlers.clear();
                 msgHandlers.putAll(handlers);
+                updateMessageHandlerTable();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the message handler dispatch table, keyed by command and group, from the registered handlers.
+     * Incoming messages are looked up in that table without locking or building a handler id.
+     */
+    private void updateMessageHandlerTable() {
+        synchronized (msgHandlers) {
+            Map<Long, MessageHandler> table = new HashMap<>();
+            for (MessageHandler handler : msgHandlers.values()) {
+                table.putIfAbsent(handler.getKey(), handler);
             }
+            msgHandlerTable = Map.copyOf(table);
         }
     }
 
@@ -426,8 +426,9 @@ public class InsteonDevice extends BaseDevice<InsteonAddress, InsteonDeviceHandl
         if (!msg.isFailureReport() && msg.getTimestamp() > lastMsgReceived) {
             lastMsgReceived = msg.getTimestamp();
         }
+        List<DeviceFeature> features = getFeatures();
         // store message if no feature defined
-        if (!hasFeatures()) {
+        if (features.isEmpty()) {
             logger.debug("storing message for unknown device {}", address);
 
             synchronized (storedMessages) {
@@ -437,7 +438,7 @@ public class InsteonDevice extends BaseDevice<InsteonAddress, InsteonDeviceHandl
         }
         // handle message depending if failure report or not
         if (msg.isFailureReport()) {
-            getFeatures().stream().filter(feature -> feature.isMyDirectAckOrNack(msg)).findFirst()
+            features.stream().filter(feature -> feature.isMyDirectAckOrNack(msg)).findFirst()
                     .ifPresent(feature -> {
                         logger.debug("got a failure report reply of direct for {}", feature.getName());
                         // notify feature queried failed
@@ -445,7 +446,7 @@ public class InsteonDevice extends BaseDevice<InsteonAddress, InsteonDeviceHandl
                     });
         } else {
             // update non-status features
-            getFeatures().stream().filter(feature -> !feature.isStatusFeature() && feature.handleMessage(msg))
+            features.stream().filter(feature -> !feature.isStatusFeature() && feature.handleMessage(msg))
                     .findFirst().ifPresent(feature -> {
                         logger.trace("handled reply of direct for {}", feature.getName());
                         // notify feature queried was answered
@@ -454,8 +455,7 @@ public class InsteonDevice extends BaseDevice<InsteonAddress, InsteonDeviceHandl
                         resetResponseTimeout();
                     });
             // update all status features (e.g. device last update time)
-            getFeatures().stream().filter(DeviceFeature::isStatusFeature)
-                    .forEach(feature -> feature.handleMessage(msg));
+            features.stream().filter(DeviceFeature::isStatusFeature).forEach(feature -> feature.handleMessage(msg));
         }
         // poll battery powered device while awake if non-duplicate all link or broadcast message
         if ((msg.isAllLinkBroadcastOrCleanup() || msg.isBroadcast()) && isBatteryPowered() && isAwake()
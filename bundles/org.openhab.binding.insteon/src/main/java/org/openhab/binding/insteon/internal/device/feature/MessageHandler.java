@@ -101,6 +101,17 @@ public abstract class MessageHandler extends BaseFeatureHandler {
         return MessageHandler.generateId(command, group);
     }
 
+    /**
+     * Returns handler dispatch key
+     *
+     * @return handler dispatch key based on command and group parameters
+     */
+    public long getKey() {
+        int command = getParameterAsInteger("command", -1);
+        int group = getGroup();
+        return MessageHandler.generateKey(command, group);
+    }
+
     /**
      * Returns handler group
      *
@@ -2066,6 +2077,20 @@ public abstract class MessageHandler extends BaseFeatureHandler {
         return id;
     }
 
+    /**
+     * Factory method for generating a message handler dispatch key
+     *
+     * @param command the handler command
+     * @param group the handler group
+     * @return the generated handler dispatch key, matching the same handlers as the id
+     */
+    public static long generateKey(int command, int group) {
+        if (command == -1) {
+            return -1L;
+        }
+        return ((long) command << 32) | (group & 0xFFFFFFFFL);
+    }
+
     /**
      * Factory method for creating a default message handler
      *
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.logreader.internal.filereader.FileTailerRegistry;
+import org.openhab.binding.logreader.internal.filereader.FileTailerRegistry.Statistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link LogReaderCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class LogReaderCommandExtension extends AbstractConsoleCommandExtension {
+    private static final String STATISTICS = "statistics";
+
+    private final FileTailerRegistry fileTailerRegistry;
+
+    @Activate
+    public LogReaderCommandExtension(final @Reference FileTailerRegistry fileTailerRegistry) {
+        super("logreader", "Interact with the Log Reader binding.");
+        this.fileTailerRegistry = fileTailerRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && STATISTICS.equals(args[0])) {
+            List<Statistics> statistics = fileTailerRegistry.getStatistics();
+            if (statistics.isEmpty()) {
+                console.println("No log files are read.");
+            }
+            for (Statistics fileStatistics : statistics) {
+                console.println(fileStatistics.filePath());
+                console.println("  Readers:                      " + fileStatistics.readers());
+                console.println("  Refresh rate (ms):            " + fileStatistics.refreshRate());
+                console.println("  Lines read:                   " + fileStatistics.lines());
+                console.println(String.format("  Lines per second:             %.2f", fileStatistics.linesPerSecond()));
+                console.println("  Average processing time (ns): " + fileStatistics.averageProcessingNanos());
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(STATISTICS, "show the statistics of the log files read"));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link FileTailerRegistry} shares one {@link FileTailer} between all readers of the same file.
+ * <p>
+ * The readers created by {@link #createReader()} attach to the tailer of their file when they are started and detach
+ * when they are stopped. The tailer is started with the first reader of a file and stopped with the last one. It
+ * reads the file with the shortest refresh rate of its readers and is restarted when that changes. It counts the lines
+ * read and the time the readers need to process them.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = FileTailerRegistry.class)
+@NonNullByDefault
+public class FileTailerRegistry {
+    private final Logger logger = LoggerFactory.getLogger(FileTailerRegistry.class);
+
+    /* All access must be guarded by "this" */
+    private final Map<String, SharedTailer> tailers = new HashMap<>();
+
+    /**
+     * Create a reader which uses the shared tailer of the file it is started for.
+     *
+     * @return the reader.
+     */
+    public LogFileReader createReader() {
+        return new SharedReader();
+    }
+
+    /**
+     * Get the statistics of all tailed files.
+     *
+     * @return the statistics, one per file.
+     */
+    public synchronized List<Statistics> getStatistics() {
+        List<Statistics> statistics = new ArrayList<>(tailers.size());
+        for (SharedTailer tailer : tailers.values()) {
+            statistics.add(tailer.getStatistics());
+        }
+        return statistics;
+    }
+
+    @Deactivate
+    public synchronized void deactivate() {
+        for (SharedTailer tailer : tailers.values()) {
+            tailer.stop();
+            tailer.readers.forEach(reader -> reader.tailer = null);
+        }
+        tailers.clear();
+    }
+
+    private synchronized void attach(SharedReader reader, String filePath, long refreshRate)
+            throws FileReaderException {
+        detach(reader);
+        String key = new File(filePath).getAbsoluteFile().toPath().normalize().toString();
+        SharedTailer tailer = tailers.get(key);
+        if (tailer == null) {
+            tailer = new SharedTailer(key);
+            tailer.start(refreshRate);
+            tailers.put(key, tailer);
+        }
+        reader.refreshRate = refreshRate;
+        tailer.readers.add(reader);
+        reader.tailer = tailer;
+        updateRefreshRate(tailer);
+    }
+
+    private synchronized void detach(SharedReader reader) {
+        SharedTailer tailer = reader.tailer;
+        if (tailer == null) {
+            return;
+        }
+        reader.tailer = null;
+        tailer.readers.remove(reader);
+        if (tailer.readers.isEmpty()) {
+            if (tailers.remove(tailer.filePath, tailer)) {
+                logger.debug("Last reader of file '{}' detached", tailer.filePath);
+                tailer.stop();
+            }
+        } else {
+            try {
+                updateRefreshRate(tailer);
+            } catch (FileReaderException e) {
+                tailer.handle(e);
+            }
+        }
+    }
+
+    private void updateRefreshRate(SharedTailer tailer) throws FileReaderException {
+        long refreshRate = tailer.readers.stream().mapToLong(reader -> reader.refreshRate).min()
+                .orElse(tailer.refreshRate);
+        if (refreshRate != tailer.refreshRate) {
+            logger.debug("Reading file '{}' every {} ms instead of every {} ms", tailer.filePath, refreshRate,
+                    tailer.refreshRate);
+            tailer.stop();
+            tailer.start(refreshRate);
+        }
+    }
+
+    /**
+     * The statistics of a tailed file.
+     *
+     * @param filePath the absolute path of the file.
+     * @param readers the number of readers attached to the file.
+     * @param refreshRate the refresh rate in milliseconds the file is read with.
+     * @param lines the number of lines read since the tailer was started.
+     * @param linesPerSecond the average number of lines read per second.
+     * @param averageProcessingNanos the average time all readers needed to process a line.
+     */
+    public record Statistics(String filePath, int readers, long refreshRate, long lines, double linesPerSecond,
+            long averageProcessingNanos) {
+    }
+
+    private class SharedReader extends AbstractLogFileReader {
+        /* All access must be guarded by the registry */
+        private @Nullable SharedTailer tailer;
+        /* All access must be guarded by the registry */
+        private long refreshRate;
+
+        @Override
+        public void start(String filePath, long refreshRate) throws FileReaderException {
+            try {
+                attach(this, filePath, refreshRate);
+            } catch (RuntimeException e) {
+                throw new FileReaderException(e);
+            }
+        }
+
+        @Override
+        public void stop() {
+            detach(this);
+        }
+    }
+
+    private static class SharedTailer implements FileReaderListener {
+        private final String filePath;
+        /* All access must be guarded by the registry */
+        private long refreshRate;
+        private final FileTailer fileTailer = new FileTailer();
+        private final List<SharedReader> readers = new CopyOnWriteArrayList<>();
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder processingNanos = new LongAdder();
+        private final long startNanos = System.nanoTime();
+
+        private SharedTailer(String filePath) {
+            this.filePath = filePath;
+        }
+
+        private void start(long refreshRate) throws FileReaderException {
+            this.refreshRate = refreshRate;
+            fileTailer.registerListener(this);
+            fileTailer.start(filePath, refreshRate);
+        }
+
+        private void stop() {
+            fileTailer.unregisterListener(this);
+            fileTailer.stop();
+        }
+
+        private Statistics getStatistics() {
+            long count = lines.sum();
+            double seconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            return new Statistics(filePath, readers.size(), refreshRate, count, seconds > 0 ? count / seconds : 0,
+                    count == 0 ? 0 : processingNanos.sum() / count);
+        }
+
+        @Override
+        public void fileNotFound() {
+            for (SharedReader reader : readers) {
+                reader.sendFileNotFoundToListeners();
+            }
+        }
+
+        @Override
+        public void fileRotated() {
+            for (SharedReader reader : readers) {
+                reader.sendFileRotationToListeners();
+            }
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (SharedReader reader : readers) {
+                reader.sendLineToListeners(line);
+            }
+            processingNanos.add(System.nanoTime() - start);
+            lines.increment();
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            if (ex == null) {
+                return;
+            }
+            for (SharedReader reader : readers) {
+                reader.sendExceptionToListeners(ex);
+            }
+        }
+    }
+}
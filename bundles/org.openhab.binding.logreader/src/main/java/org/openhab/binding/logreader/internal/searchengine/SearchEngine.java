@@ -14,7 +14,6 @@ package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -23,14 +22,19 @@ import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * This class implements logic for regular expression based searching.
+ * <p>
+ * Most log lines match none of the patterns. Therefore the literal text a pattern starts with, if any, is extracted
+ * when it is compiled and a line is only handed to the regular expression if it contains that text.
  *
  * @author Pauli Anttila - Initial contribution
+ * @author agent - Literal prefilter
  */
 @NonNullByDefault
 public class SearchEngine {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private List<SearchPattern> matchers;
+    private List<SearchPattern> blacklistingMatchers;
 
     private long matchCount;
 
@@ -80,32 +84,55 @@ public class SearchEngine {
      * @param patterns patterns which will handled.
      * @return list of precompiled patterns. If pattern parameter is null, empty list is returned.
      */
-    private List<Pattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
-        List<Pattern> patternsList = new ArrayList<>();
+    private List<SearchPattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
+        List<SearchPattern> patternsList = new ArrayList<>();
         if (patterns != null && !patterns.isEmpty()) {
             String[] list = patterns.split("\\|");
             if (list.length > 0) {
                 for (String patternStr : list) {
-                    patternsList.add(Pattern.compile(patternStr));
+                    patternsList.add(new SearchPattern(Pattern.compile(patternStr), requiredLiteral(patternStr)));
                 }
             }
         }
         return patternsList;
     }
 
+    /**
+     * Get the literal text every match of a pattern starts with.
+     *
+     * @param pattern the pattern.
+     * @return the literal text, or an empty string if the pattern does not start with one.
+     */
+    static String requiredLiteral(String pattern) {
+        int end = 0;
+        while (end < pattern.length() && META_CHARACTERS.indexOf(pattern.charAt(end)) < 0) {
+            end++;
+        }
+        if (end > 0 && end < pattern.length() && "?*{".indexOf(pattern.charAt(end)) >= 0) {
+            // the last character is optional
+            end--;
+        }
+        return pattern.substring(0, end);
+    }
+
     private boolean notBlacklisted(String data) {
         return !isMatching(blacklistingMatchers, data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
+    private boolean isMatching(@Nullable List<SearchPattern> patterns, String data) {
         if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
+            for (SearchPattern pattern : patterns) {
+                if (pattern.find(data)) {
                     return true;
                 }
             }
         }
         return false;
     }
+
+    private record SearchPattern(Pattern pattern, String literal) {
+        private boolean find(String data) {
+            return (literal.isEmpty() || data.contains(literal)) && pattern.matcher(data).find();
+        }
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.FileTailerRegistry.Statistics;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+
+/**
+ * Tests how the readers of the {@link FileTailerRegistry} share the tailer of a file.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerRegistryTest {
+
+    private final FileTailerRegistry registry = new FileTailerRegistry();
+    private @TempDir @Nullable Path tempDir;
+    private @Nullable Path logFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path logFile = getTempDir().resolve("openhab.log");
+        Files.createFile(logFile);
+        this.logFile = logFile;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.deactivate();
+    }
+
+    @Test
+    public void readersOfTheSameFileShareOneTailer() throws FileReaderException {
+        LogFileReader first = registry.createReader();
+        LogFileReader second = registry.createReader();
+        LogFileReader other = registry.createReader();
+
+        first.start(getLogFile().toString(), 100);
+        second.start(getTempDir().resolve(".").resolve("openhab.log").toString(), 100);
+        other.start(getTempDir().resolve("events.log").toString(), 100);
+
+        List<Statistics> statistics = registry.getStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals(2, getStatistics(getLogFile()).readers());
+        assertEquals(1, getStatistics(getTempDir().resolve("events.log")).readers());
+    }
+
+    @Test
+    public void tailerIsStoppedWithTheLastReader() throws FileReaderException {
+        LogFileReader first = registry.createReader();
+        LogFileReader second = registry.createReader();
+        first.start(getLogFile().toString(), 100);
+        second.start(getLogFile().toString(), 100);
+
+        first.stop();
+        assertEquals(1, getStatistics(getLogFile()).readers());
+
+        // stopping a reader twice must not detach another reader
+        first.stop();
+        assertEquals(1, getStatistics(getLogFile()).readers());
+
+        second.stop();
+        assertTrue(registry.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void readerCanBeStartedAgain() throws FileReaderException {
+        LogFileReader reader = registry.createReader();
+        reader.start(getLogFile().toString(), 100);
+        reader.start(getLogFile().toString(), 100);
+
+        assertEquals(1, getStatistics(getLogFile()).readers());
+
+        reader.stop();
+        reader.start(getLogFile().toString(), 100);
+
+        assertEquals(1, getStatistics(getLogFile()).readers());
+    }
+
+    @Test
+    public void fileIsReadWithTheShortestRefreshRate() throws FileReaderException {
+        LogFileReader slow = registry.createReader();
+        LogFileReader fast = registry.createReader();
+
+        slow.start(getLogFile().toString(), 1000);
+        assertEquals(1000, getStatistics(getLogFile()).refreshRate());
+
+        fast.start(getLogFile().toString(), 200);
+        assertEquals(200, getStatistics(getLogFile()).refreshRate());
+
+        fast.stop();
+        assertEquals(1000, getStatistics(getLogFile()).refreshRate());
+
+        // the last reader is started again with another refresh rate
+        slow.start(getLogFile().toString(), 500);
+        assertEquals(500, getStatistics(getLogFile()).refreshRate());
+        assertEquals(1, getStatistics(getLogFile()).readers());
+    }
+
+    @Test
+    public void linesAreSentToAllReaders() throws FileReaderException, IOException, InterruptedException {
+        LogFileReader first = registry.createReader();
+        LogFileReader second = registry.createReader();
+        BlockingQueue<String> firstLines = new LinkedBlockingQueue<>();
+        BlockingQueue<String> secondLines = new LinkedBlockingQueue<>();
+        first.registerListener(new LineListener(firstLines));
+        second.registerListener(new LineListener(secondLines));
+        first.start(getLogFile().toString(), 50);
+        second.start(getLogFile().toString(), 50);
+
+        // the tailer starts at the end of the file, so lines are appended until it has read one
+        String line = null;
+        for (int i = 0; i < 100 && line == null; i++) {
+            Files.writeString(getLogFile(), "line " + i + "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            line = firstLines.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertNotNull(line);
+        assertEquals(line, secondLines.poll(5, TimeUnit.SECONDS));
+        assertTrue(getStatistics(getLogFile()).lines() > 0);
+    }
+
+    private Statistics getStatistics(Path file) {
+        String filePath = file.toAbsolutePath().normalize().toString();
+        return registry.getStatistics().stream().filter(statistics -> statistics.filePath().equals(filePath))
+                .findAny().orElseThrow();
+    }
+
+    private Path getTempDir() {
+        Path tempDir = this.tempDir;
+        assertNotNull(tempDir);
+        return tempDir;
+    }
+
+    private Path getLogFile() {
+        Path logFile = this.logFile;
+        assertNotNull(logFile);
+        return logFile;
+    }
+
+    private static class LineListener implements FileReaderListener {
+        private final BlockingQueue<String> lines;
+
+        private LineListener(BlockingQueue<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public void fileNotFound() {
+        }
+
+        @Override
+        public void fileRotated() {
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+        }
+    }
+}
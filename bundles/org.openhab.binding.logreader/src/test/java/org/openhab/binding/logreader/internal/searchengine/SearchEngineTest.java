@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests the {@link SearchEngine}, in particular that the literal prefilter never hides a match of a pattern.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+
+    private static Stream<Arguments> requiredLiterals() {
+        return Stream.of( //
+                Arguments.of("ERROR", "ERROR"), //
+                Arguments.of("ab?", "a"), //
+                Arguments.of("ab*", "a"), //
+                Arguments.of("ab{0,1}", "a"), //
+                Arguments.of("ab+", "ab"), //
+                Arguments.of("abc.d", "abc"), //
+                Arguments.of("\\d+ errors", ""), //
+                Arguments.of("a\\.b", "a"), //
+                Arguments.of("(?i)error", ""), //
+                Arguments.of("(WARN|ERROR)", ""), //
+                Arguments.of("[Ee]rror", ""), //
+                Arguments.of("^ERROR", ""), //
+                Arguments.of("x{0}y", "")); //
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void requiredLiterals(String pattern, String literal) {
+        assertEquals(literal, SearchEngine.requiredLiteral(pattern));
+    }
+
+    private static Stream<Arguments> matches() {
+        return Stream.of( //
+                Arguments.of("ab?c", "xacx", true), //
+                Arguments.of("ab?c", "xabcx", true), //
+                Arguments.of("ab*c", "ac", true), //
+                Arguments.of("ab*c", "abbbc", true), //
+                Arguments.of("ab{0,1}c", "ac", true), //
+                Arguments.of("ab{0,1}c", "abbc", false), //
+                Arguments.of("\\d+ errors", "found 12 errors", true), //
+                Arguments.of("\\d+ errors", "found no errors", false), //
+                Arguments.of("a\\.b", "a.b", true), //
+                Arguments.of("a\\.b", "axb", false), //
+                Arguments.of("(?i)error", "An Error occurred", true), //
+                Arguments.of("(?i)error", "all fine", false), //
+                Arguments.of("(err)+or", "an error", true), //
+                Arguments.of("[Ee]rror", "Error", true), //
+                Arguments.of("[Ee]rror", "ERROR", false), //
+                Arguments.of("^ERROR", "ERROR at start", true), //
+                Arguments.of("^ERROR", "not an ERROR at start", false), //
+                Arguments.of("x{0}y", "y", true)); //
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void matches(String pattern, String line, boolean matching) {
+        assertEquals(matching, new SearchEngine(pattern, null).isMatching(line));
+    }
+
+    @Test
+    public void severalPatterns() {
+        SearchEngine searchEngine = new SearchEngine("ERROR|WARN", null);
+
+        assertTrue(searchEngine.isMatching("2026-01-01 [ERROR] failed"));
+        assertTrue(searchEngine.isMatching("2026-01-01 [WARN ] slow"));
+        assertFalse(searchEngine.isMatching("2026-01-01 [INFO ] started"));
+        assertEquals(2, searchEngine.getMatchCount());
+    }
+
+    private static Stream<Arguments> blacklist() {
+        return Stream.of( //
+                Arguments.of(null, "ERROR in binding", true), //
+                Arguments.of("", "ERROR in binding", true), //
+                Arguments.of("binding", "ERROR in binding", false), //
+                Arguments.of("(?i)BINDING", "ERROR in binding", false), //
+                Arguments.of("bind?ing|\\d{3}", "ERROR 404", false), //
+                Arguments.of("bind?ing|\\d{3}", "ERROR 42", true)); //
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void blacklist(@Nullable String blacklistingPatterns, String line, boolean matching) {
+        SearchEngine searchEngine = new SearchEngine("ERROR", blacklistingPatterns);
+
+        assertEquals(matching, searchEngine.isMatching(line));
+        assertEquals(matching ? 1 : 0, searchEngine.getMatchCount());
+    }
+}
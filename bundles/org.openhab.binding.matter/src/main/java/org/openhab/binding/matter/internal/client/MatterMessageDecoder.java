@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.matter.internal.client.dto.Node;
+import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventTriggered;
+import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.OtaUpdateAvailableMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.Response;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Decodes the messages sent by the Matter server in a single pass.
+ *
+ * The server writes the type discriminators before the payloads, so the envelope is read as a stream and the payload
+ * is bound straight to its DTO, without building an intermediate tree of the whole message. Should a payload ever
+ * come before its discriminator, it is kept as a tree and bound once the type is known.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MatterMessageDecoder {
+
+    public static final String TYPE_RESPONSE = "response";
+    public static final String TYPE_EVENT = "event";
+
+    private final Gson gson;
+
+    public MatterMessageDecoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * A decoded message.
+     *
+     * @param type the message type, {@link #TYPE_RESPONSE} or {@link #TYPE_EVENT}
+     * @param eventType the event type for events, otherwise null
+     * @param payload the payload bound to its DTO, null for events without payload or of unknown type
+     */
+    public record DecodedMessage(String type, @Nullable String eventType, @Nullable Object payload) {
+    }
+
+    /**
+     * Decode a message
+     *
+     * @param text the websocket text frame
+     * @return the decoded message, or null if the message has no type
+     * @throws JsonParseException if the message is not valid JSON or does not match the DTO
+     */
+    public @Nullable DecodedMessage decode(String text) throws JsonParseException {
+        try (JsonReader reader = new JsonReader(new StringReader(text))) {
+            String type = null;
+            JsonElement bufferedMessage = null;
+            DecodedMessage decoded = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "type":
+                        type = nextStringOrNull(reader);
+                        break;
+                    case "message":
+                        if (type != null) {
+                            decoded = readMessage(reader, type);
+                        } else {
+                            bufferedMessage = JsonParser.parseReader(reader);
+                        }
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (type == null) {
+                return null;
+            }
+            if (decoded == null && bufferedMessage instanceof JsonObject messageObject) {
+                decoded = bindMessage(messageObject, type);
+            }
+            return decoded != null ? decoded : new DecodedMessage(type, null, null);
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private DecodedMessage readMessage(JsonReader reader, String type) throws IOException {
+        if (TYPE_RESPONSE.equals(type)) {
+            return new DecodedMessage(type, null, gson.fromJson(reader, Response.class));
+        }
+        if (!TYPE_EVENT.equals(type)) {
+            reader.skipValue();
+            return new DecodedMessage(type, null, null);
+        }
+
+        String eventType = null;
+        JsonElement bufferedData = null;
+        Object payload = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type":
+                    eventType = nextStringOrNull(reader);
+                    break;
+                case "data":
+                    if (eventType != null) {
+                        payload = readEventData(reader, eventType);
+                    } else {
+                        bufferedData = JsonParser.parseReader(reader);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (eventType != null && payload == null && bufferedData != null) {
+            payload = bindEventData(bufferedData, eventType);
+        }
+        return new DecodedMessage(type, eventType, payload);
+    }
+
+    private DecodedMessage bindMessage(JsonObject message, String type) {
+        if (TYPE_RESPONSE.equals(type)) {
+            return new DecodedMessage(type, null, gson.fromJson(message, Response.class));
+        }
+        JsonElement eventTypeElement = message.get("type");
+        if (!TYPE_EVENT.equals(type) || eventTypeElement == null || !eventTypeElement.isJsonPrimitive()) {
+            return new DecodedMessage(type, null, null);
+        }
+        String eventType = eventTypeElement.getAsString();
+        JsonElement data = message.get("data");
+        return new DecodedMessage(type, eventType, data != null ? bindEventData(data, eventType) : null);
+    }
+
+    private @Nullable Object readEventData(JsonReader reader, String eventType) throws IOException {
+        switch (eventType) {
+            case "attributeChanged":
+                return gson.fromJson(reader, AttributeChangedMessage.class);
+            case "eventTriggered":
+                return gson.fromJson(reader, EventTriggeredMessage.class);
+            case "nodeStateInformation":
+                return gson.fromJson(reader, NodeStateMessage.class);
+            case "nodeData":
+                Node node = gson.fromJson(reader, Node.class);
+                return node != null ? new NodeDataMessage(node) : null;
+            case "updateAvailable":
+                return gson.fromJson(reader, OtaUpdateAvailableMessage.class);
+            case "bridgeEvent":
+                // the subtype is only known from the type field inside the data
+                return bindBridgeEvent(JsonParser.parseReader(reader));
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    private @Nullable Object bindEventData(JsonElement data, String eventType) {
+        switch (eventType) {
+            case "attributeChanged":
+                return gson.fromJson(data, AttributeChangedMessage.class);
+            case "eventTriggered":
+                return gson.fromJson(data, EventTriggeredMessage.class);
+            case "nodeStateInformation":
+                return gson.fromJson(data, NodeStateMessage.class);
+            case "nodeData":
+                Node node = gson.fromJson(data, Node.class);
+                return node != null ? new NodeDataMessage(node) : null;
+            case "updateAvailable":
+                return gson.fromJson(data, OtaUpdateAvailableMessage.class);
+            case "bridgeEvent":
+                return bindBridgeEvent(data);
+            default:
+                return null;
+        }
+    }
+
+    private @Nullable BridgeEventMessage bindBridgeEvent(JsonElement data) {
+        if (!(data instanceof JsonObject dataObject)) {
+            return null;
+        }
+        JsonElement typeElement = dataObject.get("type");
+        String bridgeEventType = typeElement != null && typeElement.isJsonPrimitive() ? typeElement.getAsString()
+                : "";
+        switch (bridgeEventType) {
+            case "attributeChanged":
+                return gson.fromJson(data, BridgeEventAttributeChanged.class);
+            case "eventTriggered":
+                return gson.fromJson(data, BridgeEventTriggered.class);
+            default:
+                return gson.fromJson(data, BridgeEventMessage.class);
+        }
+    }
+
+    private static @Nullable String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
@@ -41,18 +41,15 @@ import org.eclipse.jetty.websocket.api.WebSocketListener;
 import org.eclipse.jetty.websocket.api.WebSocketPolicy;
 import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.matter.internal.client.MatterMessageDecoder.DecodedMessage;
 import org.openhab.binding.matter.internal.client.dto.Endpoint;
 import org.openhab.binding.matter.internal.client.dto.Node;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster.OctetString;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.ClusterRegistry;
 import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventTriggered;
-import org.openhab.binding.matter.internal.client.dto.ws.Event;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.OtaUpdateAvailableMessage;
@@ -83,6 +80,7 @@ import com.google.gson.reflect.TypeToken;
  * A client for the Matter WebSocket API for communicating with a Matter controller
  *
  * @author Dan Cunningham - Initial contribution
+ * @author agent - Single pass message decoding
  */
 @NonNullByDefault
 public class MatterWebsocketClient implements WebSocketListener, MatterWebsocketService.NodeProcessListener {
@@ -105,6 +103,8 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             .registerTypeAdapter(OctetString.class, new OctetStringDeserializer())
             .registerTypeAdapter(OctetString.class, new OctetStringSerializer()).create();
 
+    private final MatterMessageDecoder decoder = new MatterMessageDecoder(gson);
+
     protected final WebSocketClient client = new WebSocketClient();
     protected final ConcurrentHashMap<String, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<MatterClientListener> clientListeners = new CopyOnWriteArrayList<>();
@@ -246,15 +246,23 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     @Override
     public void onWebSocketText(@Nullable String msg) {
         logger.debug("onWebSocketText {}", msg);
+        if (msg == null) {
+            return;
+        }
         scheduler.submit(() -> {
-            Message message = gson.fromJson(msg, Message.class);
+            DecodedMessage message;
+            try {
+                message = decoder.decode(msg);
+            } catch (JsonParseException e) {
+                logger.debug("invalid Message", e);
+                return;
+            }
             if (message == null) {
                 logger.debug("invalid Message");
                 return;
             }
-            if ("response".equals(message.type)) {
-                Response response = gson.fromJson(message.message, Response.class);
-                if (response == null) {
+            if (MatterMessageDecoder.TYPE_RESPONSE.equals(message.type())) {
+                if (!(message.payload() instanceof Response response)) {
                     logger.debug("invalid response Message");
                     return;
                 }
@@ -271,133 +279,50 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                 } else {
                     future.complete(response.result);
                 }
-            } else if ("event".equals(message.type)) {
-                Event event = gson.fromJson(message.message, Event.class);
-                if (event == null) {
+            } else if (MatterMessageDecoder.TYPE_EVENT.equals(message.type())) {
+                String eventType = message.eventType();
+                if (eventType == null) {
                     logger.debug("invalid Event");
                     return;
                 }
-                switch (event.type) {
-                    case "attributeChanged":
-                        logger.debug("attributeChanged message {}", event.data);
-                        AttributeChangedMessage changedMessage = gson.fromJson(event.data,
-                                AttributeChangedMessage.class);
-                        if (changedMessage == null) {
-                            logger.debug("invalid AttributeChangedMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(changedMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "eventTriggered":
-                        logger.debug("eventTriggered message {}", event.data);
-                        EventTriggeredMessage triggeredMessage = gson.fromJson(event.data, EventTriggeredMessage.class);
-                        if (triggeredMessage == null) {
-                            logger.debug("invalid EventTriggeredMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(triggeredMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeStateInformation":
-                        logger.debug("nodeStateInformation message {}", event.data);
-                        NodeStateMessage nodeStateMessage = gson.fromJson(event.data, NodeStateMessage.class);
-                        if (nodeStateMessage == null) {
-                            logger.debug("invalid NodeStateMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(nodeStateMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeData":
-                        logger.debug("nodeData message {}", event.data);
-                        Node node = gson.fromJson(event.data, Node.class);
-                        if (node == null) {
-                            logger.debug("invalid nodeData");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(new NodeDataMessage(node));
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "bridgeEvent":
-                        logger.debug("bridgeEvent message {}", event.data);
-                        BridgeEventMessage bridgeEventMessage = gson.fromJson(event.data, BridgeEventMessage.class);
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent");
-                            return;
-                        }
-
-                        switch (bridgeEventMessage.type) {
-                            case "attributeChanged":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventAttributeChanged.class);
-                                break;
-                            case "eventTriggered":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventTriggered.class);
-                                break;
-                        }
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent subtype");
-                            return;
-                        }
-
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(bridgeEventMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "updateAvailable":
-                        logger.debug("updateAvailable message {}", event.data);
-                        OtaUpdateAvailableMessage otaMessage = gson.fromJson(event.data,
-                                OtaUpdateAvailableMessage.class);
-                        if (otaMessage == null) {
-                            logger.debug("invalid OtaUpdateAvailableMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(otaMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "ready":
-                        for (MatterClientListener listener : clientListeners) {
-                            listener.onReady();
-                        }
-                        break;
-                    default:
-                        break;
+                Object payload = message.payload();
+                if ("ready".equals(eventType)) {
+                    for (MatterClientListener listener : clientListeners) {
+                        listener.onReady();
+                    }
+                    return;
+                }
+                if (payload == null) {
+                    logger.debug("invalid or unsupported {} event", eventType);
+                    return;
+                }
+                for (MatterClientListener listener : clientListeners) {
+                    try {
+                        notifyListener(listener, payload);
+                    } catch (Exception e) {
+                        logger.debug("Error notifying listener", e);
+                    }
                 }
             }
         });
     }
 
+    private void notifyListener(MatterClientListener listener, Object payload) {
+        if (payload instanceof AttributeChangedMessage changedMessage) {
+            listener.onEvent(changedMessage);
+        } else if (payload instanceof EventTriggeredMessage triggeredMessage) {
+            listener.onEvent(triggeredMessage);
+        } else if (payload instanceof NodeStateMessage nodeStateMessage) {
+            listener.onEvent(nodeStateMessage);
+        } else if (payload instanceof NodeDataMessage nodeDataMessage) {
+            listener.onEvent(nodeDataMessage);
+        } else if (payload instanceof BridgeEventMessage bridgeEventMessage) {
+            listener.onEvent(bridgeEventMessage);
+        } else if (payload instanceof OtaUpdateAvailableMessage otaMessage) {
+            listener.onEvent(otaMessage);
+        }
+    }
+
     @Override
     public void onWebSocketClose(int statusCode, @Nullable String reason) {
         logger.debug("onWebSocketClose {} {}", statusCode, reason);
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.matter.internal.client.MatterMessageDecoder.DecodedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
+import org.openhab.binding.matter.internal.client.dto.ws.Response;
+import org.openhab.binding.matter.internal.client.dto.ws.ResponseType;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * Test class for the MatterMessageDecoder class.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class MatterMessageDecoderTest {
+
+    @NonNullByDefault({})
+    private MatterMessageDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new MatterMessageDecoder(new MatterWebsocketClient().getGson());
+    }
+
+    @Test
+    void testDecodeResponse() {
+        String json = """
+                {
+                    "type": "response",
+                    "message": {
+                        "type": "resultSuccess",
+                        "id": "1",
+                        "result": { "value": 5 }
+                    }
+                }
+                """;
+        DecodedMessage message = decoder.decode(json);
+        assertNotNull(message);
+        assertEquals(MatterMessageDecoder.TYPE_RESPONSE, message.type());
+        Response response = assertInstanceOf(Response.class, message.payload());
+        assertEquals("1", response.id);
+        assertEquals(ResponseType.RESULT_SUCCESS, response.type);
+        assertEquals(5, response.result.getAsJsonObject().get("value").getAsInt());
+    }
+
+    @Test
+    void testDecodeAttributeChanged() {
+        String json = """
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "attributeChanged",
+                        "data": {
+                            "path": {
+                                "nodeId": "1234",
+                                "endpointId": 2,
+                                "clusterId": 6,
+                                "attributeName": "onOff"
+                            },
+                            "version": 3,
+                            "value": true
+                        }
+                    }
+                }
+                """;
+        DecodedMessage message = decoder.decode(json);
+        assertNotNull(message);
+        assertEquals("attributeChanged", message.eventType());
+        AttributeChangedMessage changed = assertInstanceOf(AttributeChangedMessage.class, message.payload());
+        assertEquals(new BigInteger("1234"), changed.path.nodeId);
+        assertEquals(2, changed.path.endpointId);
+        assertEquals(3, changed.version);
+        assertEquals(Boolean.TRUE, changed.value);
+    }
+
+    @Test
+    void testDecodePayloadBeforeType() {
+        String json = """
+                {
+                    "message": {
+                        "data": {
+                            "type": "attributeChanged",
+                            "data": {
+                                "endpointId": "light1",
+                                "clusterName": "onOff",
+                                "attributeName": "onOff",
+                                "data": true
+                            }
+                        },
+                        "type": "bridgeEvent"
+                    },
+                    "type": "event"
+                }
+                """;
+        DecodedMessage message = decoder.decode(json);
+        assertNotNull(message);
+        assertEquals("bridgeEvent", message.eventType());
+        BridgeEventAttributeChanged changed = assertInstanceOf(BridgeEventAttributeChanged.class,
+                message.payload());
+        assertEquals("light1", changed.data.endpointId);
+    }
+
+    @Test
+    void testDecodeEventWithoutData() {
+        DecodedMessage message = decoder.decode("{\"type\":\"event\",\"message\":{\"type\":\"ready\"}}");
+        assertNotNull(message);
+        assertEquals("ready", message.eventType());
+        assertNull(message.payload());
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertNull(decoder.decode("{\"message\":{}}"));
+        assertThrows(JsonParseException.class, () -> decoder.decode("{\"type\":\"event\",\"message\":"));
+    }
+}
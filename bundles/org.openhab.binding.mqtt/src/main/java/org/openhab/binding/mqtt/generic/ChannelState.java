@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.MqttPublishQueue;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -421,7 +422,7 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             commandTopic = config.commandTopic;
         }
-        return connection.publish(commandTopic, commandString.getBytes(), qos, config.retained);
+        return MqttPublishQueue.publish(connection, commandTopic, commandString.getBytes(), qos, config.retained);
     }
 
     /**
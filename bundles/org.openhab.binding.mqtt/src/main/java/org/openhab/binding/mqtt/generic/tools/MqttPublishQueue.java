@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queues the outgoing messages of a broker connection.
+ * <p>
+ * Messages are collected for a short batch window with a {@link DelayedBatchProcessing}. Within a batch, only the
+ * last message of each topic is published and the futures of the replaced messages complete with its result. The
+ * messages are then published without waiting for the acknowledgement of the previous one, but at most
+ * <code>maxInFlight</code> acknowledged (QoS 1 and 2) messages are outstanding at any time. QoS 0 messages do not
+ * take a slot, they only keep their place in the queue.
+ * <p>
+ * A broker handler registers the queue of its connection with {@link #register(MqttBrokerConnection,
+ * MqttPublishQueue)}. {@link #publish(MqttBrokerConnection, String, byte[], int, boolean)} uses the registered queue
+ * and publishes directly on connections without one.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MqttPublishQueue {
+    /** A batch is delivered at the latest when it reached this size, even if messages keep coming in */
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final Map<MqttBrokerConnection, MqttPublishQueue> QUEUES = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private final Logger logger = LoggerFactory.getLogger(MqttPublishQueue.class);
+    private final MqttBrokerConnection connection;
+    private final int maxInFlight;
+    private final @Nullable DelayedBatchProcessing<Message> batcher;
+    private final AtomicInteger batchSize = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /* All access must be guarded by "this" */
+    private final Deque<Message> pending = new ArrayDeque<>();
+    private int inFlight;
+    private boolean disposed;
+
+    /**
+     * Creates a publish queue.
+     *
+     * @param connection the broker connection
+     * @param scheduler the scheduler for the batch window
+     * @param batchDelay the batch window in milliseconds, 0 to disable merging
+     * @param maxInFlight the maximum number of unacknowledged messages, 0 for no limit
+     */
+    public MqttPublishQueue(MqttBrokerConnection connection, ScheduledExecutorService scheduler, int batchDelay,
+            int maxInFlight) {
+        this.connection = connection;
+        this.maxInFlight = maxInFlight;
+        this.batcher = batchDelay > 0 ? new DelayedBatchProcessing<>(batchDelay, this::processBatch, scheduler)
+                : null;
+    }
+
+    /**
+     * Registers the publish queue of a connection.
+     */
+    public static void register(MqttBrokerConnection connection, MqttPublishQueue queue) {
+        MqttPublishQueue previous = QUEUES.put(connection, queue);
+        if (previous != null && previous != queue) {
+            previous.dispose();
+        }
+    }
+
+    /**
+     * Unregisters and disposes the publish queue of a connection.
+     */
+    public static void unregister(MqttBrokerConnection connection) {
+        MqttPublishQueue queue = QUEUES.remove(connection);
+        if (queue != null) {
+            queue.dispose();
+        }
+    }
+
+    /**
+     * Publishes a message through the publish queue registered for the connection, or directly if there is none.
+     *
+     * @return A future that completes with the result of {@link MqttBrokerConnection#publish(String, byte[], int,
+     *         boolean)}
+     */
+    public static CompletableFuture<Boolean> publish(MqttBrokerConnection connection, String topic, byte[] payload,
+            int qos, boolean retain) {
+        MqttPublishQueue queue = QUEUES.get(connection);
+        if (queue == null) {
+            return connection.publish(topic, payload, qos, retain);
+        }
+        return queue.publish(topic, payload, qos, retain);
+    }
+
+    /**
+     * Queues a message.
+     *
+     * @return A future that completes with the result of {@link MqttBrokerConnection#publish(String, byte[], int,
+     *         boolean)}
+     */
+    public CompletableFuture<Boolean> publish(String topic, byte[] payload, int qos, boolean retain) {
+        Message message = new Message(topic, payload, qos, retain);
+        DelayedBatchProcessing<Message> batcher = this.batcher;
+        boolean direct;
+        synchronized (this) {
+            direct = disposed;
+        }
+        if (direct) {
+            return connection.publish(topic, payload, qos, retain);
+        }
+        if (batcher == null) {
+            enqueue(List.of(message));
+        } else {
+            batcher.accept(message);
+            if (batchSize.incrementAndGet() >= MAX_BATCH_SIZE) {
+                batcher.forceProcessNow();
+            }
+        }
+        return message.future;
+    }
+
+    /**
+     * Publishes all queued messages, regardless of the in-flight limit. Messages that are queued afterwards are
+     * published directly.
+     */
+    public void dispose() {
+        synchronized (this) {
+            disposed = true;
+        }
+        DelayedBatchProcessing<Message> batcher = this.batcher;
+        if (batcher != null) {
+            processBatch(batcher.join());
+        }
+        drain();
+    }
+
+    /**
+     * @return the number of messages waiting to be published
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of published messages that have not been acknowledged yet
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    private void processBatch(List<Message> batch) {
+        batchSize.set(0);
+        if (batch.size() < 2) {
+            enqueue(batch);
+            return;
+        }
+        // last value wins, the merged message takes the position of the latest one
+        Map<String, Message> latest = new LinkedHashMap<>();
+        for (Message message : batch) {
+            Message replaced = latest.remove(message.topic);
+            if (replaced != null) {
+                message.replaced.add(replaced.future);
+                message.replaced.addAll(replaced.replaced);
+            }
+            latest.put(message.topic, message);
+        }
+        if (latest.size() < batch.size()) {
+            logger.trace("Merged {} queued messages into {}", batch.size(), latest.size());
+        }
+        enqueue(latest.values());
+    }
+
+    private void enqueue(Iterable<Message> messages) {
+        synchronized (this) {
+            for (Message message : messages) {
+                pending.add(message);
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (draining.compareAndSet(false, true)) {
+            try {
+                Message message;
+                while ((message = nextMessage()) != null) {
+                    send(message);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // a publish that completed meanwhile may have freed a slot
+            if (!canSend()) {
+                return;
+            }
+        }
+    }
+
+    private synchronized @Nullable Message nextMessage() {
+        Message message = pending.peek();
+        if (message == null) {
+            return null;
+        }
+        boolean acknowledged = message.qos > 0;
+        if (acknowledged && maxInFlight > 0 && inFlight >= maxInFlight && !disposed) {
+            return null;
+        }
+        pending.poll();
+        if (acknowledged) {
+            inFlight++;
+            message.inFlight = true;
+        }
+        return message;
+    }
+
+    private synchronized boolean canSend() {
+        Message message = pending.peek();
+        return message != null && (message.qos == 0 || maxInFlight <= 0 || inFlight < maxInFlight || disposed);
+    }
+
+    private void send(Message message) {
+        CompletableFuture<Boolean> result;
+        try {
+            result = connection.publish(message.topic, message.payload, message.qos, message.retain);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((success, error) -> {
+            if (message.inFlight) {
+                synchronized (this) {
+                    inFlight--;
+                }
+            }
+            message.complete(success, error);
+            drain();
+        });
+    }
+
+    private static class Message {
+        private final String topic;
+        private final byte[] payload;
+        private final int qos;
+        private final boolean retain;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private final List<CompletableFuture<Boolean>> replaced = new ArrayList<>(0);
+        private boolean inFlight;
+
+        private Message(String topic, byte[] payload, int qos, boolean retain) {
+            this.topic = topic;
+            this.payload = payload;
+            this.qos = qos;
+            this.retain = retain;
+        }
+
+        private void complete(@Nullable Boolean success, @Nullable Throwable error) {
+            if (error != null) {
+                future.completeExceptionally(error);
+                replaced.forEach(f -> f.completeExceptionally(error));
+            } else {
+                boolean result = success != null && success;
+                future.complete(result);
+                replaced.forEach(f -> f.complete(result));
+            }
+        }
+    }
+}
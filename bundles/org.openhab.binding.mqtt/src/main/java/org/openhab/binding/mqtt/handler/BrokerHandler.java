@@ -22,6 +22,7 @@ import javax.net.ssl.TrustManager;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.MqttPublishQueue;
 import org.openhab.binding.mqtt.internal.ssl.Pin;
 import org.openhab.binding.mqtt.internal.ssl.PinMessageDigest;
 import org.openhab.binding.mqtt.internal.ssl.PinTrustManager;
@@ -123,6 +124,7 @@ public class BrokerHandler extends AbstractBrokerHandler implements PinnedCallba
     public void dispose() {
         try {
             if (connection != null) {
+                MqttPublishQueue.unregister(connection);
                 publish(config.shutdownTopic, config.shutdownMessage, config.shutdownRetain).get(1000,
                         TimeUnit.MILLISECONDS);
                 connection.stop().get(1000, TimeUnit.MILLISECONDS);
@@ -243,6 +245,10 @@ public class BrokerHandler extends AbstractBrokerHandler implements PinnedCallba
         config = getConfigAs(BrokerHandlerConfig.class);
         final MqttBrokerConnection connection = createBrokerConnection();
         assignSSLContextProvider(config, connection, this);
+        if (config.publishBatchDelay > 0 || config.maxInFlightPublishes > 0) {
+            MqttPublishQueue.register(connection, new MqttPublishQueue(connection, scheduler,
+                    config.publishBatchDelay, config.maxInFlightPublishes));
+        }
         this.connection = connection;
 
         super.initialize();
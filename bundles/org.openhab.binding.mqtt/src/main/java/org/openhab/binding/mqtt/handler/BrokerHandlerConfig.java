@@ -37,6 +37,10 @@ public class BrokerHandlerConfig extends MqttBrokerConnectionConfig {
 
     public boolean enableDiscovery = true;
 
+    // Outgoing message queue parameters
+    public int publishBatchDelay = 0;
+    public int maxInFlightPublishes = 0;
+
     // Birth message parameters
     public @Nullable String birthTopic;
     public @Nullable String birthMessage;
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+
+/**
+ * Tests the {@link MqttPublishQueue} class.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class MqttPublishQueueTest {
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private final List<CompletableFuture<Boolean>> publishes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        doAnswer(invocation -> {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            synchronized (publishes) {
+                publishes.add(future);
+            }
+            return future;
+        }).when(connectionMock).publish(any(), any(), anyInt(), anyBoolean());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void inFlightWindowLimitsAcknowledgedMessages() throws Exception {
+        MqttPublishQueue queue = new MqttPublishQueue(connectionMock, scheduler, 0, 2);
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(queue.publish("topic/" + i, "ON".getBytes(), 1, false));
+        }
+        verify(connectionMock, times(2)).publish(any(), any(), anyInt(), anyBoolean());
+        assertThat(queue.getInFlightCount(), is(2));
+        assertThat(queue.getPendingCount(), is(3));
+
+        publishes.get(0).complete(true);
+        assertThat(results.get(0).get(1, TimeUnit.SECONDS), is(true));
+        verify(connectionMock, times(3)).publish(any(), any(), anyInt(), anyBoolean());
+        verify(connectionMock).publish(eq("topic/2"), any(), eq(1), eq(false));
+
+        queue.dispose();
+        verify(connectionMock, times(5)).publish(any(), any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    public void qos0MessagesDoNotTakeASlot() {
+        MqttPublishQueue queue = new MqttPublishQueue(connectionMock, scheduler, 0, 1);
+
+        for (int i = 0; i < 3; i++) {
+            queue.publish("topic/" + i, "ON".getBytes(), 0, false);
+        }
+        verify(connectionMock, times(3)).publish(any(), any(), eq(0), anyBoolean());
+        assertThat(queue.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void lastValueOfATopicWinsWithinBatch() throws Exception {
+        MqttPublishQueue queue = new MqttPublishQueue(connectionMock, scheduler, 50, 0);
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).publish(any(), any(), anyInt(),
+                anyBoolean());
+
+        CompletableFuture<Boolean> first = queue.publish("a", "1".getBytes(), 1, false);
+        CompletableFuture<Boolean> other = queue.publish("b", "1".getBytes(), 1, false);
+        CompletableFuture<Boolean> last = queue.publish("a", "2".getBytes(), 1, false);
+
+        assertThat(first.get(1, TimeUnit.SECONDS), is(true));
+        assertThat(other.get(1, TimeUnit.SECONDS), is(true));
+        assertThat(last.get(1, TimeUnit.SECONDS), is(true));
+        verify(connectionMock, times(2)).publish(any(), any(), anyInt(), anyBoolean());
+        verify(connectionMock).publish(eq("a"), argThat(p -> Arrays.equals(p, "2".getBytes())), anyInt(),
+                anyBoolean());
+        verify(connectionMock, never()).publish(eq("a"), argThat(p -> Arrays.equals(p, "1".getBytes())), anyInt(),
+                anyBoolean());
+    }
+
+    /**
+     * Publishes a burst of messages against a broker that acknowledges asynchronously and checks that all of them
+     * complete without exceeding the in-flight window.
+     */
+    @Test
+    public void burstThroughput() throws Exception {
+        final int messages = 20_000;
+        final int window = 16;
+        ExecutorService broker = Executors.newFixedThreadPool(4);
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger maxOutstanding = new AtomicInteger();
+        try {
+            doAnswer(invocation -> {
+                int current = outstanding.incrementAndGet();
+                maxOutstanding.accumulateAndGet(current, Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    outstanding.decrementAndGet();
+                    return true;
+                }, broker);
+            }).when(connectionMock).publish(any(), any(), anyInt(), anyBoolean());
+
+            MqttPublishQueue queue = new MqttPublishQueue(connectionMock, scheduler, 0, window);
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(messages);
+            for (int i = 0; i < messages; i++) {
+                results.add(queue.publish("relay/" + (i % 200) + "/set", "ON".getBytes(), 1, false));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            verify(connectionMock, times(messages)).publish(any(), any(), anyInt(), anyBoolean());
+            assertThat(maxOutstanding.get(), lessThanOrEqualTo(window));
+            assertThat(queue.getInFlightCount(), is(0));
+        } finally {
+            broker.shutdownNow();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.handler.NetworkHandler;
 import org.openhab.binding.network.internal.handler.SpeedTestHandler;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
@@ -53,10 +54,12 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private static final String NETWORK_HANDLER_THREADPOOL_NAME = "networkBinding";
     private static final String NETWORK_RESOLVER_THREADPOOL_NAME = "binding-network-resolver";
+    private static final String NETWORK_PROBER_THREAD_NAME = "OH-binding-network-prober";
     private final Logger logger = LoggerFactory.getLogger(NetworkHandlerFactory.class);
     private final ScheduledExecutorService executor = ThreadPoolManager
             .getScheduledPool(NETWORK_HANDLER_THREADPOOL_NAME);
     private volatile @Nullable ExecutorService resolver;
+    private volatile @Nullable PresenceProber prober;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -73,8 +76,15 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
             // This should not happen
             resolver.shutdownNow();
         }
-        this.resolver = new ThreadPoolExecutor(1, Integer.MAX_VALUE, 20L, TimeUnit.SECONDS,
+        resolver = new ThreadPoolExecutor(1, Integer.MAX_VALUE, 20L, TimeUnit.SECONDS,
                 new SynchronousQueue<Runnable>(), new NamedThreadFactory(NETWORK_RESOLVER_THREADPOOL_NAME));
+        this.resolver = resolver;
+        PresenceProber prober = this.prober;
+        if (prober != null) {
+            // This should not happen
+            prober.close();
+        }
+        this.prober = new PresenceProber(resolver, NETWORK_PROBER_THREAD_NAME);
     }
 
     @Override
@@ -86,6 +96,11 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
             resolver.shutdownNow();
             this.resolver = null;
         }
+        PresenceProber prober = this.prober;
+        if (prober != null) {
+            prober.close();
+            this.prober = null;
+        }
     }
 
     @Modified
@@ -109,9 +124,9 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(PING_DEVICE) || thingTypeUID.equals(BACKWARDS_COMPATIBLE_DEVICE)) {
-            return new NetworkHandler(thing, executor, resolver, false, configuration);
+            return new NetworkHandler(thing, executor, resolver, prober, false, configuration);
         } else if (thingTypeUID.equals(SERVICE_DEVICE)) {
-            return new NetworkHandler(thing, executor, resolver, true, configuration);
+            return new NetworkHandler(thing, executor, resolver, prober, true, configuration);
         } else if (thingTypeUID.equals(SPEEDTEST_DEVICE)) {
             return new SpeedTestHandler(thing);
         }
@@ -42,6 +42,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
 import org.slf4j.Logger;
@@ -54,6 +55,7 @@ import org.slf4j.LoggerFactory;
  * @author David Gräff, 2017 - Rewritten
  * @author Jan N. Klug - refactored host name resolution
  * @author Wouter Born - Reuse ExpiringCacheAsync from Core
+ * @author agent - Shared prober for TCP and ARP checks
  */
 @NonNullByDefault
 public class PresenceDetection implements IPRequestReceivedCallback {
@@ -96,6 +98,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private String lastReachableNetworkInterfaceName = "";
 
     private final Executor executor;
+    private @Nullable PresenceProber prober;
 
     public PresenceDetection(final PresenceDetectionListener updateListener, Duration cacheDeviceStateTime,
             Executor executor) {
@@ -159,6 +162,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.useDHCPsniffing = enable;
     }
 
+    /**
+     * Sets the shared {@link PresenceProber} used for the TCP connection and ARP checks. Without a prober, each TCP
+     * check uses a blocking socket on the executor and each ARP check starts the arping tool.
+     *
+     * @param prober the prober or <code>null</code>
+     */
+    public void setPresenceProber(@Nullable PresenceProber prober) {
+        this.prober = prober;
+    }
+
     public void setTimeout(Duration timeout) {
         this.timeout = timeout;
     }
@@ -352,12 +365,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      */
     public CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
         Set<String> interfaceNames = null;
+        PresenceProber prober = this.prober;
+        // the ARP table covers all interfaces, so it replaces the arping processes of each interface
+        boolean arpTableProbe = arpPingMethod.canProceed && prober != null
+                && arpPingMethod != ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS && prober.isArpTableAvailable();
 
         detectionChecks = tcpPorts.size();
         if (pingMethod != IpPingMethodEnum.DISABLED) {
             detectionChecks += 1;
         }
-        if (arpPingMethod.canProceed) {
+        if (arpTableProbe) {
+            detectionChecks += 1;
+        } else if (arpPingMethod.canProceed) {
             if (!lastReachableNetworkInterfaceName.isEmpty()) {
                 interfaceNames = Set.of(lastReachableNetworkInterfaceName);
             } else if (!networkInterfaceNames.isEmpty()) {
@@ -379,14 +398,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                performServicePing(pdv, tcpPort);
-            });
+            if (prober != null) {
+                addServiceProbe(completableFutures, prober, pdv, tcpPort);
+            } else {
+                addAsyncDetection(completableFutures, () -> {
+                    performServicePing(pdv, tcpPort);
+                });
+            }
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+        // ARP ping for IPv4 addresses. Use the ARP table of the system when available, otherwise a single executor for
+        // Windows tool and each own executor for each network interface for other tools
+        if (arpTableProbe && prober != null) {
+            addArpProbe(completableFutures, prober, pdv);
+        } else if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             addAsyncDetection(completableFutures, () -> {
                 performArpPing(pdv, "");
             });
@@ -441,6 +466,48 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executor));
     }
 
+    private void addServiceProbe(List<CompletableFuture<Void>> completableFutures, PresenceProber prober,
+            PresenceDetectionValue pdv, int tcpPort) {
+        completableFutures.add(CompletableFuture.supplyAsync(destination::getValue, executor).thenCompose(address -> {
+            if (address == null) {
+                logger.trace("The destinationAddress for {} is null", hostname);
+                return CompletableFuture.completedFuture(null);
+            }
+            logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
+            return prober.tcpProbe(address, tcpPort, timeout).thenAccept(pingResult -> {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                }
+            });
+        }));
+    }
+
+    private void addArpProbe(List<CompletableFuture<Void>> completableFutures, PresenceProber prober,
+            PresenceDetectionValue pdv) {
+        completableFutures.add(CompletableFuture.supplyAsync(() -> {
+            InetAddress address = destination.getValue();
+            if (address != null && iosDevice) {
+                try {
+                    networkUtils.wakeUpIOS(address);
+                } catch (IOException e) {
+                    logger.trace("Failed to wake up iOS device for {}", hostname, e);
+                }
+            }
+            return address;
+        }, executor).thenCompose(address -> {
+            if (address == null) {
+                logger.trace("The destinationAddress for {} is null", hostname);
+                return CompletableFuture.completedFuture(null);
+            }
+            logger.trace("Perform ARP table presence detection for {}", hostname);
+            return prober.arpProbe(address, timeout).thenAccept(pingResult -> {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, ARP_PING, getLatency(pingResult));
+                }
+            });
+        }));
+    }
+
     /**
      * Creates a new {@link PresenceDetectionValue} when a host is reachable. Also updates the {@link #lastSeen}
      * value and sends a partial detection result to the {@link #updateListener}.
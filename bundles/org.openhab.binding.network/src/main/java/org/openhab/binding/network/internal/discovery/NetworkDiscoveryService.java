@@ -43,6 +43,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
@@ -83,6 +84,9 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
     /* All access must be guarded by "this" */
     private @Nullable ExecutorService resolver;
+
+    /* All access must be guarded by "this" */
+    private @Nullable PresenceProber prober;
     private final NetworkUtils networkUtils = new NetworkUtils();
     private final ConfigurationAdmin admin;
 
@@ -107,6 +111,10 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                 resolver.shutdownNow();
                 resolver = null;
             }
+            if (prober != null) {
+                prober.close();
+                prober = null;
+            }
         }
         super.deactivate();
     }
@@ -162,6 +170,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         NetworkBindingConfiguration configuration = getConfig();
         final ExecutorService service;
         final ExecutorService resolver;
+        final PresenceProber prober;
         synchronized (this) {
             if (executorService == null) {
                 executorService = createDiscoveryExecutor(configuration);
@@ -171,8 +180,13 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                 this.resolver = createDiscoveryResolver();
             }
             resolver = this.resolver;
+            if (this.prober == null && resolver != null) {
+                // A single selector thread probes the TCP service ports of all addresses
+                this.prober = new PresenceProber(resolver, "OH-binding-network-discoveryProber");
+            }
+            prober = this.prober;
         }
-        if (service == null || resolver == null) {
+        if (service == null || resolver == null || prober == null) {
             return;
         }
 
@@ -212,6 +226,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                     }
                     // TCP devices
                     pd.setServicePorts(tcpServicePorts);
+                    pd.setPresenceProber(prober);
                     pd.getValue((v) -> {
                         int count = scannedIPcount.incrementAndGet();
                         if (count >= targetCount) {
@@ -235,15 +250,21 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     protected void stopScan() {
         final ExecutorService service;
         final ExecutorService resolver;
+        final PresenceProber prober;
         synchronized (this) {
             super.stopScan();
             service = executorService;
             executorService = null;
             resolver = this.resolver;
             this.resolver = null;
+            prober = this.prober;
+            this.prober = null;
         }
         logger.debug("Stopping Network Device Discovery");
 
+        if (prober != null) {
+            prober.close();
+        }
         if (service != null) {
             service.shutdownNow(); // Initiate shutdown
         }
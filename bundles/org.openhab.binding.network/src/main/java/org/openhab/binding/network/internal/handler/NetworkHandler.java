@@ -37,6 +37,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.WakeOnLanPacketSender;
 import org.openhab.binding.network.internal.action.NetworkActions;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -86,15 +87,26 @@ public class NetworkHandler extends BaseThingHandler
     private volatile int retryCounter = 0;
     private final ScheduledExecutorService executor;
     private final ExecutorService resolver;
+    private final @Nullable PresenceProber prober;
 
     /**
      * Creates a new instance using the specified parameters.
      */
     public NetworkHandler(Thing thing, ScheduledExecutorService executor, ExecutorService resolver,
             boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
+        this(thing, executor, resolver, null, isTCPServiceDevice, configuration);
+    }
+
+    /**
+     * Creates a new instance using the specified parameters and a shared {@link PresenceProber} for the TCP
+     * connection checks.
+     */
+    public NetworkHandler(Thing thing, ScheduledExecutorService executor, ExecutorService resolver,
+            @Nullable PresenceProber prober, boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
         super(thing);
         this.executor = executor;
         this.resolver = resolver;
+        this.prober = prober;
         this.isTCPServiceDevice = isTCPServiceDevice;
         this.configuration = configuration;
         this.configuration.addNetworkBindingConfigurationListener(this);
@@ -204,6 +216,7 @@ public class NetworkHandler extends BaseThingHandler
         presenceDetection.setHostname(config.hostname);
         presenceDetection.setNetworkInterfaceNames(config.networkInterfaceNames);
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setPresenceProber(prober);
 
         if (isTCPServiceDevice) {
             Integer port = config.port;
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PresenceProber} performs TCP connection and ARP probes for many hosts at once from a single thread.
+ * <p>
+ * Each TCP probe is a non-blocking connect that is multiplexed on one {@link Selector}, instead of a blocking socket
+ * that occupies a thread for the whole timeout. An ARP probe sends an empty UDP datagram to the host, so the system
+ * resolves its hardware address, and then looks the host up in the ARP table of the system. The table is read once
+ * per poll for all ARP probes in progress, instead of starting an arping process per host and interface. The timeouts
+ * of all probes are kept in one deadline queue that is checked by the selector loop. A probe that is already in
+ * progress is not started a second time, all callers share its result.
+ * <p>
+ * The selector thread is started with the first probe and stopped by {@link #close()}. If the selector fails, the
+ * probes in progress are completed as unsuccessful and the next probe opens a new selector. If no selector can be
+ * opened, the probe falls back to a blocking connect on the executor. The results are completed on the given executor,
+ * so callbacks never run on the selector thread.
+ * <p>
+ * ARP probes need the ARP table of Linux, see {@link #isArpTableAvailable()}. ICMP echo needs raw sockets, which Java
+ * does not provide, so ICMP checks still use the system ping tool or the Java ping, see {@link NetworkUtils}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProber implements AutoCloseable {
+    private static final Path ARP_TABLE = Path.of("/proc/net/arp");
+    private static final int ARP_FLAG_COMPLETE = 0x2;
+    private static final String ARP_NO_HARDWARE_ADDRESS = "00:00:00:00:00:00";
+    private static final long ARP_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // the datagram only has to trigger the address resolution, the discard port makes sure it is not processed
+    private static final int DISCARD_PORT = 9;
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProber.class);
+
+    private final Executor executor;
+    private final String threadName;
+    private final Map<String, Probe> inFlight = new ConcurrentHashMap<>();
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+
+    /* All access must be guarded by "this" */
+    private @Nullable Selector selector;
+    private boolean closed;
+
+    /**
+     * Creates a new prober.
+     *
+     * @param executor the executor that completes the probe results
+     * @param threadName the name of the selector thread
+     */
+    public PresenceProber(Executor executor, String threadName) {
+        this.executor = executor;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port.
+     *
+     * @param address the address of the host
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the probe is aborted
+     * @return a {@link CompletableFuture} for the {@link PingResult} of connecting to the given port
+     */
+    public CompletableFuture<PingResult> tcpProbe(InetAddress address, int port, Duration timeout) {
+        String key = address.getHostAddress() + ":" + port;
+        return submit(new Probe(key, new InetSocketAddress(address, port), timeout, false));
+    }
+
+    /**
+     * Checks whether the host answers the address resolution of the system, by looking it up in the ARP table after
+     * sending a datagram to it. Only IPv4 addresses can be probed, and only if {@link #isArpTableAvailable()}.
+     * <p>
+     * The system keeps resolved entries for a while, so a host that has just left the network may still be found by
+     * the first probe after it left. The datagram of that probe makes the system verify the entry, so the following
+     * probes do not find it anymore.
+     *
+     * @param address the IPv4 address of the host
+     * @param timeout the timeout before the probe is aborted
+     * @return a {@link CompletableFuture} for the {@link PingResult} of the address resolution
+     */
+    public CompletableFuture<PingResult> arpProbe(InetAddress address, Duration timeout) {
+        String key = "arp:" + address.getHostAddress();
+        Probe probe = new Probe(key, new InetSocketAddress(address, DISCARD_PORT), timeout, true);
+        if (!(address instanceof Inet4Address)) {
+            probe.result.complete(new PingResult(false, Duration.ZERO));
+            return probe.result;
+        }
+        return submit(probe);
+    }
+
+    /**
+     * @return <code>true</code> if the ARP table of the system can be read, so {@link #arpProbe} can be used
+     */
+    public boolean isArpTableAvailable() {
+        return Files.isReadable(ARP_TABLE);
+    }
+
+    private CompletableFuture<PingResult> submit(Probe probe) {
+        String key = probe.key;
+        Probe existing = inFlight.putIfAbsent(key, probe);
+        if (existing != null) {
+            logger.trace("Joining probe in progress for {}", key);
+            return existing.result;
+        }
+
+        synchronized (this) {
+            Selector selector = this.selector;
+            if (!closed && selector == null) {
+                try {
+                    Selector newSelector = openSelector();
+                    selector = newSelector;
+                    this.selector = newSelector;
+                    Thread thread = new Thread(() -> run(newSelector), threadName);
+                    thread.setDaemon(true);
+                    thread.start();
+                } catch (IOException e) {
+                    logger.debug("Could not start the presence prober, using a blocking connect: {}",
+                            e.getMessage());
+                }
+            }
+            if (closed) {
+                inFlight.remove(key, probe);
+                probe.result.complete(new PingResult(false, Duration.ZERO));
+                return probe.result;
+            }
+            if (selector == null) {
+                blockingProbe(probe);
+                return probe.result;
+            }
+            pending.add(probe);
+            selector.wakeup();
+        }
+        return probe.result;
+    }
+
+    /**
+     * Stops the selector thread. Probes that are still in progress are completed as unsuccessful.
+     */
+    @Override
+    public void close() {
+        Selector selector;
+        synchronized (this) {
+            closed = true;
+            selector = this.selector;
+            this.selector = null;
+        }
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the presence prober selector: {}", e.getMessage());
+            }
+        }
+    }
+
+    Selector openSelector() throws IOException {
+        return Selector.open();
+    }
+
+    /**
+     * Reads the addresses of the system ARP table whose hardware address has been resolved.
+     *
+     * @return the resolved IPv4 addresses
+     * @throws IOException if the table can not be read
+     */
+    Set<String> readArpTable() throws IOException {
+        return parseArpTable(Files.readAllLines(ARP_TABLE));
+    }
+
+    /**
+     * Parses the lines of the Linux ARP table, e.g.
+     *
+     * <pre>
+     * IP address       HW type     Flags       HW address            Mask     Device
+     * 192.168.0.1      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0
+     * </pre>
+     *
+     * @param lines the lines of the table, including the header
+     * @return the addresses with a complete entry
+     */
+    static Set<String> parseArpTable(List<String> lines) {
+        Set<String> resolved = new HashSet<>();
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 4 || ARP_NO_HARDWARE_ADDRESS.equals(columns[3])) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(columns[2]) & ARP_FLAG_COMPLETE) != 0) {
+                    resolved.add(columns[0]);
+                }
+            } catch (NumberFormatException e) {
+                // not an entry
+            }
+        }
+        return resolved;
+    }
+
+    private void run(Selector selector) {
+        logger.debug("Presence prober started");
+        PriorityQueue<Probe> deadlines = new PriorityQueue<>(Comparator.comparingLong(p -> p.deadlineNanos));
+        List<Probe> arpProbes = new ArrayList<>();
+        long nextArpPollNanos = System.nanoTime();
+        try {
+            while (selector.isOpen()) {
+                startPending(selector, deadlines, arpProbes);
+                long now = System.nanoTime();
+                if (!arpProbes.isEmpty() && now - nextArpPollNanos >= 0) {
+                    pollArpTable(arpProbes);
+                    nextArpPollNanos = now + ARP_POLL_NANOS;
+                }
+                long waitMillis = expireProbes(deadlines);
+                if (!arpProbes.isEmpty()) {
+                    long arpWaitMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextArpPollNanos - now));
+                    waitMillis = waitMillis == 0 ? arpWaitMillis : Math.min(waitMillis, arpWaitMillis);
+                }
+                selector.select(waitMillis);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Probe probe = (Probe) key.attachment();
+                    boolean success;
+                    try {
+                        success = ((SocketChannel) key.channel()).finishConnect();
+                    } catch (IOException e) {
+                        logger.trace("Could not connect to {} {}", probe.key, e.getMessage());
+                        success = false;
+                    }
+                    finish(probe, success);
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            // closed while selecting
+        } catch (IOException e) {
+            logger.warn("Presence prober failed, a new selector is opened for the next probe: {}", e.getMessage());
+        } finally {
+            Probe probe;
+            synchronized (this) {
+                if (this.selector == selector) {
+                    // not closed, the next probe opens a new selector
+                    this.selector = null;
+                }
+                // probes are only queued while holding the lock, so none is lost to a new selector thread
+                while ((probe = pending.poll()) != null) {
+                    finish(probe, false);
+                }
+            }
+            while ((probe = deadlines.poll()) != null) {
+                finish(probe, false);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the presence prober selector: {}", e.getMessage());
+            }
+            logger.debug("Presence prober stopped");
+        }
+    }
+
+    private void startPending(Selector selector, PriorityQueue<Probe> deadlines, List<Probe> arpProbes) {
+        Probe probe;
+        while ((probe = pending.poll()) != null) {
+            probe.startNanos = System.nanoTime();
+            probe.deadlineNanos = probe.startNanos + probe.timeout.toNanos();
+            if (probe.arp) {
+                sendArpTrigger(probe);
+                arpProbes.add(probe);
+                deadlines.add(probe);
+                continue;
+            }
+            try {
+                SocketChannel channel = SocketChannel.open();
+                probe.channel = channel;
+                channel.configureBlocking(false);
+                if (channel.connect(probe.address)) {
+                    finish(probe, true);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                    deadlines.add(probe);
+                }
+            } catch (IOException e) {
+                logger.trace("Could not connect to {} {}", probe.key, e.getMessage());
+                finish(probe, false);
+            }
+        }
+    }
+
+    private void sendArpTrigger(Probe probe) {
+        try (DatagramSocket socket = new DatagramSocket()) {
+            socket.send(new DatagramPacket(new byte[0], 0, probe.address));
+        } catch (IOException e) {
+            // the table may still contain the host
+            logger.trace("Could not send a datagram to {} {}", probe.key, e.getMessage());
+        }
+    }
+
+    /**
+     * Completes the ARP probes whose host has been resolved, with one read of the ARP table for all of them.
+     */
+    private void pollArpTable(List<Probe> arpProbes) {
+        arpProbes.removeIf(probe -> probe.done);
+        if (arpProbes.isEmpty()) {
+            return;
+        }
+        Set<String> resolved;
+        try {
+            resolved = readArpTable();
+        } catch (IOException e) {
+            logger.debug("Could not read the ARP table: {}", e.getMessage());
+            return;
+        }
+        Iterator<Probe> iterator = arpProbes.iterator();
+        while (iterator.hasNext()) {
+            Probe probe = iterator.next();
+            if (resolved.contains(probe.address.getAddress().getHostAddress())) {
+                iterator.remove();
+                finish(probe, true);
+            }
+        }
+    }
+
+    /**
+     * Completes the probes whose deadline has passed.
+     *
+     * @return the milliseconds until the next deadline, or 0 if there is none
+     */
+    private long expireProbes(PriorityQueue<Probe> deadlines) {
+        long now = System.nanoTime();
+        Probe probe;
+        while ((probe = deadlines.peek()) != null) {
+            if (probe.done) {
+                deadlines.poll();
+            } else if (probe.deadlineNanos - now <= 0) {
+                deadlines.poll();
+                logger.trace("Could not connect to {} within {}", probe.key, probe.timeout);
+                finish(probe, false);
+            } else {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(probe.deadlineNanos - now));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Connects with a blocking socket or polls the ARP table on the executor, used when no selector is available.
+     */
+    private void blockingProbe(Probe probe) {
+        try {
+            executor.execute(() -> {
+                probe.startNanos = System.nanoTime();
+                finish(probe, probe.arp ? blockingArpProbe(probe) : blockingConnect(probe));
+            });
+        } catch (RejectedExecutionException e) {
+            finish(probe, false);
+        }
+    }
+
+    private boolean blockingConnect(Probe probe) {
+        try (Socket socket = new Socket()) {
+            socket.connect(probe.address, (int) probe.timeout.toMillis());
+            return true;
+        } catch (IOException e) {
+            logger.trace("Could not connect to {} {}", probe.key, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean blockingArpProbe(Probe probe) {
+        long deadlineNanos = probe.startNanos + probe.timeout.toNanos();
+        sendArpTrigger(probe);
+        String hostAddress = probe.address.getAddress().getHostAddress();
+        try {
+            while (true) {
+                if (readArpTable().contains(hostAddress)) {
+                    return true;
+                }
+                if (System.nanoTime() + ARP_POLL_NANOS - deadlineNanos > 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.sleep(ARP_POLL_NANOS);
+            }
+        } catch (IOException e) {
+            logger.debug("Could not read the ARP table: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void finish(Probe probe, boolean success) {
+        if (probe.done) {
+            return;
+        }
+        probe.done = true;
+        SocketChannel channel = probe.channel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close probe channel for {}", probe.key, e);
+            }
+        }
+        inFlight.remove(probe.key, probe);
+
+        Duration executionTime = probe.startNanos == 0 ? Duration.ZERO
+                : Duration.ofNanos(System.nanoTime() - probe.startNanos);
+        PingResult pingResult = new PingResult(success, executionTime);
+        try {
+            executor.execute(() -> probe.result.complete(pingResult));
+        } catch (RejectedExecutionException e) {
+            probe.result.complete(pingResult);
+        }
+    }
+
+    private static class Probe {
+        private final String key;
+        private final InetSocketAddress address;
+        private final Duration timeout;
+        private final boolean arp;
+        private final CompletableFuture<PingResult> result = new CompletableFuture<>();
+
+        // Only accessed by the thread running the probe
+        private @Nullable SocketChannel channel;
+        private long startNanos;
+        private long deadlineNanos;
+        private boolean done;
+
+        private Probe(String key, InetSocketAddress address, Duration timeout, boolean arp) {
+            this.key = key;
+            this.address = address;
+            this.timeout = timeout;
+            this.arp = arp;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -37,6 +38,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProber;
 import org.openhab.core.util.SameThreadExecutorService;
 
 /**
@@ -156,6 +158,29 @@ public class PresenceDetectionTest {
         assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
+    @Test
+    public void arpTableReplacesArpingWithProber() throws InterruptedException, IOException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+        PresenceProber prober = mock(PresenceProber.class);
+        when(prober.isArpTableAvailable()).thenReturn(true);
+        when(prober.arpProbe(any(), any())).thenReturn(CompletableFuture.completedFuture(pingResult));
+        when(prober.tcpProbe(any(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new PingResult(false, Duration.ZERO)));
+        subject.setPresenceProber(prober);
+
+        subject.performPresenceDetection();
+
+        assertThat(subject.detectionChecks, is(3));
+        verify(subject, never()).performArpPing(any(), any());
+        verify(networkUtils, never()).nativeArpPing(any(), any(), any(), any(), any());
+        verify(prober).arpProbe(any(), any());
+
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(1)).finalDetectionResult(pdvCapture.capture());
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING"));
+    }
+
     @Test
     public void cacheTest() throws InterruptedException, IOException {
         PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
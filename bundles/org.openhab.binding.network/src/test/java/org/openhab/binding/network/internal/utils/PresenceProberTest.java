@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.channels.Selector;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the TCP and ARP probes of the {@link PresenceProber}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProberTest {
+
+    private final PresenceProber prober = new PresenceProber(Runnable::run, "test-prober");
+
+    @AfterEach
+    public void tearDown() {
+        prober.close();
+    }
+
+    @Test
+    public void openPortIsReachable() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            PingResult result = prober
+                    .tcpProbe(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort(), Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void closedPortIsNotReachable() throws Exception {
+        int port = unusedPort();
+        PingResult result = prober.tcpProbe(InetAddress.getLoopbackAddress(), port, Duration.ofSeconds(2)).get(5,
+                TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void probesInProgressAreShared() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetAddress address = InetAddress.getLoopbackAddress();
+            int port = serverSocket.getLocalPort();
+            CompletableFuture<PingResult> first = prober.tcpProbe(address, port, Duration.ofSeconds(2));
+            CompletableFuture<PingResult> second = prober.tcpProbe(address, port, Duration.ofSeconds(2));
+            if (!first.isDone()) {
+                assertSame(first, second);
+            }
+            assertTrue(first.get(5, TimeUnit.SECONDS).isSuccess());
+            assertTrue(second.get(5, TimeUnit.SECONDS).isSuccess());
+        }
+    }
+
+    @Test
+    public void probesAfterCloseFail() throws Exception {
+        prober.close();
+        PingResult result = prober.tcpProbe(InetAddress.getLoopbackAddress(), 80, Duration.ofSeconds(2)).get(5,
+                TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void failedSelectorIsReplaced() throws Exception {
+        List<Selector> selectors = new CopyOnWriteArrayList<>();
+        PresenceProber prober = new PresenceProber(Runnable::run, "test-prober") {
+            @Override
+            Selector openSelector() throws IOException {
+                Selector selector = super.openSelector();
+                selectors.add(selector);
+                return selector;
+            }
+        };
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetAddress address = InetAddress.getLoopbackAddress();
+            int port = serverSocket.getLocalPort();
+            assertTrue(prober.tcpProbe(address, port, Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS).isSuccess());
+
+            // probes queued before the selector thread has stopped fail, the later ones use a new selector
+            selectors.get(0).close();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            PingResult result;
+            do {
+                result = prober.tcpProbe(address, port, Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS);
+            } while (!result.isSuccess() && System.nanoTime() < deadline);
+            assertTrue(result.isSuccess());
+            assertEquals(2, selectors.size());
+        } finally {
+            prober.close();
+        }
+    }
+
+    @Test
+    public void blockingConnectIsUsedWithoutSelector() throws Exception {
+        PresenceProber prober = new PresenceProber(Runnable::run, "test-prober") {
+            @Override
+            Selector openSelector() throws IOException {
+                throw new IOException("no selector");
+            }
+        };
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetAddress address = InetAddress.getLoopbackAddress();
+            assertTrue(prober.tcpProbe(address, serverSocket.getLocalPort(), Duration.ofSeconds(2))
+                    .get(5, TimeUnit.SECONDS).isSuccess());
+            assertFalse(prober.tcpProbe(address, unusedPort(), Duration.ofSeconds(2)).get(5, TimeUnit.SECONDS)
+                    .isSuccess());
+        } finally {
+            prober.close();
+        }
+    }
+
+    @Test
+    public void arpTableEntriesWithHardwareAddressAreResolved() {
+        Set<String> resolved = PresenceProber.parseArpTable(List.of(
+                "IP address       HW type     Flags       HW address            Mask     Device",
+                "192.168.0.1      0x1         0x2         aa:bb:cc:dd:ee:ff     *        eth0",
+                "192.168.0.2      0x1         0x0         00:00:00:00:00:00     *        eth0",
+                "192.168.0.3      0x1         0x6         aa:bb:cc:dd:ee:00     *        wlan0"));
+        assertEquals(Set.of("192.168.0.1", "192.168.0.3"), resolved);
+        assertEquals(Set.of(), PresenceProber.parseArpTable(List.of()));
+    }
+
+    @Test
+    public void arpProbeSucceedsOnceTheHostIsResolved() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        PresenceProber prober = new PresenceProber(Runnable::run, "test-prober") {
+            @Override
+            Set<String> readArpTable() {
+                // resolved by the second read of the table
+                return reads.incrementAndGet() > 1 ? Set.of("127.0.0.1") : Set.of();
+            }
+        };
+        try {
+            PingResult result = prober.arpProbe(InetAddress.getLoopbackAddress(), Duration.ofSeconds(2)).get(5,
+                    TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+            assertTrue(reads.get() >= 2);
+        } finally {
+            prober.close();
+        }
+    }
+
+    @Test
+    public void arpProbeFailsAfterTheTimeout() throws Exception {
+        PresenceProber prober = new PresenceProber(Runnable::run, "test-prober") {
+            @Override
+            Set<String> readArpTable() {
+                return Set.of("192.168.0.1");
+            }
+        };
+        try {
+            assertFalse(prober.arpProbe(InetAddress.getLoopbackAddress(), Duration.ofMillis(300))
+                    .get(5, TimeUnit.SECONDS).isSuccess());
+            // only IPv4 hosts have ARP entries
+            assertFalse(prober.arpProbe(InetAddress.getByName("::1"), Duration.ofMillis(300)).get(5, TimeUnit.SECONDS)
+                    .isSuccess());
+        } finally {
+            prober.close();
+        }
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
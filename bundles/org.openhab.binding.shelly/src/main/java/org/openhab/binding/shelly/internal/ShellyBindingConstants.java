@@ -270,6 +270,10 @@ public class ShellyBindingConstants {
     public static final int UPDATE_SKIP_COUNT = 20; // update every x triggers or when a key was pressed
     public static final int UPDATE_MIN_DELAY = 15;// update every x triggers or when a key was pressed
     public static final int UPDATE_SETTINGS_INTERVAL_SECONDS = 60; // check for updates every x sec
+    public static final int UPDATE_PUSH_STALE_SECONDS = 300; // Gen2+: poll again after x sec without WebSocket data
+    public static final int UPDATE_PUSH_RECONCILE_SECONDS = 900; // Gen2+: poll values not pushed every x sec
+    public static final int UPDATE_POLL_SLOT_MS = 250; // granularity used to spread the status updates
+    public static final int UPDATE_MAX_CONCURRENT_POLLS = 4; // max concurrent status updates per local interface
     public static final int HEALTH_CHECK_INTERVAL_SEC = 300; // Health check interval, 5min
     public static final int VIBRATION_FILTER_SEC = 5; // Absorb duplicate vibration events for xx sec
 
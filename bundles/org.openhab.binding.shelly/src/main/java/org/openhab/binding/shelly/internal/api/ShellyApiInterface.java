@@ -35,6 +35,14 @@ import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 public interface ShellyApiInterface extends ShellyDiscoveryInterface {
     boolean isInitialized();
 
+    /**
+     * Check if the device pushes its status changes over a live connection, in which case regular status polls are
+     * not required.
+     *
+     * @return true if status updates are pushed and the connection is not stale
+     */
+    boolean isStatusPushActive();
+
     void setConfig(String thingName, ShellyThingConfiguration config);
 
     ShellySettingsStatus getStatus() throws ShellyApiException;
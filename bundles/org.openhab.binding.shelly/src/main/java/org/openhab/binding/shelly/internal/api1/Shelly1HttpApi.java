@@ -158,6 +158,12 @@ public class Shelly1HttpApi extends ShellyHttpClient implements ShellyApiInterfa
         return profile.initialized;
     }
 
+    @Override
+    public boolean isStatusPushActive() {
+        // CoIoT updates are not reliable enough to skip the status polls
+        return false;
+    }
+
     /**
      * Get generic device settings/status. Json returned from API will be mapped to a Gson object
      *
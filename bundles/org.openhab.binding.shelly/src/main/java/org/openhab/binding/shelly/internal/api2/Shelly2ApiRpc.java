@@ -114,6 +114,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     protected final boolean alwaysOn;
     private @Nullable Shelly2RpcSocket rpcSocket;
     private @Nullable Shelly2AuthChallenge authInfo;
+    private volatile long lastPushMillis = 0;
     private final WebSocketClient client;
     private final ScheduledExecutorService scheduler;
 
@@ -156,6 +157,13 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
         return initialized;
     }
 
+    @Override
+    public boolean isStatusPushActive() {
+        Shelly2RpcSocket rpcSocket = this.rpcSocket;
+        return rpcSocket != null && rpcSocket.isConnected()
+                && System.currentTimeMillis() - lastPushMillis < UPDATE_PUSH_STALE_SECONDS * 1000L;
+    }
+
     @Override
     public void startScan() {
         try {
@@ -616,6 +624,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
             return;
         }
 
+        lastPushMillis = System.currentTimeMillis();
         getThing().incProtMessages();
         if (message.error != null) {
             if (message.error.code == HttpStatus.UNAUTHORIZED_401 && !getString(message.error.message).isEmpty()) {
@@ -671,6 +680,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
         ShellyDeviceProfile profile = getProfile();
         Shelly2RpcNotifyEvent message = fromJson(gson, eventJSON, Shelly2RpcNotifyEvent.class);
 
+        lastPushMillis = System.currentTimeMillis();
         getThing().incProtMessages();
         getThing().restartWatchdog();
 
@@ -749,6 +759,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onPong() {
+        lastPushMillis = System.currentTimeMillis();
         ShellyThingInterface thing;
         synchronized (this) {
             thing = this.thing;
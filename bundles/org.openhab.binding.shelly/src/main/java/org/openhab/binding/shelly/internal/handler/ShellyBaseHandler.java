@@ -128,7 +128,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
     private boolean refreshSettings = false;
-    private @Nullable ScheduledFuture<?> statusJob;
+    private double lastStatusPoll = 0;
     private @Nullable ScheduledFuture<?> initJob;
 
     /**
@@ -554,7 +554,8 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             }
 
             skipUpdate++;
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            if (refreshSettings || (scheduledUpdates > 0) || isStatusPollDue()) {
+                lastStatusPoll = now();
                 ThingStatus thingStatus = getThing().getStatus();
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (getThingStatusDetail() == ThingStatusDetail.CONFIGURATION_PENDING)) {
@@ -606,6 +607,19 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
     }
 
+    /**
+     * Regular polls are skipped while the device pushes its status over the WebSocket, except for a slow
+     * reconciliation poll to refresh values that are not part of the notifications (e.g. WiFi RSSI).
+     *
+     * @return true if the regular status poll is due
+     */
+    private boolean isStatusPollDue() {
+        if (skipUpdate % skipCount != 0) {
+            return false;
+        }
+        return !api.isStatusPushActive() || (now() - lastStatusPoll >= UPDATE_PUSH_RECONCILE_SECONDS);
+    }
+
     private void checkRangeExtender(ShellyDeviceProfile prf) {
         if (getBool(prf.settings.rangeExtender) && config.enableRangeExtender && prf.status.rangeExtender != null
                 && prf.status.rangeExtender.apClients != null) {
@@ -1198,10 +1212,10 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
      * Start the background updates
      */
     protected void startUpdateJob() {
-        ScheduledFuture<?> statusJob = this.statusJob;
-        if ((statusJob == null) || statusJob.isCancelled()) {
-            this.statusJob = scheduler.scheduleWithFixedDelay(this::refreshStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
-                    TimeUnit.SECONDS);
+        ShellyStatusPoller poller = thingTable.getStatusPoller();
+        if (!poller.isRegistered(getUID())) {
+            String localInterface = !config.localIp.isEmpty() ? config.localIp : bindingConfig.localIP;
+            poller.register(getUID(), localInterface, this::refreshStatus);
             logger.debug("{}: Update status job started, interval={}*{}={}sec.", thingName, skipCount,
                     UPDATE_STATUS_INTERVAL_SECONDS, skipCount * UPDATE_STATUS_INTERVAL_SECONDS);
         }
@@ -1545,10 +1559,8 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             job.cancel(true);
             initJob = null;
         }
-        job = this.statusJob;
-        if (job != null) {
-            job.cancel(true);
-            statusJob = null;
+        if (thingTable.getStatusPoller().isRegistered(getUID())) {
+            thingTable.getStatusPoller().unregister(getUID());
             logger.debug("{}: Shelly statusJob stopped", thingName);
         }
         api.close();
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ShellyStatusPoller} drives the status updates of all things from a single timer rather than one timer
+ * per thing.
+ * <p>
+ * Each registered thing is assigned a random slot within the status update cycle, so the HTTP requests are spread
+ * over the interval instead of being fired in bursts. The number of updates running at the same time is limited per
+ * local interface; an update that can't get a permit is retried in the next slot.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyStatusPoller {
+    private final Logger logger = LoggerFactory.getLogger(ShellyStatusPoller.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor workers;
+    private final int slotsPerInterval;
+    private final int maxConcurrentPolls;
+    private final Map<String, PollEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> interfacePermits = new ConcurrentHashMap<>();
+
+    // All access must be guarded by "this"
+    private @Nullable ScheduledFuture<?> tickJob;
+
+    // Only accessed by the tick job, which never runs concurrently
+    private long tick = 0;
+
+    /**
+     * @param scheduler scheduler for the timer
+     * @param workers executor running the status updates
+     * @param maxConcurrentPolls max number of updates running at the same time per local interface
+     */
+    public ShellyStatusPoller(ScheduledExecutorService scheduler, Executor workers, int maxConcurrentPolls) {
+        this.scheduler = scheduler;
+        this.workers = workers;
+        this.slotsPerInterval = Math.max(1, UPDATE_STATUS_INTERVAL_SECONDS * 1000 / UPDATE_POLL_SLOT_MS);
+        this.maxConcurrentPolls = Math.max(1, maxConcurrentPolls);
+    }
+
+    /**
+     * Register a thing for periodic status updates, replacing a previous registration with the same key.
+     *
+     * @param key unique key of the thing, e.g. the thing UID
+     * @param interfaceKey local interface used to reach the device
+     * @param update status update, called once per cycle
+     */
+    public void register(String key, String interfaceKey, Runnable update) {
+        register(key, interfaceKey, update, ThreadLocalRandom.current().nextInt(slotsPerInterval));
+    }
+
+    void register(String key, String interfaceKey, Runnable update, int slot) {
+        PollEntry entry = new PollEntry(key, interfaceKey, update, slot % slotsPerInterval);
+        entries.put(key, entry);
+        logger.debug("{}: Status updates registered (slot {}/{}, {} things)", key, entry.slot, slotsPerInterval,
+                entries.size());
+        synchronized (this) {
+            if (tickJob == null) {
+                tickJob = scheduler.scheduleWithFixedDelay(this::tick, UPDATE_POLL_SLOT_MS, UPDATE_POLL_SLOT_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void unregister(String key) {
+        if (entries.remove(key) != null) {
+            logger.debug("{}: Status updates unregistered", key);
+        }
+        synchronized (this) {
+            ScheduledFuture<?> tickJob = this.tickJob;
+            if (tickJob != null && entries.isEmpty()) {
+                tickJob.cancel(false);
+                this.tickJob = null;
+            }
+        }
+    }
+
+    public boolean isRegistered(String key) {
+        return entries.containsKey(key);
+    }
+
+    public void dispose() {
+        entries.clear();
+        synchronized (this) {
+            ScheduledFuture<?> tickJob = this.tickJob;
+            if (tickJob != null) {
+                tickJob.cancel(true);
+                this.tickJob = null;
+            }
+        }
+    }
+
+    private void tick() {
+        int slot = (int) (tick++ % slotsPerInterval);
+        for (PollEntry entry : entries.values()) {
+            if (entry.slot == slot || entry.deferred) {
+                submit(entry);
+            }
+        }
+    }
+
+    private void submit(PollEntry entry) {
+        if (!entry.running.compareAndSet(false, true)) {
+            // previous update still in progress, skip this cycle
+            entry.deferred = false;
+            return;
+        }
+        Semaphore permits = interfacePermits.computeIfAbsent(entry.interfaceKey,
+                k -> new Semaphore(maxConcurrentPolls));
+        if (!permits.tryAcquire()) {
+            entry.running.set(false);
+            entry.deferred = true;
+            return;
+        }
+        entry.deferred = false;
+        try {
+            workers.execute(() -> {
+                try {
+                    entry.update.run();
+                } catch (RuntimeException e) {
+                    logger.debug("{}: Status update failed", entry.key, e);
+                } finally {
+                    permits.release();
+                    entry.running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("{}: Status update rejected: {}", entry.key, e.getMessage());
+            permits.release();
+            entry.running.set(false);
+        }
+    }
+
+    private static class PollEntry {
+        private final String key;
+        private final String interfaceKey;
+        private final Runnable update;
+        private final int slot;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private volatile boolean deferred = false;
+
+        private PollEntry(String key, String interfaceKey, Runnable update, int slot) {
+            this.key = key;
+            this.interfaceKey = interfaceKey;
+            this.update = update;
+            this.slot = slot;
+        }
+    }
+}
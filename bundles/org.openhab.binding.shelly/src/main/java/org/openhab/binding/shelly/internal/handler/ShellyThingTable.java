@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.shelly.internal.handler;
 
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.UPDATE_MAX_CONCURRENT_POLLS;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +21,7 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.shelly.internal.discovery.ShellyBasicDiscoveryService;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.thing.ThingTypeUID;
 import org.osgi.framework.BundleContext;
@@ -45,6 +48,10 @@ public class ShellyThingTable {
     // All access must be guarded by "this"
     private @Nullable ShellyBasicDiscoveryService discoveryService;
 
+    private final ShellyStatusPoller statusPoller = new ShellyStatusPoller(
+            ThreadPoolManager.getScheduledPool("thingHandler"), ThreadPoolManager.getPool("shelly.status"),
+            UPDATE_MAX_CONCURRENT_POLLS);
+
     public synchronized @Nullable ShellyThingInterface addThing(String key, ShellyThingInterface thing) {
         return table.put(key, thing);
     }
@@ -86,6 +93,15 @@ public class ShellyThingTable {
         return table.size();
     }
 
+    /**
+     * Get the poller driving the status updates of all things.
+     *
+     * @return the shared {@link ShellyStatusPoller}
+     */
+    public ShellyStatusPoller getStatusPoller() {
+        return statusPoller;
+    }
+
     /**
      * Start the discovery service by registering the service with OSGi.
      *
@@ -146,6 +162,7 @@ public class ShellyThingTable {
 
     @Deactivate
     public void deactivate() {
+        statusPoller.dispose();
         stopDiscoveryService();
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for {@link ShellyStatusPoller}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyStatusPollerTest {
+    private static final int SLOTS = UPDATE_STATUS_INTERVAL_SECONDS * 1000 / UPDATE_POLL_SLOT_MS;
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> tickJob = mock(ScheduledFuture.class);
+    private final Deque<Runnable> workers = new ArrayDeque<>();
+    private @Nullable Runnable tick;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(tickJob).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void thingIsUpdatedOncePerCycleInItsSlot() {
+        ShellyStatusPoller poller = new ShellyStatusPoller(scheduler, Runnable::run, 2);
+        AtomicInteger updates = new AtomicInteger();
+        poller.register("thing", "eth0", updates::incrementAndGet, 3);
+        Runnable tick = captureTick();
+
+        for (int i = 0; i < 3; i++) {
+            tick.run();
+        }
+        assertThat(updates.get(), is(0));
+        tick.run();
+        assertThat(updates.get(), is(1));
+
+        for (int i = 0; i < SLOTS - 1; i++) {
+            tick.run();
+        }
+        assertThat(updates.get(), is(1));
+        tick.run();
+        assertThat(updates.get(), is(2));
+    }
+
+    @Test
+    void updateWithoutPermitIsDeferredToTheNextSlot() {
+        ShellyStatusPoller poller = new ShellyStatusPoller(scheduler, workers::add, 1);
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        poller.register("first", "eth0", first::incrementAndGet, 0);
+        poller.register("second", "eth0", second::incrementAndGet, 0);
+        Runnable tick = captureTick();
+
+        // only one update per interface may run, the other one waits for the permit
+        tick.run();
+        assertThat(workers.size(), is(1));
+        tick.run();
+        assertThat(workers.size(), is(1));
+
+        runWorkers();
+        tick.run();
+        assertThat(workers.size(), is(1));
+        runWorkers();
+        assertThat(first.get(), is(1));
+        assertThat(second.get(), is(1));
+
+        // nothing left for the rest of the cycle
+        tick.run();
+        assertThat(workers.size(), is(0));
+    }
+
+    @Test
+    void interfacesHaveTheirOwnPermits() {
+        ShellyStatusPoller poller = new ShellyStatusPoller(scheduler, workers::add, 1);
+        poller.register("first", "eth0", () -> {
+        }, 0);
+        poller.register("second", "wlan0", () -> {
+        }, 0);
+        captureTick().run();
+
+        assertThat(workers.size(), is(2));
+    }
+
+    @Test
+    void runningUpdateIsSkippedInItsNextSlot() {
+        ShellyStatusPoller poller = new ShellyStatusPoller(scheduler, workers::add, 1);
+        AtomicInteger updates = new AtomicInteger();
+        poller.register("thing", "eth0", updates::incrementAndGet, 0);
+        Runnable tick = captureTick();
+
+        tick.run();
+        for (int i = 0; i < SLOTS; i++) {
+            tick.run();
+        }
+        assertThat(workers.size(), is(1));
+
+        runWorkers();
+        assertThat(updates.get(), is(1));
+        for (int i = 0; i < SLOTS; i++) {
+            tick.run();
+        }
+        assertThat(workers.size(), is(1));
+    }
+
+    @Test
+    void timerIsStoppedWhenTheLastThingIsUnregistered() {
+        ShellyStatusPoller poller = new ShellyStatusPoller(scheduler, workers::add, 1);
+        poller.register("first", "eth0", () -> {
+        });
+        poller.register("second", "eth0", () -> {
+        });
+        verify(scheduler, times(1)).scheduleWithFixedDelay(any(), eq((long) UPDATE_POLL_SLOT_MS),
+                eq((long) UPDATE_POLL_SLOT_MS), eq(TimeUnit.MILLISECONDS));
+
+        poller.unregister("first");
+        verify(tickJob, never()).cancel(anyBoolean());
+        assertThat(poller.isRegistered("second"), is(true));
+
+        poller.unregister("second");
+        verify(tickJob).cancel(false);
+        assertThat(poller.isRegistered("second"), is(false));
+    }
+
+    private Runnable captureTick() {
+        Runnable tick = this.tick;
+        if (tick == null) {
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).scheduleWithFixedDelay(captor.capture(), anyLong(), anyLong(), any());
+            tick = captor.getValue();
+            this.tick = tick;
+        }
+        return tick;
+    }
+
+    private void runWorkers() {
+        Runnable worker;
+        while ((worker = workers.poll()) != null) {
+            worker.run();
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.binding.sonos.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
 import java.text.MessageFormat;
@@ -63,6 +64,14 @@ public class SonosXMLParser {
             </DIDL-Lite>\
             """;
 
+    private static final String DISALLOW_DOCTYPE_FEATURE = "http://apache.org/xml/features/disallow-doctype-decl";
+
+    // Parsers are expensive to create and not thread-safe, so each thread keeps its own and resets it after use
+    private static final ThreadLocal<@Nullable SAXParser> PARSERS = new ThreadLocal<>();
+    private static final ThreadLocal<@Nullable SAXParser> SECURE_PARSERS = new ThreadLocal<>();
+    private static @Nullable SAXParserFactory parserFactory;
+    private static @Nullable SAXParserFactory secureParserFactory;
+
     private enum Element {
         TITLE,
         CLASS,
@@ -88,6 +97,47 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Parses the given source with a parser of the current thread.
+     *
+     * The parser is taken out of the cache for the duration of the parse, so a handler that parses a nested document
+     * (e.g. the resource meta data of an entry) gets a parser of its own.
+     *
+     * @param source the source to parse
+     * @param handler the handler receiving the parse events
+     * @param disallowDoctype true if documents with a DOCTYPE declaration must be rejected
+     */
+    private static void parse(InputSource source, DefaultHandler handler, boolean disallowDoctype)
+            throws IOException, SAXException, ParserConfigurationException {
+        ThreadLocal<@Nullable SAXParser> parsers = disallowDoctype ? SECURE_PARSERS : PARSERS;
+        SAXParser saxParser = parsers.get();
+        parsers.remove();
+        if (saxParser == null) {
+            saxParser = newParser(disallowDoctype);
+        }
+        try {
+            saxParser.parse(source, handler);
+        } finally {
+            saxParser.reset();
+            parsers.set(saxParser);
+        }
+    }
+
+    private static synchronized SAXParser newParser(boolean disallowDoctype)
+            throws SAXException, ParserConfigurationException {
+        SAXParserFactory factory = disallowDoctype ? secureParserFactory : parserFactory;
+        if (factory == null) {
+            factory = SAXParserFactory.newInstance();
+            if (disallowDoctype) {
+                factory.setFeature(DISALLOW_DOCTYPE_FEATURE, true);
+                secureParserFactory = factory;
+            } else {
+                parserFactory = factory;
+            }
+        }
+        return factory.newSAXParser();
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -95,9 +145,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Alarms from string '{}'", xml);
         }
@@ -111,9 +159,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Entries from string '{}'", xml);
         }
@@ -132,12 +178,9 @@ public class SonosXMLParser {
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml)
             throws SAXException, ParserConfigurationException {
-        SAXParserFactory factory = SAXParserFactory.newInstance();
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        SAXParser saxParser = factory.newSAXParser();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
         try {
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, true);
         } catch (IOException | SAXException e) {
             LOGGER.warn("Could not parse Resource MetaData from string '{}'", xml);
         }
@@ -151,9 +194,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse ZoneGroup from string '{}'", xml);
         }
@@ -164,9 +205,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse RadioTime from string '{}'", xml);
         }
@@ -177,9 +216,7 @@ public class SonosXMLParser {
     public static Map<String, String> getRenderingControlFromXML(String xml) {
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Rendering Control from string '{}'", xml);
         }
@@ -189,9 +226,7 @@ public class SonosXMLParser {
     public static Map<String, String> getAVTransportFromXML(String xml) {
         AVTransportEventHandler handler = new AVTransportEventHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse AV Transport from string '{}'", xml);
         }
@@ -201,9 +236,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse MetaData from string '{}'", xml);
         }
@@ -214,9 +247,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(new StringReader(xml)), handler);
+            parse(new InputSource(new StringReader(xml)), handler, false);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse music services from string '{}'", xml);
         }
@@ -915,9 +946,9 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(URL descriptorURL) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), roomNameHandler);
+            try (InputStream stream = descriptorURL.openStream()) {
+                parse(new InputSource(stream), roomNameHandler, false);
+            }
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos room name from URL '{}'", descriptorURL);
         } catch (IOException e) {
@@ -955,9 +986,9 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            SAXParser saxParser = factory.newSAXParser();
-            saxParser.parse(new InputSource(descriptorURL.openStream()), modelNameHandler);
+            try (InputStream stream = descriptorURL.openStream()) {
+                parse(new InputSource(stream), modelNameHandler, false);
+            }
         } catch (SAXException | ParserConfigurationException e) {
             LOGGER.warn("Could not parse Sonos model name from URL '{}'", descriptorURL);
         } catch (IOException e) {
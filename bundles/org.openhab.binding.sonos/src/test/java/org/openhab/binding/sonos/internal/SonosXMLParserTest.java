@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -104,6 +105,60 @@ public class SonosXMLParserTest {
                 sonosMetaData.getAlbumArtUri());
     }
 
+    @Test
+    public void getAVTransportFromXML() throws IOException {
+        InputStream resourceStream = getClass().getResourceAsStream("/AVTransportLastChange.xml");
+        assertNotNull(resourceStream);
+        final String xml = new String(resourceStream.readAllBytes(), StandardCharsets.UTF_8);
+        // the parsers are reused, so a failed parse must not affect the following ones
+        assertTrue(SonosXMLParser.getAVTransportFromXML("<Event><InstanceID").isEmpty());
+        for (int i = 0; i < 2; i++) {
+            Map<String, String> changes = SonosXMLParser.getAVTransportFromXML(xml);
+            assertEquals("PLAYING", changes.get("TransportState"));
+            assertEquals("12", changes.get("CurrentTrack"));
+            assertEquals("x-rincon-playlist:RINCON_000E582126EE01400#A:ALBUMARTIST/Queens%20Of%20The%20Stone%20Age",
+                    changes.get("EnqueuedTransportURI"));
+
+            String metaData = changes.get("CurrentTrackMetaData");
+            assertNotNull(metaData);
+            SonosMetaData sonosMetaData = SonosXMLParser.getMetaDataFromXML(metaData);
+            assertEquals("Broken Box", sonosMetaData.getTitle());
+            assertEquals("Lullabies To Paralyze", sonosMetaData.getAlbum());
+        }
+    }
+
+    @Test
+    public void getEntriesFromStringWithResourceMetaData() {
+        String xml = """
+                <DIDL-Lite xmlns:dc="http://purl.org/dc/elements/1.1/" \
+                xmlns:upnp="urn:schemas-upnp-org:metadata-1-0/upnp/" \
+                xmlns:r="urn:schemas-rinconnetworks-com:metadata-1-0/" \
+                xmlns="urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/">\
+                <item id="FV:2/1" parentID="FV:2" restricted="false">\
+                <dc:title>Radio</dc:title><upnp:class>object.itemobject.item.sonos-favorite</upnp:class>\
+                <res protocolInfo="x-rincon-mp3radio:*:*:*">x-rincon-mp3radio://radio</res>\
+                <r:resMD>&lt;DIDL-Lite xmlns:dc=&quot;http://purl.org/dc/elements/1.1/&quot; \
+                xmlns=&quot;urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/&quot;&gt;\
+                &lt;item id=&quot;R:0/0/0&quot; parentID=&quot;R:0/0&quot; restricted=&quot;true&quot;&gt;\
+                &lt;dc:title&gt;Radio&lt;/dc:title&gt;\
+                &lt;desc id=&quot;cdudn&quot;&gt;SA_RINCON65031_&lt;/desc&gt;&lt;/item&gt;&lt;/DIDL-Lite&gt;</r:resMD>\
+                </item>\
+                <item id="FV:2/2" parentID="FV:2" restricted="false">\
+                <dc:title>Album</dc:title><upnp:class>object.itemobject.item.sonos-favorite</upnp:class>\
+                <res protocolInfo="x-rincon-playlist:*:*:*">x-rincon-playlist:album</res>\
+                </item>\
+                </DIDL-Lite>\
+                """;
+        // the resource meta data is parsed while the entries are being parsed on the same thread
+        List<SonosEntry> entries = SonosXMLParser.getEntriesFromString(xml);
+        assertEquals(2, entries.size());
+        assertEquals("Radio", entries.get(0).getTitle());
+        SonosResourceMetaData resourceMetaData = entries.get(0).getResourceMetaData();
+        assertNotNull(resourceMetaData);
+        assertEquals("SA_RINCON65031_", resourceMetaData.getDesc());
+        assertEquals("Album", entries.get(1).getTitle());
+    }
+
     @Test
     public void compileMetadataString() {
         SonosEntry sonosEntry = new SonosEntry("1", "Can't Buy Me Love", "0", "A Hard Day's Night", "", "",
@@ -39,6 +39,10 @@ public class UniFiControllerThingConfig {
 
     private boolean unifios = false;
 
+    private boolean eventStream = false;
+
+    private int reconciliationInterval = 600;
+
     public String getHost() {
         return host;
     }
@@ -101,6 +105,24 @@ public class UniFiControllerThingConfig {
         this.unifios = unifios;
     }
 
+    public boolean isEventStream() {
+        return eventStream;
+    }
+
+    private void setEventStream(final boolean eventStream) {
+        // method to avoid ide auto format mark the field as final
+        this.eventStream = eventStream;
+    }
+
+    public int getReconciliationInterval() {
+        return reconciliationInterval;
+    }
+
+    private void setReconciliationInterval(final int reconciliationInterval) {
+        // method to avoid ide auto format mark the field as final
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
     public boolean isValid() {
         return !host.isBlank() && !username.isBlank() && !password.isBlank();
     }
@@ -109,6 +131,7 @@ public class UniFiControllerThingConfig {
     public String toString() {
         return "UniFiControllerConfig{host = " + host + ", port = " + port + ", username = " + username
                 + ", password = *****, refresh = " + refresh + ", timeout = " + timeoutSeconds + ", unifios = "
-                + unifios + "}";
+                + unifios + ", eventStream = " + eventStream + ", reconciliationInterval = " + reconciliationInterval
+                + "}";
     }
 }
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.unifi.internal.api;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream.ClientEvent;
 import org.openhab.binding.unifi.internal.api.cache.UniFiControllerCache;
 import org.openhab.binding.unifi.internal.api.dto.UnfiPortOverrideJsonObject;
 import org.openhab.binding.unifi.internal.api.dto.UniFiClient;
@@ -57,6 +59,7 @@ import com.google.gson.JsonObject;
  * @author Jacob Laursen - Fix online/blocked channels (broken by UniFi Controller 5.12.35)
  * @author Hilbrand Bouwkamp - Added POEPort support, moved generic cache related code to cache object
  * @author Mark Herwege - Added guest vouchers
+ * @author agent - Client updates from the event stream
  */
 @NonNullByDefault
 public class UniFiController {
@@ -151,14 +154,30 @@ public class UniFiController {
     }
 
     public void refresh() throws UniFiException {
+        refresh(true);
+    }
+
+    /**
+     * Requests the data of the controller.
+     *
+     * @param clients false to keep the cached clients and insights, if they are kept up to date by the
+     *            {@link UniFiEventStream}
+     */
+    public void refresh(final boolean clients) throws UniFiException {
         synchronized (this) {
-            cache.clear();
+            if (clients) {
+                cache.clear();
+            } else {
+                cache.clearResources();
+            }
             final Collection<UniFiSite> sites = refreshSites();
             refreshNetworks(sites);
             refreshWlans(sites);
             refreshDevices(sites);
-            refreshClients(sites);
-            refreshInsights(sites);
+            if (clients) {
+                refreshClients(sites);
+                refreshInsights(sites);
+            }
             refreshVouchers(sites);
         }
     }
@@ -167,6 +186,49 @@ public class UniFiController {
         return cache;
     }
 
+    /**
+     * Applies a client event of the {@link UniFiEventStream} to the cache.
+     *
+     * @param event the event
+     * @return false if the event is for a client that is not known yet, it must be requested with
+     *         {@link #refreshClient(UniFiSite, String)}
+     */
+    public boolean handleClientEvent(final ClientEvent event) {
+        synchronized (this) {
+            switch (event.type()) {
+                case CONNECTED:
+                case ROAMED:
+                    return cache.clientConnected(event.mac(), event.time(), event.deviceMac(), event.essid());
+                case DISCONNECTED:
+                    cache.clientDisconnected(event.mac(), event.time());
+                    return true;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * Requests a single client from the controller.
+     *
+     * @param site the site of the client
+     * @param mac the mac address of the client
+     */
+    public void refreshClient(final UniFiSite site, final String mac) throws UniFiException {
+        synchronized (this) {
+            cache.putClients(getClient(site, mac));
+        }
+    }
+
+    /**
+     * Marks all connected clients as seen now, instead of requesting them from the controller.
+     */
+    public void touchClients() {
+        synchronized (this) {
+            cache.touchClients(Instant.now());
+        }
+    }
+
     public @Nullable UniFiSwitchPorts getSwitchPorts(@Nullable final String deviceId) {
         return cache.getSwitchPorts(deviceId);
     }
@@ -373,6 +435,12 @@ public class UniFiController {
         return executeRequest(req);
     }
 
+    private UniFiClient @Nullable [] getClient(final UniFiSite site, final String mac) throws UniFiException {
+        final UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class, HttpMethod.GET, gson);
+        req.setAPIPath(String.format("/api/s/%s/stat/sta/%s", site.getName(), mac));
+        return executeRequest(req);
+    }
+
     private void refreshVouchers(final Collection<UniFiSite> sites) throws UniFiException {
         for (final UniFiSite site : sites) {
             cache.putVouchers(getVouchers(site));
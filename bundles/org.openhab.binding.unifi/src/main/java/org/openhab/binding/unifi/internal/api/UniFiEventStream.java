@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WebSocketAdapter;
+import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiSite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link UniFiEventStream} subscribes to the event websocket of the UniFi controller for each site and reports
+ * the connect, disconnect and roam events of clients to a {@link Listener}.
+ *
+ * The websocket uses the session of the {@link UniFiController}, so it must be connected after the login.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiEventStream {
+
+    /**
+     * Receives the client events of the stream.
+     */
+    public interface Listener {
+        void onClientEvent(UniFiSite site, ClientEvent event);
+    }
+
+    /**
+     * The type of a client event.
+     */
+    public enum ClientEventType {
+        CONNECTED,
+        DISCONNECTED,
+        ROAMED
+    }
+
+    /**
+     * A client event.
+     *
+     * @param type the type of the event
+     * @param mac the mac address of the client, lower case
+     * @param time the time the event was received
+     * @param deviceMac the mac address of the access point or switch the client is connected to, if known
+     * @param essid the ESSID a wireless client is connected to, if known
+     */
+    public record ClientEvent(ClientEventType type, String mac, Instant time, @Nullable String deviceMac,
+            @Nullable String essid) {
+    }
+
+    private static final Map<String, ClientEventType> EVENT_TYPES = Map.of( //
+            "EVT_WU_Connected", ClientEventType.CONNECTED, //
+            "EVT_WG_Connected", ClientEventType.CONNECTED, //
+            "EVT_LU_Connected", ClientEventType.CONNECTED, //
+            "EVT_WU_Disconnected", ClientEventType.DISCONNECTED, //
+            "EVT_WG_Disconnected", ClientEventType.DISCONNECTED, //
+            "EVT_LU_Disconnected", ClientEventType.DISCONNECTED, //
+            "EVT_WU_Roam", ClientEventType.ROAMED, //
+            "EVT_WG_Roam", ClientEventType.ROAMED);
+
+    private final Logger logger = LoggerFactory.getLogger(UniFiEventStream.class);
+
+    private final HttpClient httpClient;
+    private final String host;
+    private final int port;
+    private final boolean unifios;
+    private final Listener listener;
+    private final Map<String, SiteSocket> sockets = new ConcurrentHashMap<>();
+
+    /* All access must be guarded by "this" */
+    private @Nullable WebSocketClient webSocketClient;
+
+    public UniFiEventStream(final HttpClient httpClient, final String host, final int port, final boolean unifios,
+            final Listener listener) {
+        this.httpClient = httpClient;
+        this.host = host;
+        this.port = port;
+        this.unifios = unifios;
+        this.listener = listener;
+    }
+
+    /**
+     * Connects the websocket of each site that is not connected yet.
+     *
+     * @param sites the sites of the controller
+     */
+    public void connect(final Collection<UniFiSite> sites) {
+        final WebSocketClient client;
+        synchronized (this) {
+            client = startClient();
+        }
+        if (client == null) {
+            return;
+        }
+        for (final UniFiSite site : sites) {
+            final SiteSocket existing = sockets.get(site.getName());
+
+            if (existing == null || !existing.isConnecting()) {
+                final SiteSocket socket = new SiteSocket(site);
+
+                sockets.put(site.getName(), socket);
+                socket.connect(client);
+            }
+        }
+    }
+
+    /**
+     * @return true if the websockets of all sites are connected
+     */
+    public boolean isConnected() {
+        return !sockets.isEmpty() && sockets.values().stream().allMatch(SiteSocket::isOpen);
+    }
+
+    public void stop() {
+        sockets.values().forEach(SiteSocket::close);
+        sockets.clear();
+        synchronized (this) {
+            final WebSocketClient client = webSocketClient;
+
+            webSocketClient = null;
+            if (client != null) {
+                try {
+                    client.stop();
+                } catch (final Exception e) {
+                    logger.debug("Error stopping the UniFi event stream", e);
+                }
+            }
+        }
+    }
+
+    private @Nullable WebSocketClient startClient() {
+        WebSocketClient client = webSocketClient;
+
+        if (client == null) {
+            client = new WebSocketClient(httpClient);
+            // the http client is shared with the controller and must not be stopped with the websocket client
+            client.unmanage(httpClient);
+            try {
+                client.start();
+            } catch (final Exception e) {
+                logger.debug("Could not start the UniFi event stream: {}", e.getMessage());
+                return null;
+            }
+            webSocketClient = client;
+        }
+        return client;
+    }
+
+    private String sitePath(final UniFiSite site) {
+        return (unifios ? "/proxy/network" : "") + "/wss/s/" + site.getName() + "/events";
+    }
+
+    /**
+     * Parses the client events of a message of the event websocket.
+     *
+     * @param message the message
+     * @param time the time the message was received
+     * @return the client events of the message, the other events are skipped
+     * @throws JsonParseException if the message is not valid JSON
+     * @throws IllegalStateException if the message is not a JSON object
+     * @throws ClassCastException if the meta or data member of the message has an unexpected type
+     */
+    static List<ClientEvent> parseMessage(final String message, final Instant time) {
+        final JsonObject json = JsonParser.parseString(message).getAsJsonObject();
+        final JsonObject meta = json.getAsJsonObject("meta");
+        final JsonArray data = json.getAsJsonArray("data");
+
+        if (meta == null || data == null || !"events".equals(getString(meta, "message"))) {
+            return List.of();
+        }
+        final List<ClientEvent> events = new ArrayList<>();
+        for (final JsonElement element : data) {
+            if (element.isJsonObject()) {
+                final ClientEvent event = parseEvent(element.getAsJsonObject(), time);
+
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private static @Nullable ClientEvent parseEvent(final JsonObject event, final Instant time) {
+        final String key = getString(event, "key");
+        final ClientEventType type = key == null ? null : EVENT_TYPES.get(key);
+        final String mac = getString(event, "user");
+
+        if (type == null || mac == null || mac.isBlank()) {
+            return null;
+        }
+        String deviceMac;
+        if (type == ClientEventType.ROAMED) {
+            deviceMac = getString(event, "ap_to");
+        } else {
+            // wireless clients connect to an access point, wired clients to a switch
+            deviceMac = getString(event, "ap");
+            if (deviceMac == null) {
+                deviceMac = getString(event, "sw");
+            }
+        }
+        return new ClientEvent(type, tidy(mac), time, deviceMac == null ? null : tidy(deviceMac),
+                getString(event, "ssid"));
+    }
+
+    private static @Nullable String getString(final JsonObject json, final String member) {
+        final JsonElement element = json.get(member);
+
+        return element == null || !element.isJsonPrimitive() ? null : element.getAsString();
+    }
+
+    private static String tidy(final String mac) {
+        return mac.trim().toLowerCase();
+    }
+
+    private class SiteSocket extends WebSocketAdapter {
+        private final UniFiSite site;
+        private volatile boolean connecting = true;
+
+        private SiteSocket(final UniFiSite site) {
+            this.site = site;
+        }
+
+        private void connect(final WebSocketClient client) {
+            final String path = sitePath(site);
+            final ClientUpgradeRequest request = new ClientUpgradeRequest();
+
+            // the session cookie is stored for the https uri of the controller
+            request.setCookies(httpClient.getCookieStore().get(URI.create("https://" + host + ":" + port + path)));
+            try {
+                client.connect(this, URI.create("wss://" + host + ":" + port + path), request);
+            } catch (final Exception e) {
+                logger.debug("Could not connect the event stream of site {}: {}", site.getName(), e.getMessage());
+                connecting = false;
+            }
+        }
+
+        private boolean isConnecting() {
+            return connecting || isOpen();
+        }
+
+        private boolean isOpen() {
+            final Session session = getSession();
+
+            return session != null && session.isOpen();
+        }
+
+        private void close() {
+            final Session session = getSession();
+
+            connecting = false;
+            if (session != null) {
+                session.close();
+            }
+        }
+
+        @Override
+        public void onWebSocketConnect(final @Nullable Session session) {
+            super.onWebSocketConnect(session);
+            connecting = false;
+            logger.debug("Event stream of site {} connected", site.getName());
+        }
+
+        @Override
+        public void onWebSocketClose(final int statusCode, final @Nullable String reason) {
+            super.onWebSocketClose(statusCode, reason);
+            connecting = false;
+            logger.debug("Event stream of site {} closed: {} {}", site.getName(), statusCode, reason);
+        }
+
+        @Override
+        public void onWebSocketError(final @Nullable Throwable cause) {
+            connecting = false;
+            logger.debug("Event stream of site {} failed: {}", site.getName(),
+                    cause == null ? null : cause.getMessage());
+        }
+
+        @Override
+        public void onWebSocketText(final @Nullable String message) {
+            if (message == null) {
+                return;
+            }
+            logger.trace("Event stream of site {}: {}", site.getName(), message);
+            try {
+                for (final ClientEvent event : parseMessage(message, Instant.now())) {
+                    listener.onClientEvent(site, event);
+                }
+            } catch (final JsonParseException | IllegalStateException | ClassCastException e) {
+                logger.debug("Could not parse event of site {}: {}", site.getName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -124,6 +124,10 @@ abstract class UniFiCache<T extends @Nullable HasId> {
         map.put(id, value);
     }
 
+    public final synchronized @Nullable T remove(final String id) {
+        return map.remove(id);
+    }
+
     private static String key(final Prefix prefix, final String suffix) {
         return prefix.name() + SEPARATOR + suffix.replace(":", "").toLowerCase(Locale.ROOT);
     }
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.unifi.internal.api.cache;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -30,6 +31,8 @@ import org.openhab.binding.unifi.internal.api.dto.UniFiPortTuple;
 import org.openhab.binding.unifi.internal.api.dto.UniFiSite;
 import org.openhab.binding.unifi.internal.api.dto.UniFiSwitchPorts;
 import org.openhab.binding.unifi.internal.api.dto.UniFiVoucher;
+import org.openhab.binding.unifi.internal.api.dto.UniFiWiredClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiWirelessClient;
 import org.openhab.binding.unifi.internal.api.dto.UniFiWlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +43,7 @@ import org.slf4j.LoggerFactory;
  * @author Matthew Bowman - Initial contribution
  * @author Hilbrand Bouwkamp - Moved cache to this dedicated class.
  * @author Mark Herwege - Added guest vouchers
+ * @author agent - Client updates from the event stream
  */
 @NonNullByDefault
 public class UniFiControllerCache {
@@ -56,12 +60,19 @@ public class UniFiControllerCache {
     private final Map<String, UniFiSwitchPorts> devicesToPortTables = new ConcurrentHashMap<>();
 
     public void clear() {
+        clearResources();
+        clientsCache.clear();
+        insightsCache.clear();
+    }
+
+    /**
+     * Clears everything but the clients and insights.
+     */
+    public void clearResources() {
         sitesCache.clear();
         networksCache.clear();
         wlansCache.clear();
         devicesCache.clear();
-        clientsCache.clear();
-        insightsCache.clear();
         vouchersCache.clear();
     }
 
@@ -191,6 +202,68 @@ public class UniFiControllerCache {
         return clientsCache.values().stream().filter(client -> client.getSite().equals(site));
     }
 
+    // Client events
+
+    /**
+     * Applies a connect or roam event of a client. A client that has been connected before is taken over from the
+     * insights.
+     *
+     * @param mac mac address of the client
+     * @param time time of the event
+     * @param deviceMac mac address of the access point or switch the client is connected to, if known
+     * @param essid ESSID a wireless client is connected to, if known
+     * @return false if the client is unknown
+     */
+    public synchronized boolean clientConnected(final String mac, final Instant time, final @Nullable String deviceMac,
+            final @Nullable String essid) {
+        UniFiClient client = clientsCache.get(mac);
+        if (client == null) {
+            client = insightsCache.get(mac);
+            if (client == null) {
+                return false;
+            }
+            clientsCache.put(client.getId(), client);
+        }
+        client.setLastSeen(time);
+        if (client instanceof UniFiWirelessClient wirelessClient) {
+            if (deviceMac != null) {
+                wirelessClient.setApMac(deviceMac);
+            }
+            if (essid != null) {
+                wirelessClient.setEssid(essid);
+            }
+        } else if (client instanceof UniFiWiredClient wiredClient && deviceMac != null) {
+            wiredClient.setSwMac(deviceMac);
+        }
+        return true;
+    }
+
+    /**
+     * Applies a disconnect event of a client. The client is moved to the insights, so it is reported as last seen at
+     * the time of the event.
+     *
+     * @param mac mac address of the client
+     * @param time time of the event
+     */
+    public synchronized void clientDisconnected(final String mac, final Instant time) {
+        final UniFiClient client = clientsCache.get(mac);
+        if (client != null) {
+            client.setLastSeen(time);
+            clientsCache.remove(client.getId());
+            insightsCache.put(client.getId(), client);
+        }
+    }
+
+    /**
+     * Marks all active clients as seen. Used instead of polling the clients while the disconnects are reported by
+     * events.
+     *
+     * @param time the time the clients were seen
+     */
+    public synchronized void touchClients(final Instant time) {
+        clientsCache.values().forEach(client -> client.setLastSeen(time));
+    }
+
     // Insights Cache
 
     public void putInsights(final UniFiClient @Nullable [] insights) {
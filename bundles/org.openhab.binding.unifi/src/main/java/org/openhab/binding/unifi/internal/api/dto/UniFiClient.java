@@ -96,6 +96,10 @@ public abstract class UniFiClient implements HasId {
         return lastSeen;
     }
 
+    public void setLastSeen(final Instant lastSeen) {
+        this.lastSeen = lastSeen;
+    }
+
     public boolean isBlocked() {
         return blocked;
     }
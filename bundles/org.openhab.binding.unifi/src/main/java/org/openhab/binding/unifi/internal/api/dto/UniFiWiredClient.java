@@ -38,4 +38,8 @@ public class UniFiWiredClient extends UniFiClient {
     public String getDeviceMac() {
         return swMac;
     }
+
+    public void setSwMac(final String swMac) {
+        this.swMac = swMac;
+    }
 }
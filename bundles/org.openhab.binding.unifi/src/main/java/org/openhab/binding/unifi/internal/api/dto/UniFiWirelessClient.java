@@ -47,10 +47,18 @@ public class UniFiWirelessClient extends UniFiClient {
         return apMac;
     }
 
+    public void setApMac(final String apMac) {
+        this.apMac = apMac;
+    }
+
     public String getEssid() {
         return essid;
     }
 
+    public void setEssid(final String essid) {
+        this.essid = essid;
+    }
+
     public Integer getRssi() {
         return rssi;
     }
@@ -29,10 +29,14 @@ import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.unifi.internal.UniFiControllerThingConfig;
 import org.openhab.binding.unifi.internal.api.UniFiCommunicationException;
 import org.openhab.binding.unifi.internal.api.UniFiController;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream.ClientEvent;
 import org.openhab.binding.unifi.internal.api.UniFiException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidCredentialsException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidHostException;
 import org.openhab.binding.unifi.internal.api.UniFiSSLException;
+import org.openhab.binding.unifi.internal.api.dto.UniFiClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiSite;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
@@ -51,6 +55,7 @@ import org.slf4j.LoggerFactory;
  * updates for the UniFi Controller.
  *
  * @author Matthew Bowman - Initial contribution
+ * @author agent - Client updates from the event stream
  */
 @NonNullByDefault
 public class UniFiControllerThingHandler extends BaseBridgeHandler {
@@ -69,6 +74,10 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private @Nullable ScheduledFuture<?> refreshJob;
 
+    private @Nullable UniFiEventStream eventStream;
+
+    private long nextReconciliation;
+
     private final HttpClient httpClient;
 
     public UniFiControllerThingHandler(final Bridge bridge, final HttpClient httpClient) {
@@ -91,6 +100,9 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
                 config.getUsername(), config.getPassword(), config.isUniFiOS(), config.getTimeoutSeconds());
 
         controller = uc;
+        eventStream = config.isEventStream() ? new UniFiEventStream(httpClient, config.getHost(), config.getPort(),
+                config.isUniFiOS(), this::onClientEvent) : null;
+        nextReconciliation = 0;
         updateStatus(UNKNOWN);
         scheduler.schedule(() -> start(uc), 10, TimeUnit.MILLISECONDS);
     }
@@ -109,6 +121,12 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
     @Override
     public void dispose() {
         cancelRefreshJob();
+        final UniFiEventStream eventStream = this.eventStream;
+
+        if (eventStream != null) {
+            eventStream.stop();
+            this.eventStream = null;
+        }
         final UniFiController controller = this.controller;
 
         if (controller != null) {
@@ -184,6 +202,36 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    private void onClientEvent(final UniFiSite site, final ClientEvent event) {
+        final UniFiController uc = controller;
+
+        if (uc == null) {
+            return;
+        }
+        logger.debug("Client {} {} on site {}", event.mac(), event.type(), site.getName());
+        // the cache is updated in the order of the events, only the refresh of the things is deferred
+        final boolean known = uc.handleClientEvent(event);
+        scheduler.execute(() -> {
+            if (!known) {
+                try {
+                    uc.refreshClient(site, event.mac());
+                } catch (final UniFiException e) {
+                    logger.debug("Could not request client {}: {}", event.mac(), e.getMessage());
+                    return;
+                }
+            }
+            getThing().getThings().forEach(thing -> {
+                if (thing.getHandler() instanceof UniFiClientThingHandler clientHandler) {
+                    final UniFiClient client = clientHandler.getEntity();
+
+                    if (client != null && event.mac().equals(client.getMac())) {
+                        clientHandler.refresh();
+                    }
+                }
+            });
+        });
+    }
+
     private void updateStatusOffline(final ThingStatusDetail thingStatusDetail, final String i18nKey,
             final @Nullable String argument) {
         updateStatus(OFFLINE, thingStatusDetail, String.format(I18N_STATUS_WITH_ARGUMENTS, i18nKey, argument));
@@ -193,8 +241,22 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         final UniFiController uc = controller;
 
         if (uc != null) {
-            logger.debug("Refreshing the UniFi Controller {}", getThing().getUID());
-            uc.refresh();
+            final UniFiEventStream stream = eventStream;
+            final long now = System.currentTimeMillis();
+
+            if (stream != null && stream.isConnected() && now < nextReconciliation) {
+                // the clients are kept up to date by the event stream, the connected ones are only marked as seen
+                logger.debug("Refreshing the UniFi Controller {} without clients", getThing().getUID());
+                uc.refresh(false);
+                uc.touchClients();
+            } else {
+                logger.debug("Refreshing the UniFi Controller {}", getThing().getUID());
+                uc.refresh();
+                if (stream != null) {
+                    stream.connect(uc.getCache().getSites());
+                    nextReconciliation = now + config.getReconciliationInterval() * 1000L;
+                }
+            }
             // mgb: then refresh all the client things
             getThing().getThings().forEach((thing) -> {
                 final ThingHandler handler = thing.getHandler();
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream.ClientEvent;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream.ClientEventType;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * Tests the parsing of the messages of the {@link UniFiEventStream}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiEventStreamTest {
+
+    private static final Instant TIME = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    public void wirelessConnect() {
+        final List<ClientEvent> events = UniFiEventStream.parseMessage(
+                message("{\"key\":\"EVT_WU_Connected\",\"user\":\" AA:BB:CC:DD:EE:FF \","
+                        + "\"ap\":\"11:22:33:44:55:66\",\"ssid\":\"home\"}"),
+                TIME);
+
+        assertThat(events, is(List.of(new ClientEvent(ClientEventType.CONNECTED, "aa:bb:cc:dd:ee:ff", TIME,
+                "11:22:33:44:55:66", "home"))));
+    }
+
+    @Test
+    public void wiredConnectUsesTheSwitch() {
+        final List<ClientEvent> events = UniFiEventStream.parseMessage(
+                message("{\"key\":\"EVT_LU_Connected\",\"user\":\"aa:bb:cc:dd:ee:ff\",\"sw\":\"77:88:99:AA:BB:CC\"}"),
+                TIME);
+
+        assertThat(events, is(List.of(
+                new ClientEvent(ClientEventType.CONNECTED, "aa:bb:cc:dd:ee:ff", TIME, "77:88:99:aa:bb:cc", null))));
+    }
+
+    @Test
+    public void roamUsesTheNewAccessPoint() {
+        final List<ClientEvent> events = UniFiEventStream.parseMessage(
+                message("{\"key\":\"EVT_WU_Roam\",\"user\":\"aa:bb:cc:dd:ee:ff\","
+                        + "\"ap_from\":\"11:11:11:11:11:11\",\"ap_to\":\"22:22:22:22:22:22\"}"),
+                TIME);
+
+        assertThat(events, is(List.of(
+                new ClientEvent(ClientEventType.ROAMED, "aa:bb:cc:dd:ee:ff", TIME, "22:22:22:22:22:22", null))));
+    }
+
+    @Test
+    public void disconnectAndUnrelatedEvents() {
+        final List<ClientEvent> events = UniFiEventStream.parseMessage(message(
+                "{\"key\":\"EVT_AP_Restarted\",\"ap\":\"11:22:33:44:55:66\"}",
+                "{\"key\":\"EVT_WG_Disconnected\",\"user\":\"aa:bb:cc:dd:ee:ff\"}",
+                "{\"key\":\"EVT_WU_Connected\",\"user\":\"\"}", "\"not an event\""), TIME);
+
+        assertThat(events,
+                is(List.of(new ClientEvent(ClientEventType.DISCONNECTED, "aa:bb:cc:dd:ee:ff", TIME, null, null))));
+    }
+
+    @Test
+    public void otherMessagesAreSkipped() {
+        assertThat(UniFiEventStream.parseMessage("{\"meta\":{\"rc\":\"ok\",\"message\":\"sta:sync\"},"
+                + "\"data\":[{\"key\":\"EVT_WU_Connected\",\"user\":\"aa:bb:cc:dd:ee:ff\"}]}", TIME), is(empty()));
+        assertThat(UniFiEventStream.parseMessage("{\"meta\":{\"message\":\"events\"}}", TIME), is(empty()));
+    }
+
+    @Test
+    public void invalidMessagesAreRejected() {
+        assertThrows(JsonParseException.class, () -> UniFiEventStream.parseMessage("{\"meta\":", TIME));
+        assertThrows(IllegalStateException.class, () -> UniFiEventStream.parseMessage("[]", TIME));
+        assertThrows(ClassCastException.class, () -> UniFiEventStream.parseMessage("{\"meta\":[]}", TIME));
+    }
+
+    private static String message(final String... events) {
+        return "{\"meta\":{\"rc\":\"ok\",\"message\":\"events\"},\"data\":[" + String.join(",", events) + "]}";
+    }
+}
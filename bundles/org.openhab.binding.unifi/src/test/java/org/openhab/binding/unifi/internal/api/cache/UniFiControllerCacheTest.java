@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.unifi.internal.api.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.unifi.internal.api.dto.UniFiClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiWiredClient;
+import org.openhab.binding.unifi.internal.api.dto.UniFiWirelessClient;
+import org.openhab.binding.unifi.internal.api.util.UniFiClientDeserializer;
+import org.openhab.binding.unifi.internal.api.util.UniFiClientInstanceCreator;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests how the client events of the event stream are applied to the {@link UniFiControllerCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiControllerCacheTest {
+
+    private static final String PHONE_MAC = "aa:bb:cc:dd:ee:01";
+    private static final String TV_MAC = "aa:bb:cc:dd:ee:02";
+    private static final Instant SEEN = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant EVENT = Instant.parse("2026-01-01T10:05:00Z");
+
+    private final UniFiControllerCache cache = new UniFiControllerCache();
+    private final Gson gson;
+
+    public UniFiControllerCacheTest() {
+        final UniFiClientInstanceCreator clientInstanceCreator = new UniFiClientInstanceCreator(cache);
+        gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(UniFiClient.class, new UniFiClientDeserializer())
+                .registerTypeAdapter(UniFiWiredClient.class, clientInstanceCreator)
+                .registerTypeAdapter(UniFiWirelessClient.class, clientInstanceCreator).create();
+    }
+
+    @Test
+    public void connectOfActiveWirelessClient() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11")));
+
+        assertThat(cache.clientConnected(PHONE_MAC, EVENT, "22:22:22:22:22:22", "guest"), is(true));
+
+        final UniFiWirelessClient phone = (UniFiWirelessClient) getClient(PHONE_MAC);
+        assertThat(phone.getLastSeen(), is(EVENT));
+        assertThat(phone.getDeviceMac(), is("22:22:22:22:22:22"));
+        assertThat(phone.getEssid(), is("guest"));
+    }
+
+    @Test
+    public void connectKeepsUnknownDevice() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11")));
+
+        assertThat(cache.clientConnected(PHONE_MAC, EVENT, null, null), is(true));
+
+        final UniFiWirelessClient phone = (UniFiWirelessClient) getClient(PHONE_MAC);
+        assertThat(phone.getDeviceMac(), is("11:11:11:11:11:11"));
+        assertThat(phone.getEssid(), is("home"));
+    }
+
+    @Test
+    public void connectOfWiredClientUpdatesTheSwitch() {
+        cache.putClients(clients(wired("tv", TV_MAC)));
+
+        assertThat(cache.clientConnected(TV_MAC, EVENT, "33:33:33:33:33:33", null), is(true));
+
+        assertThat(((UniFiWiredClient) getClient(TV_MAC)).getDeviceMac(), is("33:33:33:33:33:33"));
+    }
+
+    @Test
+    public void connectOfUnknownClient() {
+        assertThat(cache.clientConnected(PHONE_MAC, EVENT, null, null), is(false));
+        assertThat(cache.getClient(PHONE_MAC), is(nullValue()));
+    }
+
+    @Test
+    public void disconnectMovesClientToInsights() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11"), wired("tv", TV_MAC)));
+
+        cache.clientDisconnected(PHONE_MAC, EVENT);
+
+        assertThat(cache.getClients(), hasSize(1));
+        final UniFiClient phone = getClient(PHONE_MAC);
+        assertThat(phone.getLastSeen(), is(EVENT));
+        assertThat(cache.getClients(), not(hasItem(phone)));
+    }
+
+    @Test
+    public void reconnectTakesClientFromInsights() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11")));
+        cache.clientDisconnected(PHONE_MAC, SEEN);
+
+        assertThat(cache.clientConnected(PHONE_MAC, EVENT, null, null), is(true));
+
+        final UniFiClient phone = getClient(PHONE_MAC);
+        assertThat(cache.getClients(), contains(phone));
+        assertThat(phone.getLastSeen(), is(EVENT));
+    }
+
+    @Test
+    public void disconnectOfUnknownClientIsIgnored() {
+        cache.putClients(clients(wired("tv", TV_MAC)));
+
+        cache.clientDisconnected(PHONE_MAC, EVENT);
+
+        assertThat(cache.getClients(), hasSize(1));
+        assertThat(cache.getClient(PHONE_MAC), is(nullValue()));
+    }
+
+    @Test
+    public void touchMarksOnlyActiveClientsAsSeen() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11"), wired("tv", TV_MAC)));
+        cache.clientDisconnected(TV_MAC, SEEN);
+
+        cache.touchClients(EVENT);
+
+        assertThat(getClient(PHONE_MAC).getLastSeen(), is(EVENT));
+        assertThat(getClient(TV_MAC).getLastSeen(), is(SEEN));
+    }
+
+    @Test
+    public void clearResourcesKeepsClients() {
+        cache.putClients(clients(wireless("phone", PHONE_MAC, "11:11:11:11:11:11"), wired("tv", TV_MAC)));
+        cache.clientDisconnected(TV_MAC, SEEN);
+
+        cache.clearResources();
+
+        assertThat(cache.getClients(), hasSize(1));
+        assertThat(cache.getClient(TV_MAC), is(notNullValue()));
+
+        cache.clear();
+
+        assertThat(cache.getClients(), is(empty()));
+        assertThat(cache.getClient(TV_MAC), is(nullValue()));
+    }
+
+    private UniFiClient getClient(final String mac) {
+        final @Nullable UniFiClient client = cache.getClient(mac);
+
+        assertThat(client, is(notNullValue()));
+        return client;
+    }
+
+    private UniFiClient[] clients(final String... json) {
+        return gson.fromJson("[" + String.join(",", json) + "]", UniFiClient[].class);
+    }
+
+    private static String wireless(final String id, final String mac, final String apMac) {
+        return "{\"_id\":\"" + id + "\",\"mac\":\"" + mac + "\",\"is_wired\":false,\"ap_mac\":\"" + apMac
+                + "\",\"essid\":\"home\",\"last_seen\":" + SEEN.getEpochSecond() + "}";
+    }
+
+    private static String wired(final String id, final String mac) {
+        return "{\"_id\":\"" + id + "\",\"mac\":\"" + mac + "\",\"is_wired\":true,\"sw_mac\":\"11:11:11:11:11:11\""
+                + ",\"last_seen\":" + SEEN.getEpochSecond() + "}";
+    }
+}
@@ -12,14 +12,18 @@
  */
 package org.openhab.binding.zwavejs.internal.action;
 
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.zwavejs.internal.BindingConstants;
+import org.openhab.binding.zwavejs.internal.handler.ZwaveEventDispatcher.EventStatistics;
 import org.openhab.binding.zwavejs.internal.handler.ZwaveJSBridgeHandler;
 import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
+import org.openhab.core.automation.annotation.ActionOutputs;
 import org.openhab.core.automation.annotation.RuleAction;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.binding.ThingActions;
@@ -98,6 +102,27 @@ public class ZwaveJSActions implements ThingActions {
         ((ZwaveJSActions) actions).sendMulticastCommand(nodeIDs, commandClass, endpoint, property, value);
     }
 
+    @RuleAction(label = "@text/action.get-event-statistics.label", description = "@text/action.get-event-statistics.description")
+    public @ActionOutputs({
+            @ActionOutput(name = "uptime", label = "Uptime", type = "java.lang.Long"),
+            @ActionOutput(name = "totalEvents", label = "Total Events", type = "java.lang.Long"),
+            @ActionOutput(name = "totalLatency", label = "Total Latency", type = "java.lang.Double"),
+            @ActionOutput(name = "maxLatency", label = "Maximum Latency", type = "java.lang.Double"),
+            @ActionOutput(name = "activeNodes", label = "Active Nodes", type = "java.lang.Integer") }) Map<String, Object> getEventStatistics() {
+        ZwaveJSBridgeHandler localHandler = handler;
+        if (localHandler == null) {
+            return Map.of();
+        }
+        EventStatistics statistics = localHandler.getEventStatistics();
+        return Map.of("uptime", statistics.uptimeMs(), "totalEvents", statistics.totalEvents(), "totalLatency",
+                statistics.totalLatencyMs(), "maxLatency", statistics.maxLatencyMs(), "activeNodes",
+                statistics.activeKeys());
+    }
+
+    public static Map<String, Object> getEventStatistics(ThingActions actions) {
+        return ((ZwaveJSActions) actions).getEventStatistics();
+    }
+
     @Override
     public void setThingHandler(@Nullable ThingHandler handler) {
         if (handler instanceof ZwaveJSBridgeHandler bridgeHandler) {
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.handler;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ZwaveEventDispatcher} hands off the processing of incoming events from the websocket receive thread to
+ * a shared executor.
+ *
+ * Events are queued per key, which is the node id for node events. The events of a key are processed one after the
+ * other in the order they were received, while events of different keys are processed in parallel, so a slow node
+ * handler cannot delay the events of the other nodes.
+ *
+ * Controller wide events, like a full state update, are dispatched as barriers. A barrier runs once the events
+ * dispatched before it have been processed, and the events dispatched after it wait until it has finished, so it never
+ * runs at the same time as the events of a node.
+ *
+ * The dispatcher also counts the events and the handler latency, measured from the moment the event is dispatched
+ * until its processing has finished. The counters only grow, callers compute rates from the difference between two
+ * {@link EventStatistics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZwaveEventDispatcher {
+
+    private static final long SLOW_HANDLER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(ZwaveEventDispatcher.class);
+    private final Executor executor;
+    private final Map<Integer, KeyQueue> queues = new ConcurrentHashMap<>();
+    private final Object metricsLock = new Object();
+    private final Object drainLock = new Object();
+    private final long startNanos = System.nanoTime();
+    private volatile boolean stopped = false;
+    // number of scheduled or running drains, guarded by drainLock
+    private int activeDrains;
+    // barriers and the events dispatched after the first pending barrier, in dispatch order, guarded by drainLock
+    private final Queue<PendingTask> pending = new ArrayDeque<>();
+    // whether a barrier is running, guarded by drainLock
+    private boolean barrierRunning;
+
+    // metrics, guarded by metricsLock
+    private long totalEvents;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    /**
+     * @param executor the executor that processes the events
+     */
+    public ZwaveEventDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Queues a task for the given key. Tasks of the same key are executed serially in dispatch order.
+     *
+     * @param key the key the task belongs to, e.g. the node id
+     * @param task the task processing the event
+     */
+    public void dispatch(int key, Runnable task) {
+        if (stopped) {
+            logger.trace("Dispatcher stopped, discarding event for key {}", key);
+            return;
+        }
+        QueuedTask queuedTask = new QueuedTask(task, System.nanoTime());
+        synchronized (drainLock) {
+            if (barrierRunning || !pending.isEmpty()) {
+                pending.add(new PendingTask(key, false, queuedTask));
+            } else {
+                enqueue(key, queuedTask);
+            }
+        }
+    }
+
+    /**
+     * Queues a task that affects all keys, e.g. a full state update. The task runs after all the tasks dispatched
+     * before it have finished, and the tasks dispatched after it only start once it has finished.
+     *
+     * @param task the task processing the event
+     */
+    public void dispatchBarrier(Runnable task) {
+        if (stopped) {
+            logger.trace("Dispatcher stopped, discarding controller event");
+            return;
+        }
+        synchronized (drainLock) {
+            pending.add(new PendingTask(0, true, new QueuedTask(task, System.nanoTime())));
+            startBarrierIfIdle();
+        }
+    }
+
+    /**
+     * Accepts events again after the dispatcher was stopped.
+     */
+    public void start() {
+        stopped = false;
+    }
+
+    /**
+     * Stops the dispatcher. New events are discarded, the pending tasks of all keys are removed and the call waits for
+     * the tasks that are already running to finish. Running tasks are not interrupted.
+     *
+     * @param timeout the maximum time to wait for the running tasks
+     * @param unit the unit of the timeout
+     * @return <code>true</code> if no task is running anymore, <code>false</code> if the timeout elapsed before
+     */
+    public boolean stop(long timeout, TimeUnit unit) {
+        stopped = true;
+        synchronized (drainLock) {
+            pending.clear();
+        }
+        queues.values().forEach(queue -> queue.tasks.clear());
+        queues.clear();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (drainLock) {
+            try {
+                while (activeDrains > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(drainLock, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the counters since the dispatcher was created. Reading them does not reset anything, so several callers
+     * can compute their own rates from the difference between two calls.
+     *
+     * @return the event statistics
+     */
+    public EventStatistics getStatistics() {
+        synchronized (metricsLock) {
+            return new EventStatistics(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), totalEvents,
+                    TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos) / 1000.0,
+                    TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos) / 1000.0, queues.size());
+        }
+    }
+
+    private void enqueue(int key, QueuedTask queuedTask) {
+        KeyQueue queue = queues.computeIfAbsent(key, KeyQueue::new);
+        queue.tasks.add(queuedTask);
+        schedule(queue);
+    }
+
+    /**
+     * Starts the first pending barrier once no events are being processed. Must be called holding the drain lock.
+     */
+    private void startBarrierIfIdle() {
+        PendingTask next = pending.peek();
+        if (barrierRunning || activeDrains > 0 || next == null || !next.barrier) {
+            return;
+        }
+        pending.poll();
+        barrierRunning = true;
+        activeDrains++;
+        try {
+            executor.execute(() -> runBarrier(next.queuedTask));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Unable to process controller event: {}", e.getMessage());
+            barrierFinished();
+        }
+    }
+
+    private void runBarrier(QueuedTask queuedTask) {
+        try {
+            if (!stopped) {
+                run(queuedTask, "controller");
+            }
+        } finally {
+            synchronized (drainLock) {
+                barrierFinished();
+            }
+        }
+    }
+
+    /**
+     * Releases the events that waited for the finished barrier, up to the next barrier. Must be called holding the
+     * drain lock.
+     */
+    private void barrierFinished() {
+        barrierRunning = false;
+        PendingTask next;
+        while ((next = pending.peek()) != null && !next.barrier) {
+            pending.poll();
+            enqueue(next.key, next.queuedTask);
+        }
+        drainFinished();
+    }
+
+    private void schedule(KeyQueue queue) {
+        if (queue.running.compareAndSet(false, true)) {
+            synchronized (drainLock) {
+                activeDrains++;
+            }
+            try {
+                executor.execute(() -> drain(queue));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Unable to process events for key {}: {}", queue.key, e.getMessage());
+                queue.tasks.clear();
+                queue.running.set(false);
+                drainFinished();
+            }
+        }
+    }
+
+    private void drain(KeyQueue queue) {
+        try {
+            drainTasks(queue);
+        } finally {
+            drainFinished();
+        }
+    }
+
+    private void drainFinished() {
+        synchronized (drainLock) {
+            activeDrains--;
+            startBarrierIfIdle();
+            drainLock.notifyAll();
+        }
+    }
+
+    private void drainTasks(KeyQueue queue) {
+        do {
+            QueuedTask queuedTask;
+            while ((queuedTask = queue.tasks.poll()) != null) {
+                if (stopped) {
+                    queue.tasks.clear();
+                    break;
+                }
+                run(queuedTask, queue.key);
+            }
+            queue.running.set(false);
+        } while (!queue.tasks.isEmpty() && queue.running.compareAndSet(false, true));
+    }
+
+    private void run(QueuedTask queuedTask, Object key) {
+        try {
+            queuedTask.task.run();
+        } catch (RuntimeException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Error processing event for key {}: {}", key, e.toString(), e);
+            } else {
+                logger.warn("Error processing event for key {}", key);
+            }
+        }
+        record(key, System.nanoTime() - queuedTask.dispatchedNanos);
+    }
+
+    private void record(Object key, long latencyNanos) {
+        synchronized (metricsLock) {
+            totalEvents++;
+            totalLatencyNanos += latencyNanos;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        }
+        if (latencyNanos > SLOW_HANDLER_NANOS) {
+            logger.debug("Key {}. Event processed after {}ms", key, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        }
+    }
+
+    /**
+     * Counters of the events processed since the dispatcher was created.
+     *
+     * @param uptimeMs the milliseconds since the dispatcher was created, when the counters were read
+     * @param totalEvents the number of events processed
+     * @param totalLatencyMs the sum of the milliseconds between dispatching and finishing each event
+     * @param maxLatencyMs the maximum time in milliseconds between dispatching and finishing an event
+     * @param activeKeys the number of keys, e.g. nodes, that have dispatched events
+     */
+    public record EventStatistics(long uptimeMs, long totalEvents, double totalLatencyMs, double maxLatencyMs,
+            int activeKeys) {
+
+        /**
+         * @param previous statistics read earlier from the same dispatcher
+         * @return the number of events processed per second since the previous statistics
+         */
+        public double eventRateSince(EventStatistics previous) {
+            long elapsedMs = uptimeMs - previous.uptimeMs;
+            return elapsedMs <= 0 ? 0 : (totalEvents - previous.totalEvents) * 1000.0 / elapsedMs;
+        }
+
+        /**
+         * @param previous statistics read earlier from the same dispatcher
+         * @return the average latency in milliseconds of the events processed since the previous statistics
+         */
+        public double averageLatencyMsSince(EventStatistics previous) {
+            long events = totalEvents - previous.totalEvents;
+            return events == 0 ? 0 : (totalLatencyMs - previous.totalLatencyMs) / events;
+        }
+    }
+
+    private record QueuedTask(Runnable task, long dispatchedNanos) {
+    }
+
+    private record PendingTask(int key, boolean barrier, QueuedTask queuedTask) {
+    }
+
+    private static class KeyQueue {
+        private final int key;
+        private final Queue<QueuedTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private KeyQueue(int key) {
+            this.key = key;
+        }
+    }
+}
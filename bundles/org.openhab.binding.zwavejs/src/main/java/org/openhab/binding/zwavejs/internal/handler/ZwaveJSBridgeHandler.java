@@ -48,6 +48,7 @@ import org.openhab.binding.zwavejs.internal.api.dto.messages.ResultMessage;
 import org.openhab.binding.zwavejs.internal.api.dto.messages.VersionMessage;
 import org.openhab.binding.zwavejs.internal.config.ZwaveJSBridgeConfiguration;
 import org.openhab.binding.zwavejs.internal.discovery.NodeDiscoveryService;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.http.WebSocketFactory;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -67,15 +68,22 @@ import com.google.gson.Gson;
  * and provides controller-level operations like inclusion and exclusion.
  *
  * @author Leo Siepel - Initial contribution
+ * @author agent - Per-node event queues
  */
 @NonNullByDefault
 public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEventListener {
 
+    private static final Gson GSON = new Gson();
+    private static final String EVENT_THREAD_POOL_NAME = BindingConstants.BINDING_ID + "-events";
+    private static final long DISPATCHER_STOP_TIMEOUT_SECONDS = 5;
+
     private final Logger logger = LoggerFactory.getLogger(ZwaveJSBridgeHandler.class);
     private final Map<Integer, ZwaveNodeListener> nodeListeners = new ConcurrentHashMap<>();
     private final Map<Integer, Node> lastNodeStates = new ConcurrentHashMap<>();
 
     protected ScheduledExecutorService executorService = scheduler;
+    protected ZwaveEventDispatcher eventDispatcher = new ZwaveEventDispatcher(
+            ThreadPoolManager.getPool(EVENT_THREAD_POOL_NAME));
     private @Nullable NodeDiscoveryService discoveryService;
     private @Nullable ScheduledFuture<?> initialConnection;
     private ZWaveJSClient client;
@@ -101,6 +109,7 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
         }
 
         updateStatus(ThingStatus.UNKNOWN);
+        eventDispatcher.start();
 
         initialConnection = scheduler.scheduleWithFixedDelay(new Runnable() {
             public void run() {
@@ -152,71 +161,84 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
                     return;
                 }
 
-                ZwaveNodeListener nodeListener = nodeListeners.get(event.nodeId);
-                if (nodeListener != null) {
-                    nodeListener.onNodeStateChanged(event);
-                }
+                eventDispatcher.dispatch(event.nodeId, () -> {
+                    ZwaveNodeListener nodeListener = nodeListeners.get(event.nodeId);
+                    if (nodeListener != null) {
+                        nodeListener.onNodeStateChanged(event);
+                    }
+                });
                 return;
             }
             if (result.result == null || result.result.state == null) {
                 logger.debug("ResultMessage missing result or state, ignoring.");
                 return;
             }
-            procesStateUpdate(result.result.state);
-            updateStatus(ThingStatus.ONLINE);
+            final State state = result.result.state;
+            // the full state touches every node, so it must not run alongside the events of a node
+            eventDispatcher.dispatchBarrier(() -> {
+                procesStateUpdate(state);
+                updateStatus(ThingStatus.ONLINE);
+            });
             return;
         }
 
-        ZwaveNodeListener nodeListener;
-
         if (message instanceof EventMessage eventMsg && eventMsg.event != null) {
-            String eventType = eventMsg.event.event;
-            nodeListener = nodeListeners.get(eventMsg.event.nodeId);
-            switch (eventType) {
-                case "notification":
-                    if (nodeListener != null) {
-                        Event event = normalizeNotificationEvent(eventMsg.event);
-                        nodeListener.onNodeStateChanged(event);
-                    }
-                    break;
-                case "value updated":
-                case "value notification":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeStateChanged(eventMsg.event);
-                    }
-                    break;
-                case "alive":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeAlive(eventMsg.event);
-                    }
-                    break;
-                case "dead":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeDead(eventMsg.event);
-                    }
-                    break;
-                case "node removed":
-                    if (nodeListener != null) {
-                        nodeListener.onNodeRemoved(eventMsg.event);
-                    }
-                    break;
-                case "node added":
-                    final NodeDiscoveryService discovery = discoveryService;
-                    if (discovery != null) {
-                        discovery.addNodeDiscovery(eventMsg.event.node);
-                    }
-                    break;
-                case "statistics updated":
-                    if (nodeListener != null && eventMsg.event.statistics != null) {
-                        nodeListener.onStatisticsUpdated(eventMsg.event.statistics);
-                    }
-                    break;
-                default:
-                    logger.trace("Unhandled event type: {}", eventType);
+            final Event event = eventMsg.event;
+            if ("node added".equals(event.event)) {
+                // node additions are serialized with the full state updates, as both feed the discovery
+                eventDispatcher.dispatchBarrier(() -> processEvent(event));
+            } else {
+                eventDispatcher.dispatch(event.nodeId, () -> processEvent(event));
             }
         }
     }
 
+    private void processEvent(Event event) {
+        String eventType = event.event;
+        ZwaveNodeListener nodeListener = nodeListeners.get(event.nodeId);
+        switch (eventType) {
+            case "notification":
+                if (nodeListener != null) {
+                    nodeListener.onNodeStateChanged(normalizeNotificationEvent(event));
+                }
+                break;
+            case "value updated":
+            case "value notification":
+                if (nodeListener != null) {
+                    nodeListener.onNodeStateChanged(event);
+                }
+                break;
+            case "alive":
+                if (nodeListener != null) {
+                    nodeListener.onNodeAlive(event);
+                }
+                break;
+            case "dead":
+                if (nodeListener != null) {
+                    nodeListener.onNodeDead(event);
+                }
+                break;
+            case "node removed":
+                if (nodeListener != null) {
+                    nodeListener.onNodeRemoved(event);
+                }
+                break;
+            case "node added":
+                final NodeDiscoveryService discovery = discoveryService;
+                if (discovery != null) {
+                    discovery.addNodeDiscovery(event.node);
+                }
+                break;
+            case "statistics updated":
+                if (nodeListener != null && event.statistics != null) {
+                    nodeListener.onStatisticsUpdated(event.statistics);
+                }
+                break;
+            default:
+                logger.trace("Unhandled event type: {}", eventType);
+        }
+    }
+
     public static Event normalizeNotificationEvent(Event event) {
         Event normalizedEvent = new Event();
         normalizedEvent.event = event.event;
@@ -225,7 +247,7 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
         normalizedEvent.args.commandClassName = VIRTUAL_COMMAND_CLASS_NOTIFICATION;
         normalizedEvent.args.propertyName = VIRTUAL_NOTIFICATION_PROPERTY;
         normalizedEvent.args.endpoint = event.endpointIndex;
-        normalizedEvent.args.newValue = new Gson().toJson(event.args);
+        normalizedEvent.args.newValue = GSON.toJson(event.args);
         normalizedEvent.nodeId = event.nodeId;
         return normalizedEvent;
     }
@@ -371,6 +393,10 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
     public void dispose() {
         stopInitialConnectionJob();
         client.stop();
+        if (!eventDispatcher.stop(DISPATCHER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.debug("Events are still being processed after {}s, disposing anyway",
+                    DISPATCHER_STOP_TIMEOUT_SECONDS);
+        }
         super.dispose();
     }
 
@@ -379,6 +405,15 @@ public class ZwaveJSBridgeHandler extends BaseBridgeHandler implements ZwaveEven
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
     }
 
+    /**
+     * Returns the counters of the events processed since the bridge was initialized.
+     *
+     * @return the event statistics
+     */
+    public ZwaveEventDispatcher.EventStatistics getEventStatistics() {
+        return eventDispatcher.getStatistics();
+    }
+
     public void startInclusion() {
         sendCommand(new ControllerInclusionCommand(false));
     }
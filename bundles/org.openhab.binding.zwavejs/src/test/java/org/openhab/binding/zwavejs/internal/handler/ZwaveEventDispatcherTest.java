@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.zwavejs.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.zwavejs.internal.handler.ZwaveEventDispatcher.EventStatistics;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZwaveEventDispatcherTest {
+
+    @Test
+    public void testEventsOfNodeAreProcessedInOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(executor);
+            List<Integer> processed = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(1000);
+            for (int i = 0; i < 1000; i++) {
+                final int sequence = i;
+                dispatcher.dispatch(5, () -> {
+                    processed.add(sequence);
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, processed.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlockedNodeDoesNotDelayOtherNodes() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(executor);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch otherNode = new CountDownLatch(1);
+            dispatcher.dispatch(3, () -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            dispatcher.dispatch(4, otherNode::countDown);
+
+            assertTrue(otherNode.await(5, TimeUnit.SECONDS));
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(Runnable::run);
+        dispatcher.dispatch(2, () -> {
+        });
+        dispatcher.dispatch(3, () -> {
+            throw new IllegalStateException("handler failure");
+        });
+
+        EventStatistics first = dispatcher.getStatistics();
+        assertEquals(2, first.totalEvents());
+        assertEquals(2, first.activeKeys());
+
+        // reading the statistics does not reset the counters
+        EventStatistics second = dispatcher.getStatistics();
+        assertEquals(2, second.totalEvents());
+        assertEquals(first.maxLatencyMs(), second.maxLatencyMs());
+        assertEquals(0, second.averageLatencyMsSince(first));
+
+        dispatcher.dispatch(2, () -> {
+        });
+        EventStatistics third = new EventStatistics(first.uptimeMs() + 1000, 12, first.totalLatencyMs() + 50,
+                first.maxLatencyMs(), 2);
+        assertEquals(10, third.eventRateSince(first));
+        assertEquals(5, third.averageLatencyMsSince(first));
+        assertEquals(3, dispatcher.getStatistics().totalEvents());
+    }
+
+    @Test
+    public void testBarrierWaitsForEarlierEventsAndHoldsLaterOnes() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(executor);
+            List<String> processed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(4);
+            dispatcher.dispatch(3, () -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.add("node 3 before");
+                done.countDown();
+            });
+            dispatcher.dispatchBarrier(() -> {
+                processed.add("controller");
+                done.countDown();
+            });
+            dispatcher.dispatch(4, () -> {
+                processed.add("node 4 after");
+                done.countDown();
+            });
+            dispatcher.dispatch(3, () -> {
+                processed.add("node 3 after");
+                done.countDown();
+            });
+
+            // neither the barrier nor the later events of another node may overtake the running event
+            Thread.sleep(100);
+            assertEquals(List.of(), processed);
+            release.countDown();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals("node 3 before", processed.get(0));
+            assertEquals("controller", processed.get(1));
+            assertEquals(Set.of("node 3 after", "node 4 after"), Set.copyOf(processed.subList(2, 4)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEventsBetweenBarriersKeepTheirOrder() {
+        ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(Runnable::run);
+        List<String> processed = new ArrayList<>();
+
+        dispatcher.dispatchBarrier(() -> {
+            processed.add("first barrier");
+            // dispatched while the barrier runs, so it waits until the barrier has finished
+            dispatcher.dispatch(2, () -> processed.add("node 2"));
+            dispatcher.dispatchBarrier(() -> processed.add("second barrier"));
+            processed.add("first barrier finished");
+        });
+
+        assertEquals(List.of("first barrier", "first barrier finished", "node 2", "second barrier"), processed);
+    }
+
+    @Test
+    public void testStopWaitsForRunningTasksAndDiscardsPendingEvents() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(executor);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger processed = new AtomicInteger();
+            dispatcher.dispatch(7, () -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.incrementAndGet();
+            });
+            dispatcher.dispatch(7, processed::incrementAndGet);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // the running task keeps the dispatcher busy
+            assertFalse(dispatcher.stop(100, TimeUnit.MILLISECONDS));
+            dispatcher.dispatch(8, processed::incrementAndGet);
+            release.countDown();
+
+            assertTrue(dispatcher.stop(5, TimeUnit.SECONDS));
+            assertEquals(1, processed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStartAcceptsEventsAgain() {
+        ZwaveEventDispatcher dispatcher = new ZwaveEventDispatcher(Runnable::run);
+        AtomicInteger processed = new AtomicInteger();
+
+        assertTrue(dispatcher.stop(1, TimeUnit.SECONDS));
+        dispatcher.dispatch(2, processed::incrementAndGet);
+        assertEquals(0, processed.get());
+
+        dispatcher.start();
+        dispatcher.dispatch(2, processed::incrementAndGet);
+        assertEquals(1, processed.get());
+    }
+}
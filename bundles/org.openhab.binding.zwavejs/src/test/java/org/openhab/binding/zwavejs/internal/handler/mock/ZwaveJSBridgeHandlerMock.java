@@ -24,6 +24,7 @@ import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.openhab.binding.zwavejs.internal.BindingConstants;
 import org.openhab.binding.zwavejs.internal.config.ZwaveJSBridgeConfiguration;
+import org.openhab.binding.zwavejs.internal.handler.ZwaveEventDispatcher;
 import org.openhab.binding.zwavejs.internal.handler.ZwaveJSBridgeHandler;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.net.http.WebSocketFactory;
@@ -73,6 +74,7 @@ public class ZwaveJSBridgeHandlerMock extends ZwaveJSBridgeHandler {
     public ZwaveJSBridgeHandlerMock(Bridge bridge, WebSocketFactory wsFactory) {
         super(bridge, wsFactory);
 
+        eventDispatcher = new ZwaveEventDispatcher(Runnable::run);
         executorService = Mockito.mock(ScheduledExecutorService.class);
         doAnswer((InvocationOnMock invocation) -> {
             ((Runnable) invocation.getArguments()[0]).run();
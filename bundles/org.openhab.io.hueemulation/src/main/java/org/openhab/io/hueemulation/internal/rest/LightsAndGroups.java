@@ -27,7 +27,9 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -57,6 +59,7 @@ import org.openhab.io.hueemulation.internal.dto.HueNewLights;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueChangeRequest;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse;
+import org.openhab.io.hueemulation.internal.rest.LightsJsonCache.JsonDocument;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -96,6 +99,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
  * </p>
  *
  * <p>
+ * The lights are polled frequently by Amazon Echos and Harmony hubs. Their JSON is kept in a {@link LightsJsonCache}
+ * and the GET requests of lights and groups support entity tags, so that unchanged documents are neither serialized
+ * nor sent again.
  * </p>
  *
  * @author David Graeff - Initial contribution
@@ -123,6 +129,8 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    private final LightsJsonCache lightsJsonCache = new LightsJsonCache();
+
     /**
      * Registers to the {@link ItemRegistry} and {@link ConfigStore} and enumerates currently existing items.
      */
@@ -317,12 +325,12 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return jsonResponse(request, lightsJsonCache.getLights(cs.gson, cs.ds.lights));
     }
 
     @GET
@@ -352,13 +360,13 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/lights/{id}")
     @Operation(summary = "Return a light", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getLightApi(@Context UriInfo uri, //
+    public Response getLightApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "light id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        return jsonResponse(request, lightsJsonCache.getLight(cs.gson, id, cs.ds.lights.get(id)));
     }
 
     @DELETE
@@ -520,24 +528,25 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        // groups are few and their entries are changed in place, so they are not cached
+        return jsonResponse(request, JsonDocument.of(cs.gson.toJson(cs.ds.groups)));
     }
 
     @GET
     @Path("{username}/groups/{id}")
     @Operation(summary = "Return a group", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getGroupApi(@Context UriInfo uri, //
+    public Response getGroupApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "group id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        return jsonResponse(request, JsonDocument.of(cs.gson.toJson(cs.ds.groups.get(id))));
     }
 
     @POST
@@ -615,4 +624,15 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.NOT_AVAILABLE, "Group does not exist");
         }
     }
+
+    /**
+     * Responds with the given document or with "304 Not Modified", if the client already has it.
+     */
+    private static Response jsonResponse(Request request, JsonDocument document) {
+        ResponseBuilder notModified = request.evaluatePreconditions(document.entityTag());
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(document.json()).tag(document.entityTag()).build();
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SortedMap;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.DeviceType;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized JSON of the lights, so that polling clients like Amazon Echos and Harmony hubs do not cause
+ * all lights to be serialized again for every request.
+ * <p>
+ * The JSON of a light is only serialized again if its item, the item state, the name or the last command changed.
+ * The document of all lights is assembled from the JSON of the lights whenever one of them changed or a light was
+ * added or removed. Each document has an entity tag, the SHA-256 digest of its JSON, so that clients can ask whether
+ * it has changed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class LightsJsonCache {
+    /* All access must be guarded by "this" */
+    private final Map<String, LightJson> lightJsons = new HashMap<>();
+    private @Nullable JsonDocument document;
+
+    /**
+     * Get the document of all lights.
+     *
+     * @param gson the gson instance to serialize changed lights with
+     * @param lights the lights by hue id
+     * @return the JSON of all lights and its entity tag
+     */
+    synchronized JsonDocument getLights(Gson gson, SortedMap<String, HueLightEntry> lights) {
+        boolean changed = false;
+        for (Map.Entry<String, HueLightEntry> entry : lights.entrySet()) {
+            LightJson lightJson = lightJsons.get(entry.getKey());
+            if (lightJson == null || !lightJson.isFor(entry.getValue())) {
+                lightJsons.put(entry.getKey(), LightJson.of(gson, entry.getValue()));
+                changed = true;
+            }
+        }
+        if (lightJsons.size() != lights.size()) {
+            lightJsons.keySet().retainAll(lights.keySet());
+            changed = true;
+        }
+
+        JsonDocument document = this.document;
+        if (document == null || changed) {
+            StringBuilder json = new StringBuilder(document == null ? 1024 : document.json().length()).append('{');
+            for (String hueID : lights.keySet()) {
+                LightJson lightJson = lightJsons.get(hueID);
+                if (lightJson != null) {
+                    if (json.length() > 1) {
+                        json.append(',');
+                    }
+                    json.append(gson.toJson(hueID)).append(':').append(lightJson.document.json());
+                }
+            }
+            document = JsonDocument.of(json.append('}').toString());
+            this.document = document;
+        }
+        return document;
+    }
+
+    /**
+     * Get the document of a light.
+     *
+     * @param gson the gson instance to serialize the light with, if it has changed
+     * @param hueID the hue id of the light
+     * @param light the light or <code>null</code> if no light with this id exists
+     * @return the JSON of the light and its entity tag
+     */
+    synchronized JsonDocument getLight(Gson gson, String hueID, @Nullable HueLightEntry light) {
+        if (light == null) {
+            return JsonDocument.of(gson.toJson(null));
+        }
+        LightJson lightJson = lightJsons.get(hueID);
+        if (lightJson == null || !lightJson.isFor(light)) {
+            lightJson = LightJson.of(gson, light);
+            lightJsons.put(hueID, lightJson);
+            document = null;
+        }
+        return lightJson.document;
+    }
+
+    /**
+     * A serialized document and its entity tag.
+     *
+     * @param json the JSON
+     * @param entityTag the entity tag of the JSON
+     */
+    record JsonDocument(String json, EntityTag entityTag) {
+        static JsonDocument of(String json) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+                return new JsonDocument(json, new EntityTag(HexFormat.of().formatHex(digest)));
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform supports SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * The JSON of a light and everything it was serialized from.
+     */
+    private record LightJson(HueLightEntry light, GenericItem item, DeviceType deviceType, State state, String name,
+            @Nullable Command lastCommand, @Nullable HueStateChange lastHueChange, JsonDocument document) {
+        static LightJson of(Gson gson, HueLightEntry light) {
+            GenericItem item = light.item;
+            return new LightJson(light, item, light.deviceType, item.getState(), light.name, light.lastCommand,
+                    light.lastHueChange, JsonDocument.of(gson.toJson(light)));
+        }
+
+        boolean isFor(HueLightEntry light) {
+            return this.light == light && item == light.item && deviceType == light.deviceType
+                    && state.equals(light.item.getState()) && name.equals(light.name)
+                    && lastCommand == light.lastCommand && lastHueChange == light.lastHueChange;
+        }
+    }
+}
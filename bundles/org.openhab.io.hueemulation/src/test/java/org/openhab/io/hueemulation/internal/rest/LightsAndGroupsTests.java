@@ -23,6 +23,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +43,7 @@ import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
 import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
 import org.openhab.io.hueemulation.internal.dto.HueStateColorBulb;
 import org.openhab.io.hueemulation.internal.dto.HueStatePlug;
+import org.openhab.io.hueemulation.internal.rest.LightsJsonCache.JsonDocument;
 import org.openhab.io.hueemulation.internal.rest.mocks.DummyItemRegistry;
 
 /**
@@ -424,6 +426,45 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void entityTagsOfDifferentDocumentsDiffer() {
+        // "Aa" and "BB" have the same String hash code
+        assertThat("Aa".hashCode(), is("BB".hashCode()));
+        assertThat(JsonDocument.of("{\"name\":\"Aa\"}").entityTag(),
+                not(is(JsonDocument.of("{\"name\":\"BB\"}").entityTag())));
+        assertThat(JsonDocument.of("{\"name\":\"Aa\"}").entityTag(),
+                is(JsonDocument.of("{\"name\":\"Aa\"}").entityTag()));
+    }
+
+    @Test
+    public void unchangedLightsAreNotSentAgain() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertThat(response.getStatus(), is(200));
+        String body = response.getContentAsString();
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertNotNull(etag);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(304));
+
+        HueLightEntry hueLightEntry = cs.ds.lights.get("1");
+        assertNotNull(hueLightEntry);
+        hueLightEntry.item.setState(OnOffType.ON);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), not(is(etag)));
+        assertThat(response.getContentAsString(), not(is(body)));
+        assertThat(response.getContentAsString(), is(cs.gson.toJson(cs.ds.lights)));
+
+        cs.ds.lights.remove("3");
+        response = commonSetup.sendGet("/testuser/lights");
+        assertThat(response.getContentAsString(), is(cs.gson.toJson(cs.ds.lights)));
+        assertThat(response.getContentAsString(), not(containsString("\"3\":")));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Write throughput budget, in items per second, shared by all batch writes.
+ *
+ * The budget is consumed in token bucket fashion. The rate adapts with additive increase, multiplicative decrease
+ * (AIMD): every fully processed batch increases the rate by a constant step (up to the configured maximum), while a
+ * throttled batch halves it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdaptiveWriteBudget {
+
+    static final double MIN_RATE = 1.0;
+    static final double DECREASE_FACTOR = 0.5;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double maxRate;
+    private final double increaseStep;
+    private final LongSupplier nanoClock;
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     *
+     * @param maxRate maximum (and initial) write rate, in items per second
+     */
+    public AdaptiveWriteBudget(double maxRate) {
+        this(maxRate, System::nanoTime);
+    }
+
+    /**
+     * For tests
+     */
+    AdaptiveWriteBudget(double maxRate, LongSupplier nanoClock) {
+        this.maxRate = Math.max(MIN_RATE, maxRate);
+        this.increaseStep = Math.max(1.0, this.maxRate / 100);
+        this.nanoClock = nanoClock;
+        this.rate = this.maxRate;
+        this.tokens = getCapacity();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take up to requested number of items from the budget
+     *
+     * @param requested number of items wished to be written
+     * @return number of items that can be written now, between 0 and requested
+     */
+    public synchronized int tryAcquire(int requested) {
+        refill();
+        int granted = (int) Math.min(requested, Math.floor(tokens));
+        if (granted <= 0) {
+            return 0;
+        }
+        tokens -= granted;
+        return granted;
+    }
+
+    /**
+     * Return items taken with {@link #tryAcquire(int)} that were not written after all
+     *
+     * @param unused number of items to return to the budget
+     */
+    public synchronized void release(int unused) {
+        refill();
+        tokens = Math.min(getCapacity(), tokens + unused);
+    }
+
+    /**
+     * Additive increase, called when a batch was processed completely
+     */
+    public synchronized void onSuccess() {
+        refill();
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * Multiplicative decrease, called when DynamoDB throttled the request or left items unprocessed
+     */
+    public synchronized void onThrottled() {
+        refill();
+        rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+        tokens = Math.min(tokens, getCapacity());
+    }
+
+    /**
+     * Current write rate, in items per second
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / NANOS_PER_SECOND;
+        lastRefillNanos = now;
+        if (elapsedSeconds > 0) {
+            tokens = Math.min(getCapacity(), tokens + elapsedSeconds * rate);
+        }
+    }
+
+    /**
+     * Bucket capacity. Always large enough for one full batch so that even the minimum rate eventually allows a
+     * full-sized BatchWriteItem request.
+     */
+    private double getCapacity() {
+        return Math.max(rate, DynamoDBBatchWriter.MAX_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.dynamodb.internal.DynamoDBConfig.WriteQueueOverflow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Writes DTOs to DynamoDB using BatchWriteItem requests of up to {@value #MAX_BATCH_SIZE} items.
+ *
+ * Writes are first reserved from a bounded queue ({@link #reserve()}), on the calling thread, and then enqueued once
+ * converted to DTO ({@link #enqueue(DynamoDBItem, DynamoDbAsyncTable)}). The queue is drained periodically, or
+ * immediately when a full batch is available, respecting the {@link AdaptiveWriteBudget}.
+ *
+ * UnprocessedItems returned by DynamoDB, as well as throttled batches, are retried with exponential backoff. Both
+ * reduce the write budget. Missing tables are created using {@link TableCreatingPutItem}, after which the rest of the
+ * batch is retried.
+ *
+ * Once stopped, nothing is flushed anymore and pending retries are cancelled, as the client is about to be closed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+
+    /**
+     * Maximum number of put requests in a single BatchWriteItem request, as defined by DynamoDB
+     */
+    public static final int MAX_BATCH_SIZE = 25;
+    static final Duration FLUSH_INTERVAL = Duration.ofMillis(500);
+    private static final int MAX_IN_FLIGHT_BATCHES = 4;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long RETRY_BASE_DELAY_MILLIS = 50;
+    private static final long RETRY_MAX_DELAY_MILLIS = 10_000;
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final AdaptiveWriteBudget budget;
+    private final WriteQueueOverflow overflow;
+    private final Duration blockTimeout;
+    private final Semaphore queueCapacity;
+    private final Queue<PendingWrite<?>> queue = new ConcurrentLinkedQueue<>();
+    private final Queue<PendingWrite<?>> retryQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger scheduledRetries = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Set<ScheduledFuture<?>> retryJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ScheduledExecutorService scheduler, DynamoDBConfig dbConfig, Duration blockTimeout) {
+        this.service = service;
+        this.client = client;
+        this.executor = service.getExecutor();
+        this.scheduler = scheduler;
+        this.budget = new AdaptiveWriteBudget(dbConfig.getMaxWriteRate());
+        this.overflow = dbConfig.getWriteQueueOverflow();
+        this.queueCapacity = new Semaphore(dbConfig.getWriteQueueSize());
+        this.blockTimeout = blockTimeout;
+    }
+
+    public synchronized void start() {
+        if (flushJob == null) {
+            flushJob = scheduler.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL.toMillis(),
+                    FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop periodic flushing and try to write the remaining queued items
+     *
+     * @param timeout maximum time to wait for the queue to drain
+     */
+    public void stop(Duration timeout) {
+        synchronized (this) {
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+                flushJob = null;
+            }
+        }
+        Instant deadline = Instant.now().plus(timeout);
+        while (getPendingCount() > 0 && Instant.now().isBefore(deadline)) {
+            flush();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stopped = true;
+        retryJobs.forEach(job -> job.cancel(false));
+        retryJobs.clear();
+        int remaining = queue.size() + retryQueue.size() + scheduledRetries.getAndSet(0);
+        if (remaining > 0) {
+            logger.warn("BatchWriteItem: {} queued items could not be written before shutdown. Discarding.",
+                    remaining);
+        }
+        queue.clear();
+        retryQueue.clear();
+    }
+
+    /**
+     * Reserve space for one write in the queue. Must be called before {@link #enqueue}.
+     *
+     * With {@link WriteQueueOverflow#BLOCK}, the calling thread waits for space to become available, but at most for
+     * the block timeout. The write is dropped if there is still no space then.
+     *
+     * @return true if space was reserved, false if the write should be dropped
+     */
+    public boolean reserve() {
+        if (overflow == WriteQueueOverflow.BLOCK) {
+            try {
+                if (queueCapacity.tryAcquire(blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                logger.debug("Write queue is still full after {} ms", blockTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (queueCapacity.tryAcquire()) {
+            return true;
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % 1000 == 0) {
+            logger.warn("Write queue is full, dropping write (total {} writes dropped). Consider increasing "
+                    + "writeQueueSize or maxWriteRate.", dropped);
+        }
+        return false;
+    }
+
+    /**
+     * Release a reservation made by {@link #reserve()} without enqueueing anything
+     */
+    public void cancelReservation() {
+        queueCapacity.release();
+    }
+
+    /**
+     * Enqueue DTO to be written. Space must have been reserved using {@link #reserve()}.
+     */
+    public <T extends DynamoDBItem<?>> void enqueue(T dto, DynamoDbAsyncTable<T> table) {
+        queue.add(new PendingWrite<>(dto, table, 0));
+        if (queue.size() >= MAX_BATCH_SIZE) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Number of writes queued, scheduled for retry or in flight
+     */
+    public int getPendingCount() {
+        return queue.size() + retryQueue.size() + scheduledRetries.get() + inFlight.get();
+    }
+
+    /**
+     * For tests
+     */
+    AdaptiveWriteBudget getBudget() {
+        return budget;
+    }
+
+    void flush() {
+        try {
+            synchronized (this) {
+                while (!stopped && inFlight.get() < MAX_IN_FLIGHT_BATCHES) {
+                    int available = Math.min(MAX_BATCH_SIZE, queue.size() + retryQueue.size());
+                    if (available == 0) {
+                        return;
+                    }
+                    int granted = budget.tryAcquire(available);
+                    if (granted == 0) {
+                        logger.trace("BatchWriteItem: write budget exhausted ({} items/s), {} items waiting",
+                                budget.getRate(), available);
+                        return;
+                    }
+                    Collection<PendingWrite<?>> batch = poll(granted);
+                    // writes with equal keys are merged, only the items actually sent use the budget
+                    if (batch.size() < granted) {
+                        budget.release(granted - batch.size());
+                    }
+                    if (batch.isEmpty()) {
+                        return;
+                    }
+                    inFlight.incrementAndGet();
+                    writeBatch(batch);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("BatchWriteItem: unexpected error while flushing", e);
+        }
+    }
+
+    /**
+     * Poll up to count writes, retries first. Writes with equal primary key are merged, the latest one winning, since
+     * DynamoDB rejects BatchWriteItem requests with duplicate keys.
+     */
+    private Collection<PendingWrite<?>> poll(int count) {
+        Map<String, PendingWrite<?>> batch = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            PendingWrite<?> write = retryQueue.poll();
+            if (write == null) {
+                write = queue.poll();
+                if (write == null) {
+                    break;
+                }
+                queueCapacity.release();
+            }
+            batch.put(write.key(), write);
+        }
+        return batch.values();
+    }
+
+    private void writeBatch(Collection<PendingWrite<?>> batch) {
+        Map<String, List<PendingWrite<?>>> byTable = new LinkedHashMap<>();
+        for (PendingWrite<?> write : batch) {
+            byTable.computeIfAbsent(write.table.tableName(), t -> new ArrayList<>()).add(write);
+        }
+
+        Instant start = Instant.now();
+        try {
+            BatchWriteItemEnhancedRequest.Builder request = BatchWriteItemEnhancedRequest.builder();
+            byTable.values().forEach(writes -> request.addWriteBatch(writes.get(0).toWriteBatch(writes)));
+            client.batchWriteItem(request.build()).whenCompleteAsync((result, exception) -> {
+                try {
+                    if (exception == null) {
+                        logger.trace("BatchWriteItem: {} items written in {} ms.", batch.size(),
+                                Duration.between(start, Instant.now()).toMillis());
+                        handleResult(byTable, result);
+                    } else {
+                        handleFailure(byTable, exception);
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                flush();
+            }, executor);
+        } catch (RuntimeException e) {
+            // the writes have been taken from the queues already, so they must be retried here or they are lost
+            inFlight.decrementAndGet();
+            logger.debug("BatchWriteItem: could not send request: {}, retrying", e.getMessage());
+            List<PendingWrite<?>> writes = new ArrayList<>(batch);
+            writes.forEach(PendingWrite::incrementAttempts);
+            retry(writes);
+        }
+    }
+
+    private void handleResult(Map<String, List<PendingWrite<?>>> byTable, BatchWriteResult result) {
+        List<PendingWrite<?>> unprocessed = new ArrayList<>();
+        for (List<PendingWrite<?>> writes : byTable.values()) {
+            unprocessed.addAll(writes.get(0).unprocessed(result, maxAttempts(writes)));
+        }
+        if (unprocessed.isEmpty()) {
+            budget.onSuccess();
+        } else {
+            budget.onThrottled();
+            logger.debug("BatchWriteItem: {} unprocessed items, retrying. Write budget reduced to {} items/s",
+                    unprocessed.size(), budget.getRate());
+            retry(unprocessed);
+        }
+    }
+
+    private void handleFailure(Map<String, List<PendingWrite<?>>> byTable, Throwable exception) {
+        Throwable cause = exception.getCause();
+        if (!(exception instanceof CompletionException) || cause == null) {
+            cause = exception;
+        }
+        List<PendingWrite<?>> writes = byTable.values().stream().flatMap(List::stream).toList();
+        if (isThrottling(cause)) {
+            budget.onThrottled();
+            logger.debug("BatchWriteItem: throttled with {}, retrying. Write budget reduced to {} items/s",
+                    cause.getClass().getSimpleName(), budget.getRate());
+            writes.forEach(PendingWrite::incrementAttempts);
+            retry(writes);
+        } else if (cause instanceof ResourceNotFoundException) {
+            logger.trace("BatchWriteItem: table not present. Creating table using the first item of each table.");
+            byTable.values().forEach(this::createTableAndRetry);
+        } else {
+            logger.warn("BatchWriteItem: failed (final) with {} {}. Dropping {} items.",
+                    cause.getClass().getSimpleName(), cause.getMessage(), writes.size());
+        }
+    }
+
+    private void createTableAndRetry(List<PendingWrite<?>> writes) {
+        List<PendingWrite<?>> rest = writes.subList(1, writes.size());
+        writes.get(0).putItemCreatingTable().whenCompleteAsync((result, exception) -> {
+            if (exception == null) {
+                retryQueue.addAll(rest);
+                flush();
+            } else if (!rest.isEmpty()) {
+                // TableCreatingPutItem has logged the reason already
+                logger.warn("BatchWriteItem: table creation failed. Dropping {} items.", rest.size());
+            }
+        }, executor);
+    }
+
+    private void retry(List<PendingWrite<?>> writes) {
+        List<PendingWrite<?>> retries = new ArrayList<>(writes.size());
+        for (PendingWrite<?> write : writes) {
+            if (write.attempts < MAX_ATTEMPTS) {
+                retries.add(write);
+            } else {
+                logger.warn("BatchWriteItem: giving up writing {} after {} attempts", write.dto, write.attempts);
+            }
+        }
+        if (retries.isEmpty()) {
+            return;
+        }
+        long delay = Math.min(RETRY_MAX_DELAY_MILLIS, RETRY_BASE_DELAY_MILLIS << maxAttempts(retries));
+        scheduledRetries.addAndGet(retries.size());
+        retryJobs.removeIf(ScheduledFuture::isDone);
+        retryJobs.add(scheduler.schedule(() -> {
+            if (stopped) {
+                return;
+            }
+            retryQueue.addAll(retries);
+            scheduledRetries.addAndGet(-retries.size());
+            flush();
+        }, delay, TimeUnit.MILLISECONDS));
+    }
+
+    private static int maxAttempts(List<PendingWrite<?>> writes) {
+        return writes.stream().mapToInt(w -> w.attempts).max().orElse(0);
+    }
+
+    private static boolean isThrottling(Throwable cause) {
+        return cause instanceof ProvisionedThroughputExceededException
+                || cause instanceof RequestLimitExceededException
+                || (cause instanceof AwsServiceException serviceException && serviceException.isThrottlingException());
+    }
+
+    /**
+     * DTO waiting to be written, with the table it belongs to
+     */
+    private class PendingWrite<T extends DynamoDBItem<?>> {
+        private final T dto;
+        private final DynamoDbAsyncTable<T> table;
+        private int attempts;
+
+        PendingWrite(T dto, DynamoDbAsyncTable<T> table, int attempts) {
+            this.dto = dto;
+            this.table = table;
+            this.attempts = attempts;
+        }
+
+        void incrementAttempts() {
+            attempts++;
+        }
+
+        String key() {
+            return table.tableName() + '\0' + dto.getName() + '\0' + dto.getTime().toInstant().toEpochMilli();
+        }
+
+        /**
+         * Write batch for writes, all of which are for the same table as this write
+         */
+        WriteBatch toWriteBatch(List<PendingWrite<?>> writes) {
+            Class<T> dtoClass = table.tableSchema().itemType().rawClass();
+            WriteBatch.Builder<T> builder = WriteBatch.builder(dtoClass).mappedTableResource(table);
+            writes.forEach(write -> builder.addPutItem(dtoClass.cast(write.dto)));
+            return builder.build();
+        }
+
+        /**
+         * Unprocessed writes for the table of this write
+         */
+        List<PendingWrite<?>> unprocessed(BatchWriteResult result, int previousAttempts) {
+            List<PendingWrite<?>> unprocessed = new ArrayList<>();
+            for (T unprocessedDto : result.unprocessedPutItemsForTable(table)) {
+                unprocessed.add(new PendingWrite<>(unprocessedDto, table, previousAttempts + 1));
+            }
+            return unprocessed;
+        }
+
+        CompletableFuture<Void> putItemCreatingTable() {
+            return new TableCreatingPutItem<>(service, dto, table).putItemAsync();
+        }
+    }
+}
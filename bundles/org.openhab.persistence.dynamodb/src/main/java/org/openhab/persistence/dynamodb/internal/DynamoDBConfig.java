@@ -13,6 +13,7 @@
 package org.openhab.persistence.dynamodb.internal;
 
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -49,6 +50,8 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final int DEFAULT_MAX_WRITE_RATE = 1000;
+    public static final int DEFAULT_WRITE_QUEUE_SIZE = 10000;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +63,23 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private int maxWriteRate = DEFAULT_MAX_WRITE_RATE;
+    private int writeQueueSize = DEFAULT_WRITE_QUEUE_SIZE;
+    private WriteQueueOverflow writeQueueOverflow = WriteQueueOverflow.DROP;
+
+    /**
+     * Behaviour when the write queue is full
+     */
+    public enum WriteQueueOverflow {
+        /**
+         * New writes are discarded
+         */
+        DROP,
+        /**
+         * The caller waits for space in the queue (up to the API call timeout)
+         */
+        BLOCK
+    }
 
     /**
      *
@@ -168,31 +188,62 @@ public class DynamoDBConfig {
                 }
             }
 
+            final int maxWriteRate = parsePositiveInt(config.get("maxWriteRate"), DEFAULT_MAX_WRITE_RATE);
+            final int writeQueueSize = parsePositiveInt(config.get("writeQueueSize"), DEFAULT_WRITE_QUEUE_SIZE);
+            final WriteQueueOverflow writeQueueOverflow;
+            String writeQueueOverflowParam = (String) config.get("writeQueueOverflow");
+            if (writeQueueOverflowParam == null || writeQueueOverflowParam.isBlank()) {
+                writeQueueOverflow = WriteQueueOverflow.DROP;
+            } else {
+                writeQueueOverflow = WriteQueueOverflow.valueOf(writeQueueOverflowParam.trim().toUpperCase(Locale.ROOT));
+            }
+
+            final DynamoDBConfig dbConfig;
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
-                    return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                    dbConfig = DynamoDBConfig.newSchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), table, readCapacityUnits, writeCapacityUnits,
+                            expireDays);
+                    break;
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
-                    return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                    dbConfig = DynamoDBConfig.legacySchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), tablePrefixLegacy, readCapacityUnits,
+                            writeCapacityUnits);
+                    break;
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
-                    return DynamoDBConfig.maybeLegacySchema(region, credentials,
+                    dbConfig = DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
                             writeCapacityUnits, expireDays);
+                    break;
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
+            dbConfig.maxWriteRate = maxWriteRate;
+            dbConfig.writeQueueSize = writeQueueSize;
+            dbConfig.writeQueueOverflow = writeQueueOverflow;
+            return dbConfig;
         } catch (Exception e) {
             LOGGER.error("Error with configuration: {} {}", e.getClass().getSimpleName(), e.getMessage());
             return null;
         }
     }
 
+    private static int parsePositiveInt(@Nullable Object param, int defaultValue) {
+        if (param == null || param.toString().isBlank()) {
+            return defaultValue;
+        }
+        int value = Integer.parseInt(param.toString().trim());
+        if (value <= 0) {
+            throw new IllegalArgumentException("Expecting positive integer, got " + value);
+        }
+        return value;
+    }
+
     private static DynamoDBConfig newSchema(Region region, AwsCredentials credentials,
             Optional<RetryPolicy> retryPolicy, String table, long readCapacityUnits, long writeCapacityUnits,
             @Nullable Integer expireDays) {
@@ -263,4 +314,19 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * Upper bound for the adaptive write budget, in items per second
+     */
+    public int getMaxWriteRate() {
+        return maxWriteRate;
+    }
+
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public WriteQueueOverflow getWriteQueueOverflow() {
+        return writeQueueOverflow;
+    }
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
@@ -83,6 +84,8 @@ import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
  *
  * The service creates tables automatically, one for numbers, and one for strings.
  *
+ * Writes are queued and sent using BatchWriteItem requests, see {@link DynamoDBBatchWriter}.
+ *
  * @see AbstractDynamoDBItem#fromStateNew for details how different items are persisted
  *
  * @author Sami Salonen - Initial contribution
@@ -101,6 +104,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     protected static final String CONFIG_URI = "persistence:dynamodb";
 
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
+    private static final String DYNAMODB_SCHEDULER_NAME = "dynamodbPersistenceServiceScheduler";
 
     private final ItemRegistry itemRegistry;
     private final UnitProvider unitProvider;
@@ -111,8 +115,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private @Nullable DynamoDBConfig dbConfig;
     private @Nullable DynamoDBTableNameResolver tableNameResolver;
     private final ExecutorService executor = ThreadPoolManager.getPool(DYNAMODB_THREADPOOL_NAME);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(DYNAMODB_SCHEDULER_NAME);
+    private @Nullable DynamoDBBatchWriter batchWriter;
     private static final Duration TIMEOUT_API_CALL = Duration.ofSeconds(60);
+    private static final Duration WRITE_QUEUE_BLOCK_TIMEOUT = Duration.ofSeconds(1);
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
+    private static final Duration TIMEOUT_WRITE_QUEUE_DRAIN = Duration.ofSeconds(10);
     private Map<Class<? extends DynamoDBItem<?>>, DynamoDbAsyncTable<? extends DynamoDBItem<?>>> tableCache = new ConcurrentHashMap<>(
             2);
 
@@ -174,6 +182,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         return dbConfig;
     }
 
+    @Nullable
+    DynamoDBBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Activate
     public void activate(final @Nullable BundleContext bundleContext, final Map<String, Object> config) {
         disconnect();
@@ -239,8 +252,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
                         lowlevelClientBuilder.endpointOverride(endpointOverride);
                     }
                     DynamoDbAsyncClient lowlevelClient = lowlevelClientBuilder.build();
-                    client = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(lowlevelClient).build();
+                    DynamoDbEnhancedAsyncClient localClient = DynamoDbEnhancedAsyncClient.builder()
+                            .dynamoDbClient(lowlevelClient).build();
+                    client = localClient;
                     this.lowLevelClient = lowlevelClient;
+                    DynamoDBBatchWriter localBatchWriter = new DynamoDBBatchWriter(this, localClient, scheduler,
+                            localDbConfig, WRITE_QUEUE_BLOCK_TIMEOUT);
+                    localBatchWriter.start();
+                    batchWriter = localBatchWriter;
                 }
             } catch (Exception e) {
                 logger.error("Error constructing dynamodb client", e);
@@ -318,6 +337,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         if (client == null || localLowLevelClient == null) {
             return;
         }
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            localBatchWriter.stop(TIMEOUT_WRITE_QUEUE_DRAIN);
+            batchWriter = null;
+        }
         localLowLevelClient.close();
         lowLevelClient = null;
         client = null;
@@ -506,7 +530,8 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.debug("Undefined item state received. Not storing item {}.", item.getName());
             return;
         }
-        if (!isReadyToStore()) {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (!isReadyToStore() || localBatchWriter == null) {
             logger.warn("Not ready to store (config error?), not storing item {}.", item.getName());
             return;
         }
@@ -528,58 +553,84 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         // We 'copy' the item for local use. copyItem also normalizes the unit with NumberItems.
         final GenericItem copiedItem = copyItem(itemTemplate, item, effectiveName, null, unitProvider);
 
-        resolveTableSchema().thenAcceptAsync(resolved -> {
-            if (!resolved) {
-                logger.warn("Table schema not resolved, not storing item {}.", copiedItem.getName());
-                return;
-            }
-
-            DynamoDbEnhancedAsyncClient localClient = client;
-            DynamoDbAsyncClient localLowlevelClient = lowLevelClient;
-            DynamoDBConfig localConfig = dbConfig;
-            DynamoDBTableNameResolver localTableNameResolver = tableNameResolver;
-            if (!isProperlyConfigured || localClient == null || localLowlevelClient == null || localConfig == null
-                    || localTableNameResolver == null) {
-                logger.warn("Not ready to store (config error?), not storing item {}.", item.getName());
-                return;
-            }
-
-            Integer expireDays = localConfig.getExpireDays();
-
-            final DynamoDBItem<?> dto;
-            switch (localTableNameResolver.getTableSchema()) {
-                case NEW:
-                    dto = AbstractDynamoDBItem.fromStateNew(copiedItem, time, expireDays);
-                    break;
-                case LEGACY:
-                    dto = AbstractDynamoDBItem.fromStateLegacy(copiedItem, time);
-                    break;
-                default:
-                    throw new IllegalStateException("Unexpected. Bug");
-            }
-            logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
-                    copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
-            dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
-
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
-                        DynamoDBBigDecimalItem dynamoBigDecimalItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
-                            getTable(DynamoDBBigDecimalItem.class));
-                }
+        // Reserve space from the write queue already here, blocking the caller if so configured
+        if (!localBatchWriter.reserve()) {
+            logger.debug("Write queue full, not storing item {}.", copiedItem.getName());
+            return;
+        }
 
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
-                            getTable(DynamoDBStringItem.class));
+        resolveTableSchema().handleAsync((resolved, resolveException) -> {
+            boolean enqueued = false;
+            try {
+                enqueued = enqueueStore(localBatchWriter, copiedItem, effectiveName, time, resolved,
+                        resolveException);
+            } finally {
+                if (!enqueued) {
+                    localBatchWriter.cancelReservation();
                 }
-            }).putItemAsync();
+            }
+            return null;
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
         });
     }
 
+    private boolean enqueueStore(DynamoDBBatchWriter localBatchWriter, GenericItem copiedItem, String effectiveName,
+            ZonedDateTime time, @Nullable Boolean resolved, @Nullable Throwable resolveException) {
+        if (resolveException != null) {
+            Throwable cause = resolveException.getCause();
+            logger.warn("Table schema resolution errored, not storing item {}: {} {}", copiedItem.getName(),
+                    cause == null ? resolveException.getClass().getSimpleName() : cause.getClass().getSimpleName(),
+                    cause == null ? resolveException.getMessage() : cause.getMessage());
+            return false;
+        }
+        if (resolved == null || !resolved) {
+            logger.warn("Table schema not resolved, not storing item {}.", copiedItem.getName());
+            return false;
+        }
+
+        DynamoDbEnhancedAsyncClient localClient = client;
+        DynamoDbAsyncClient localLowlevelClient = lowLevelClient;
+        DynamoDBConfig localConfig = dbConfig;
+        DynamoDBTableNameResolver localTableNameResolver = tableNameResolver;
+        if (!isProperlyConfigured || localClient == null || localLowlevelClient == null || localConfig == null
+                || localTableNameResolver == null) {
+            logger.warn("Not ready to store (config error?), not storing item {}.", copiedItem.getName());
+            return false;
+        }
+
+        Integer expireDays = localConfig.getExpireDays();
+
+        final DynamoDBItem<?> dto;
+        switch (localTableNameResolver.getTableSchema()) {
+            case NEW:
+                dto = AbstractDynamoDBItem.fromStateNew(copiedItem, time, expireDays);
+                break;
+            case LEGACY:
+                dto = AbstractDynamoDBItem.fromStateLegacy(copiedItem, time);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected. Bug");
+        }
+        logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
+                copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
+        return dto.accept(new DynamoDBItemVisitor<Boolean>() {
+
+            @Override
+            public Boolean visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                localBatchWriter.enqueue(dynamoBigDecimalItem, getTable(DynamoDBBigDecimalItem.class));
+                return true;
+            }
+
+            @Override
+            public Boolean visit(DynamoDBStringItem dynamoStringItem) {
+                localBatchWriter.enqueue(dynamoStringItem, getTable(DynamoDBStringItem.class));
+                return true;
+            }
+        });
+    }
+
     private Item getEffectiveItem(Item item) {
         final Item effectiveItem;
         if (item instanceof GroupItem groupItem) {
@@ -656,6 +707,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void logIfManyQueuedTasks() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null && localBatchWriter.getPendingCount() >= DynamoDBBatchWriter.MAX_BATCH_SIZE * 10) {
+            logger.trace("{} writes pending. Write budget {} items/s", localBatchWriter.getPendingCount(),
+                    localBatchWriter.getBudget().getRate());
+        }
         if (executor instanceof ThreadPoolExecutor localExecutor) {
             if (localExecutor.getQueue().size() >= 5) {
                 logger.trace("executor queue size: {}, remaining space {}. Active threads {}",
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class AdaptiveWriteBudgetTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    public void testInitialBudgetAllowsFullBatch() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(100, nanos::get);
+        assertEquals(25, budget.tryAcquire(25));
+        assertEquals(100.0, budget.getRate());
+    }
+
+    @Test
+    public void testBudgetIsExhaustedAndRefilled() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(10, nanos::get);
+        // capacity is one full batch even when rate is lower
+        assertEquals(25, budget.tryAcquire(25));
+        assertEquals(0, budget.tryAcquire(25));
+        advanceMillis(500);
+        assertEquals(5, budget.tryAcquire(25));
+        advanceMillis(10_000);
+        // refill is capped to capacity
+        assertEquals(25, budget.tryAcquire(100));
+    }
+
+    @Test
+    public void testUnusedItemsAreReleased() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(10, nanos::get);
+        assertEquals(25, budget.tryAcquire(25));
+        budget.release(5);
+        assertEquals(5, budget.tryAcquire(25));
+        // release does not exceed capacity
+        budget.release(100);
+        assertEquals(25, budget.tryAcquire(100));
+    }
+
+    @Test
+    public void testMultiplicativeDecrease() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(100, nanos::get);
+        budget.onThrottled();
+        assertEquals(50.0, budget.getRate());
+        budget.onThrottled();
+        assertEquals(25.0, budget.getRate());
+        for (int i = 0; i < 20; i++) {
+            budget.onThrottled();
+        }
+        assertEquals(AdaptiveWriteBudget.MIN_RATE, budget.getRate());
+    }
+
+    @Test
+    public void testAdditiveIncreaseUpToMaximum() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(200, nanos::get);
+        budget.onThrottled();
+        assertEquals(100.0, budget.getRate());
+        budget.onSuccess();
+        assertEquals(102.0, budget.getRate());
+        budget.onSuccess();
+        assertEquals(104.0, budget.getRate());
+        for (int i = 0; i < 100; i++) {
+            budget.onSuccess();
+        }
+        assertEquals(200.0, budget.getRate());
+    }
+
+    @Test
+    public void testThrottlingSlowsDownRefill() {
+        AdaptiveWriteBudget budget = new AdaptiveWriteBudget(100, nanos::get);
+        assertEquals(100, budget.tryAcquire(1000));
+        budget.onThrottled();
+        advanceMillis(100);
+        assertEquals(5, budget.tryAcquire(1000));
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.openhab.persistence.dynamodb.internal.DynamoDBConfig.WriteQueueOverflow;
 
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -255,4 +256,34 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testWriteQueueDefaults() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig
+                .fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(DynamoDBConfig.DEFAULT_MAX_WRITE_RATE, fromConfig.getMaxWriteRate());
+        assertEquals(DynamoDBConfig.DEFAULT_WRITE_QUEUE_SIZE, fromConfig.getWriteQueueSize());
+        assertEquals(WriteQueueOverflow.DROP, fromConfig.getWriteQueueOverflow());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testWriteQueueSettings() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable", "maxWriteRate", "40", "writeQueueSize", "500",
+                "writeQueueOverflow", "block"));
+        assertEquals(ExpectedTableSchema.NEW, fromConfig.getTableRevision());
+        assertEquals(40, fromConfig.getMaxWriteRate());
+        assertEquals(500, fromConfig.getWriteQueueSize());
+        assertEquals(WriteQueueOverflow.BLOCK, fromConfig.getWriteQueueOverflow());
+    }
+
+    @Test
+    public void testInvalidWriteQueueSettings() throws Exception {
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "writeQueueSize", "0")));
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "writeQueueOverflow", "foobar")));
+    }
 }
@@ -17,12 +17,18 @@ import static java.util.Map.entry;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
 
 import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
@@ -30,6 +36,8 @@ import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -50,8 +58,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.ArcDef;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
+import org.rrd4j.core.RrdDef;
 import org.rrd4j.graph.RrdGraph;
 import org.rrd4j.graph.RrdGraphConstants.FontTag;
 import org.rrd4j.graph.RrdGraphDef;
@@ -69,9 +79,15 @@ import org.slf4j.LoggerFactory;
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
  *
+ * The encoded charts are cached until the next step of the archives they show, because their data cannot change
+ * before. Cached charts are sent with an ETag, so that clients can revalidate them without transferring the image. The
+ * number of concurrently rendered charts is limited, requests that cannot start rendering in time are answered with
+ * 503 (Service Unavailable).
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
  * @author Jan N. Klug - a few improvements
+ * @author agent - Chart cache and conditional requests
  *
  */
 @NonNullByDefault
@@ -95,6 +111,10 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
     private static final Duration DEFAULT_PERIOD = Duration.ofDays(1);
 
+    private static final int MAX_CACHED_CHARTS = 100;
+    private static final int MAX_CONCURRENT_RENDERS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final Duration RENDER_TIMEOUT = Duration.ofSeconds(10);
+
     private static final Map<String, Duration> PERIODS = Map.ofEntries( //
             entry("h", Duration.ofHours(1)), entry("4h", Duration.ofHours(4)), //
             entry("8h", Duration.ofHours(8)), entry("12h", Duration.ofHours(12)), //
@@ -110,6 +130,17 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
 
+    /* All access must be guarded by "chartCache" */
+    private final Map<String, CachedChart> chartCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedChart> eldest) {
+            return size() > MAX_CACHED_CHARTS;
+        }
+    };
+    private final Semaphore renderPermits = new Semaphore(MAX_CONCURRENT_RENDERS, true);
+
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
             final @Reference TimeZoneProvider timeZoneProvider,
@@ -133,6 +164,9 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        synchronized (chartCache) {
+            chartCache.clear();
+        }
     }
 
     @Override
@@ -144,23 +178,163 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         String periodParam = req.getParameter("period");
         Duration period = periodParam == null ? DEFAULT_PERIOD : PERIODS.getOrDefault(periodParam, DEFAULT_PERIOD);
 
+        String items = req.getParameter("items");
+        String groups = req.getParameter("groups");
+        String key = String.join("|", String.valueOf(items), String.valueOf(groups), period.toString(),
+                Integer.toString(width), Integer.toString(height));
+
+        CachedChart chart = getCachedChart(key, System.currentTimeMillis());
+        if (chart == null) {
+            try {
+                if (!renderPermits.tryAcquire(RENDER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    logger.debug("Timed out waiting to generate chart {}", key);
+                    if (res instanceof HttpServletResponse httpResponse) {
+                        httpResponse.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                                "Too many charts are being generated");
+                        return;
+                    }
+                    throw new ServletException("Timed out waiting to generate chart");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting to generate chart");
+            }
+            try {
+                // the same chart may have been rendered while waiting
+                chart = getCachedChart(key, System.currentTimeMillis());
+                if (chart == null) {
+                    chart = renderChart(period, height, width, items, groups);
+                    cacheChart(key, chart, System.currentTimeMillis());
+                }
+            } catch (ItemNotFoundException e) {
+                logger.debug("Item not found error while generating chart", e);
+                throw new ServletException("Item not found error while generating chart: " + e.getMessage());
+            } catch (IllegalArgumentException e) {
+                logger.debug("Illegal argument in chart", e);
+                throw new ServletException("Illegal argument in chart: " + e.getMessage());
+            } finally {
+                renderPermits.release();
+            }
+        }
+
+        writeChart(req, res, chart, System.currentTimeMillis());
+    }
+
+    /**
+     * Sends the chart, or only 304 (Not Modified) if the client already has it.
+     */
+    void writeChart(ServletRequest req, ServletResponse res, CachedChart chart, long now) throws IOException {
+        if (res instanceof HttpServletResponse httpResponse) {
+            long maxAge = Math.max(0, (chart.expires() - now) / 1000);
+            httpResponse.setHeader("ETag", chart.etag());
+            httpResponse.setHeader("Cache-Control", "max-age=" + maxAge);
+            if (req instanceof HttpServletRequest httpRequest
+                    && matchesIfNoneMatch(httpRequest.getHeader("If-None-Match"), chart.etag())) {
+                httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        // Set the content type to that provided by the chart provider
+        res.setContentType("image/" + getChartType());
+        res.setContentLength(chart.png().length);
+        res.getOutputStream().write(chart.png());
+    }
+
+    /**
+     * Evaluates an If-None-Match header as defined in RFC 9110, section 13.1.2: the header is either "*" or a comma
+     * separated list of entity tags, which are compared weakly, i.e. ignoring the "W/" prefix.
+     *
+     * @param ifNoneMatch the value of the header, or null if it is missing
+     * @param etag the entity tag of the current representation
+     * @return true if the header matches the entity tag
+     */
+    static boolean matchesIfNoneMatch(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        int length = ifNoneMatch.length();
+        int i = 0;
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            }
+            // the opaque tag is quoted and cannot contain quotes, but commas
+            int end = i < length && ifNoneMatch.charAt(i) == '"' ? ifNoneMatch.indexOf('"', i + 1) : -1;
+            if (end < 0) {
+                // malformed header, send the full response
+                return false;
+            }
+            if (ifNoneMatch.substring(i, end + 1).equals(opaqueTag)) {
+                return true;
+            }
+            i = end + 1;
+        }
+        return false;
+    }
+
+    @Nullable CachedChart getCachedChart(String key, long now) {
+        synchronized (chartCache) {
+            CachedChart chart = chartCache.get(key);
+            return chart != null && chart.expires() > now ? chart : null;
+        }
+    }
+
+    void cacheChart(String key, CachedChart chart, long now) {
+        synchronized (chartCache) {
+            // expired charts are dropped first, the least recently used ones only when the cache is still full
+            chartCache.values().removeIf(cached -> cached.expires() <= now);
+            chartCache.put(key, chart);
+        }
+    }
+
+    /**
+     * Renders and encodes a chart that ends now.
+     */
+    private CachedChart renderChart(Duration period, int height, int width, @Nullable String items,
+            @Nullable String groups) throws ItemNotFoundException, IOException {
         // Create the start and stop time
         ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
         ZonedDateTime timeBegin = timeEnd.minus(period);
 
-        try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
-                    req.getParameter("groups"), null, null, null);
-            // Set the content type to that provided by the chart provider
-            res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
-        } catch (ItemNotFoundException e) {
-            logger.debug("Item not found error while generating chart", e);
-            throw new ServletException("Item not found error while generating chart: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            logger.debug("Illegal argument in chart", e);
-            throw new ServletException("Illegal argument in chart: " + e.getMessage());
+        long[] step = new long[] { Long.MAX_VALUE };
+        BufferedImage image = createChart(timeBegin, timeEnd, height, width, items, groups,
+                archiveStep -> step[0] = Math.min(step[0], archiveStep));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, getChartType().toString(), out);
+        byte[] png = out.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(png);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + png.length + "\"";
+
+        // the data of the chart changes with the next step of its finest archive
+        long expires = getExpiry(System.currentTimeMillis(), step[0]);
+        return new CachedChart(png, etag, expires);
+    }
+
+    /**
+     * Get the time at which an archive with the given step stores its next value.
+     *
+     * @param now the current time in milliseconds since the epoch
+     * @param archiveStep the step of the archive in seconds, or {@link Long#MAX_VALUE} if no archive is known
+     * @return the start of the next archive step in milliseconds since the epoch, or now if the step is unknown
+     */
+    static long getExpiry(long now, long archiveStep) {
+        if (archiveStep == Long.MAX_VALUE || archiveStep <= 0) {
+            return now;
         }
+        long stepMillis = archiveStep * 1000;
+        return (now / stepMillis + 1) * stepMillis;
     }
 
     private int parseInt(@Nullable String s, int defaultValue) {
@@ -183,8 +357,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @param period the period of the chart
+     * @param archiveStepConsumer receives the step in seconds of the archive the line is drawn from
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter, Duration period,
+            LongConsumer archiveStepConsumer) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
@@ -198,7 +375,9 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             builder.setPath(rrdName);
 
             RrdDb db = builder.build();
-            consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            RrdDef rrdDef = db.getRrdDef();
+            consolFun = rrdDef.getArcDefs()[0].getConsolFun();
+            archiveStepConsumer.accept(getArchiveStep(rrdDef, consolFun, period));
             db.close();
         } catch (IOException e) {
             consolFun = ConsolFun.MAX;
@@ -217,6 +396,28 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    /**
+     * Get the step of the finest archive that covers the period, which is the archive the chart is drawn from.
+     *
+     * @return the step in seconds
+     */
+    static long getArchiveStep(RrdDef rrdDef, ConsolFun consolFun, Duration period) {
+        long step = rrdDef.getStep();
+        long coarsestStep = step;
+        long finestStep = Long.MAX_VALUE;
+        for (ArcDef arcDef : rrdDef.getArcDefs()) {
+            if (arcDef.getConsolFun() != consolFun) {
+                continue;
+            }
+            long archiveStep = arcDef.getSteps() * step;
+            coarsestStep = Math.max(coarsestStep, archiveStep);
+            if (archiveStep * arcDef.getRows() >= period.toSeconds()) {
+                finestStep = Math.min(finestStep, archiveStep);
+            }
+        }
+        return finestStep == Long.MAX_VALUE ? coarsestStep : finestStep;
+    }
+
     @Override
     public void init(@Nullable ServletConfig config) throws ServletException {
     }
@@ -248,6 +449,14 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable String interpolation, @Nullable Boolean legend)
             throws ItemNotFoundException {
+        return createChart(startTime, endTime, height, width, items, groups, step -> {
+        });
+    }
+
+    private BufferedImage createChart(ZonedDateTime startTime, ZonedDateTime endTime, int height, int width,
+            @Nullable String items, @Nullable String groups, LongConsumer archiveStepConsumer)
+            throws ItemNotFoundException {
+        Duration period = Duration.between(startTime, endTime);
         RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
         graphDef.setWidth(width);
         graphDef.setHeight(height);
@@ -268,7 +477,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                addLine(graphDef, item, alias, seriesCounter++, period, archiveStepConsumer);
             }
         }
 
@@ -280,7 +489,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        addLine(graphDef, member, alias, seriesCounter++, period, archiveStepConsumer);
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -304,4 +513,14 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     public ImageType getChartType() {
         return ImageType.png;
     }
+
+    /**
+     * An encoded chart
+     *
+     * @param png the PNG image
+     * @param etag the entity tag of the image
+     * @param expires the time in milliseconds since the epoch until the chart is valid
+     */
+    record CachedChart(byte[] png, String etag, long expires) {
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.core.ui.items.ItemUIRegistry;
+import org.openhab.persistence.rrd4j.internal.charts.RRD4jChartServlet.CachedChart;
+import org.osgi.service.http.HttpService;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.RrdDef;
+
+/**
+ * Tests for the chart caching of {@link RRD4jChartServlet}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+class RRD4jChartServletTest {
+
+    private static final long NOW = 1_700_000_005_000L;
+    private static final String ETAG = "\"1a2b3c-42\"";
+
+    private @Mock @NonNullByDefault({}) HttpService httpService;
+    private @Mock @NonNullByDefault({}) ItemUIRegistry itemUIRegistry;
+    private @Mock @NonNullByDefault({}) TimeZoneProvider timeZoneProvider;
+    private @Mock @NonNullByDefault({}) PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private @Mock @NonNullByDefault({}) HttpServletRequest request;
+    private @Mock @NonNullByDefault({}) HttpServletResponse response;
+    private @Mock @NonNullByDefault({}) ServletOutputStream outputStream;
+
+    private @NonNullByDefault({}) RRD4jChartServlet servlet;
+
+    @BeforeEach
+    void setUp() {
+        servlet = new RRD4jChartServlet(httpService, itemUIRegistry, timeZoneProvider,
+                persistenceServiceConfigurationRegistry);
+    }
+
+    private static RrdDef createRrdDef() {
+        RrdDef rrdDef = new RrdDef("test.rrd", 10);
+        // 10 s for 1 hour, 1 min for 1 day, 10 min for about 7 days
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 360);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 6, 1440);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 60, 1000);
+        rrdDef.addArchive(ConsolFun.MAX, 0.5, 1, 100000);
+        return rrdDef;
+    }
+
+    @Test
+    void archiveStepIsTheFinestArchiveCoveringThePeriod() {
+        RrdDef rrdDef = createRrdDef();
+
+        assertEquals(10, RRD4jChartServlet.getArchiveStep(rrdDef, ConsolFun.AVERAGE, Duration.ofHours(1)));
+        assertEquals(60, RRD4jChartServlet.getArchiveStep(rrdDef, ConsolFun.AVERAGE, Duration.ofHours(4)));
+        assertEquals(60, RRD4jChartServlet.getArchiveStep(rrdDef, ConsolFun.AVERAGE, Duration.ofDays(1)));
+        assertEquals(600, RRD4jChartServlet.getArchiveStep(rrdDef, ConsolFun.AVERAGE, Duration.ofDays(3)));
+    }
+
+    @Test
+    void archiveStepIsTheCoarsestArchiveIfNoneCoversThePeriod() {
+        assertEquals(600, RRD4jChartServlet.getArchiveStep(createRrdDef(), ConsolFun.AVERAGE, Duration.ofDays(7)));
+    }
+
+    @Test
+    void archiveStepOnlyConsidersArchivesOfTheConsolidationFunction() {
+        assertEquals(10, RRD4jChartServlet.getArchiveStep(createRrdDef(), ConsolFun.MAX, Duration.ofDays(7)));
+    }
+
+    @Test
+    void expiryIsAlignedToTheNextArchiveStep() {
+        assertEquals(1_700_000_040_000L, RRD4jChartServlet.getExpiry(NOW, 60));
+        assertEquals(1_700_000_010_000L, RRD4jChartServlet.getExpiry(NOW, 10));
+        assertEquals(1_700_000_400_000L, RRD4jChartServlet.getExpiry(NOW, 600));
+    }
+
+    @Test
+    void expiryAtAStepBoundaryIsTheNextStep() {
+        assertEquals(1_700_000_100_000L, RRD4jChartServlet.getExpiry(1_700_000_040_000L, 60));
+    }
+
+    @Test
+    void expiryWithoutArchiveIsImmediate() {
+        assertEquals(NOW, RRD4jChartServlet.getExpiry(NOW, Long.MAX_VALUE));
+        assertEquals(NOW, RRD4jChartServlet.getExpiry(NOW, 0));
+    }
+
+    @Test
+    void ifNoneMatchComparesEntityTagsWeakly() {
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch(ETAG, ETAG));
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch("W/" + ETAG, ETAG));
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch(ETAG, "W/" + ETAG));
+        assertFalse(RRD4jChartServlet.matchesIfNoneMatch("\"1a2b3c-43\"", ETAG));
+        assertFalse(RRD4jChartServlet.matchesIfNoneMatch(null, ETAG));
+    }
+
+    @Test
+    void ifNoneMatchAcceptsAListOfEntityTags() {
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch("\"other\", W/" + ETAG, ETAG));
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch("\"other\",\t" + ETAG + " ,\"last\"", ETAG));
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch("\"with,comma\", " + ETAG, ETAG));
+        assertFalse(RRD4jChartServlet.matchesIfNoneMatch("\"other\", W/\"last\"", ETAG));
+    }
+
+    @Test
+    void ifNoneMatchWildcardMatchesAnyEntityTag() {
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch("*", ETAG));
+        assertTrue(RRD4jChartServlet.matchesIfNoneMatch(" * ", ETAG));
+    }
+
+    @Test
+    void ifNoneMatchIgnoresMalformedHeaders() {
+        assertFalse(RRD4jChartServlet.matchesIfNoneMatch("1a2b3c-42", ETAG));
+        assertFalse(RRD4jChartServlet.matchesIfNoneMatch("\"1a2b3c-42", ETAG));
+    }
+
+    @Test
+    void matchingRequestIsAnsweredWithNotModified() throws IOException {
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\", W/" + ETAG);
+
+        servlet.writeChart(request, response, new CachedChart(new byte[] { 1, 2, 3 }, ETAG, NOW + 35_000), NOW);
+
+        verify(response).setHeader("ETag", ETAG);
+        verify(response).setHeader("Cache-Control", "max-age=35");
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    void otherRequestIsAnsweredWithTheChart() throws IOException {
+        byte[] png = new byte[] { 1, 2, 3 };
+        when(request.getHeader("If-None-Match")).thenReturn("\"other\"");
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        servlet.writeChart(request, response, new CachedChart(png, ETAG, NOW + 35_000), NOW);
+
+        verify(response).setHeader("ETag", ETAG);
+        verify(response, never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(response).setContentType("image/png");
+        verify(response).setContentLength(png.length);
+        verify(outputStream).write(png);
+    }
+
+    @Test
+    void expiredChartIsNotReturnedFromCache() {
+        CachedChart chart = new CachedChart(new byte[0], ETAG, NOW + 1000);
+        servlet.cacheChart("chart", chart, NOW);
+
+        assertSame(chart, servlet.getCachedChart("chart", NOW + 999));
+        assertNull(servlet.getCachedChart("chart", NOW + 1000));
+    }
+
+    @Test
+    void fullCacheEvictsTheLeastRecentlyUsedChart() {
+        for (int i = 0; i < 100; i++) {
+            servlet.cacheChart("chart" + i, new CachedChart(new byte[0], ETAG, NOW + 60_000), NOW);
+        }
+        assertNotNull(servlet.getCachedChart("chart0", NOW));
+
+        servlet.cacheChart("chart100", new CachedChart(new byte[0], ETAG, NOW + 60_000), NOW);
+
+        assertNotNull(servlet.getCachedChart("chart0", NOW));
+        assertNull(servlet.getCachedChart("chart1", NOW));
+        assertNotNull(servlet.getCachedChart("chart2", NOW));
+        assertNotNull(servlet.getCachedChart("chart100", NOW));
+    }
+
+    @Test
+    void fullCacheEvictsExpiredChartsFirst() {
+        for (int i = 0; i < 100; i++) {
+            servlet.cacheChart("chart" + i, new CachedChart(new byte[0], ETAG, NOW + (i == 50 ? 1000 : 60_000)), NOW);
+        }
+
+        servlet.cacheChart("chart100", new CachedChart(new byte[0], ETAG, NOW + 60_000), NOW + 1000);
+
+        assertNull(servlet.getCachedChart("chart50", NOW + 1000));
+        assertNotNull(servlet.getCachedChart("chart0", NOW + 1000));
+        assertNotNull(servlet.getCachedChart("chart100", NOW + 1000));
+    }
+}
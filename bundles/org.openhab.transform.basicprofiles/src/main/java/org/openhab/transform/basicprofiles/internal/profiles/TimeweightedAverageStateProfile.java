@@ -21,6 +21,7 @@ import java.util.TreeMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.measure.Unit;
 
@@ -42,6 +43,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Build time-weighted average {@link State} values.
  *
+ * The average is integrated while the states are received, so only the last state and the running sums of the time
+ * frame are kept.
+ *
  * @author Bernd Weymann - Initial contribution
  */
 @NonNullByDefault
@@ -49,10 +53,11 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
 
     private final Logger logger = LoggerFactory.getLogger(TimeweightedAverageStateProfile.class);
-    private final TreeMap<Instant, State> timeframe = new TreeMap<>();
+    private final Integral timeframe = new Integral();
     private final TimeweightedAverageProfileConfig config;
     private final ScheduledExecutorService scheduler;
     private final ProfileCallback callback;
+    private final Supplier<Instant> now;
 
     private boolean streamingInTimeframe = false;
     private Duration scheduleDuration;
@@ -62,7 +67,15 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     private @Nullable Unit<?> stateUnit;
 
     public TimeweightedAverageStateProfile(ProfileCallback callback, ProfileContext context) {
+        this(callback, context, Instant::now);
+    }
+
+    /**
+     * @param now supplies the time stamps of the received states, e.g. a fixed clock for tests
+     */
+    TimeweightedAverageStateProfile(ProfileCallback callback, ProfileContext context, Supplier<Instant> now) {
         this.callback = callback;
+        this.now = now;
         this.scheduler = context.getExecutorService();
         this.config = context.getConfiguration().as(TimeweightedAverageProfileConfig.class);
         itemName = callback.getItemChannelLink().getItemName();
@@ -99,7 +112,7 @@ public class TimeweightedAverageStateProfile implements StateProfile {
 
             // start new time frame
             startJob();
-            timeframe.put(Instant.now(), state);
+            timeframe.add(now.get(), state);
             latestState = state;
             streamingInTimeframe = true;
         }
@@ -133,32 +146,26 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     }
 
     private void deliver() {
-        TreeMap<Instant, State> delivery = prepareDelivery();
-        if (delivery.size() <= 1) {
-            logger.debug("Cannot calculate time-weighted average for item {} with {} elements", itemName,
-                    delivery.size());
-        } else {
-            callback.sendUpdate(getState(average(delivery)));
-        }
-    }
-
-    private TreeMap<Instant, State> prepareDelivery() {
-        TreeMap<Instant, State> delivery;
-        // synchronize access to timeframe and latestState to prepare delivery without parallel execution of
+        int size;
+        double average = 0;
+        // synchronize access to timeframe and latestState to deliver without parallel execution of
         // onStateUpdateFromHandler
         synchronized (timeframe) {
             resetJob();
-            delivery = new TreeMap<>(timeframe);
             // add termination element
-            Instant now = Instant.now();
-            delivery.put(now, DecimalType.ZERO);
+            Instant now = this.now.get();
+            timeframe.add(now, DecimalType.ZERO);
+            size = timeframe.size();
+            if (size > 1) {
+                average = timeframe.average();
+            }
             // clear time frame and put latest reported state as start point of the next calculation
             timeframe.clear();
             State localState = latestState;
             if (localState != null) {
                 if (streamingInTimeframe) {
                     // state updates retrieved in time frame, start new job
-                    timeframe.put(now, localState);
+                    timeframe.add(now, localState);
                     streamingInTimeframe = false;
                     startJob();
                 } else {
@@ -167,7 +174,11 @@ public class TimeweightedAverageStateProfile implements StateProfile {
                 }
             }
         }
-        return delivery;
+        if (size <= 1) {
+            logger.debug("Cannot calculate time-weighted average for item {} with {} elements", itemName, size);
+        } else {
+            callback.sendUpdate(getState(average));
+        }
     }
 
     private void startJob() {
@@ -195,24 +206,12 @@ public class TimeweightedAverageStateProfile implements StateProfile {
         return as.doubleValue();
     }
 
-    public double average(TreeMap<Instant, State> values) {
-        Instant previousTimestamp = null;
-        State previousValue = DecimalType.ZERO;
-        double totalWeightedValue = 0;
-        long totalDurationMs = 0;
-
+    double average(TreeMap<Instant, State> values) {
+        Integral integral = new Integral();
         for (Map.Entry<Instant, State> entry : values.entrySet()) {
-            if (previousTimestamp != null) {
-                long durationMs = Duration.between(previousTimestamp, entry.getKey()).toMillis();
-                totalWeightedValue += state2Double(previousValue) * durationMs;
-                totalDurationMs += durationMs;
-            }
-            previousTimestamp = entry.getKey();
-            previousValue = entry.getValue();
+            integral.add(entry.getKey(), entry.getValue());
         }
-        double average = (totalDurationMs > 0) ? totalWeightedValue / totalDurationMs : 0;
-        logger.debug("Average {} is {} for {} updates", itemName, average, values.size());
-        return average;
+        return integral.average();
     }
 
     private State getState(double average) {
@@ -238,4 +237,51 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     public void onCommandFromHandler(Command command) {
         // no-op
     }
+
+    /**
+     * The running integral of the states of a time frame. Each state is weighted with the time until the next state,
+     * the last state is the termination element of the time frame.
+     */
+    private class Integral {
+        private @Nullable Instant lastTimestamp;
+        private State lastState = DecimalType.ZERO;
+        private double totalWeightedValue;
+        private long totalDurationMs;
+        private int size;
+
+        private void add(Instant timestamp, State state) {
+            Instant previousTimestamp = lastTimestamp;
+            if (previousTimestamp == null) {
+                size = 1;
+            } else if (timestamp.isAfter(previousTimestamp)) {
+                long durationMs = Duration.between(previousTimestamp, timestamp).toMillis();
+                totalWeightedValue += state2Double(lastState) * durationMs;
+                totalDurationMs += durationMs;
+                size++;
+            } else {
+                // a state with the same time stamp replaces the previous one
+                timestamp = previousTimestamp;
+            }
+            lastTimestamp = timestamp;
+            lastState = state;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private double average() {
+            double average = (totalDurationMs > 0) ? totalWeightedValue / totalDurationMs : 0;
+            logger.debug("Average {} is {} for {} updates", itemName, average, size);
+            return average;
+        }
+
+        private void clear() {
+            lastTimestamp = null;
+            lastState = DecimalType.ZERO;
+            totalWeightedValue = 0;
+            totalDurationMs = 0;
+            size = 0;
+        }
+    }
 }
@@ -21,13 +21,17 @@ import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.config.core.Configuration;
@@ -57,6 +61,10 @@ class TimeweightedAverageProfileTest {
     private ItemChannelLink testLink = new ItemChannelLink(testItemName, testChannelUID);
 
     private TimeweightedAverageStateProfile initTWAProfile(String duration, double delta) {
+        return initTWAProfile(duration, delta, Instant::now);
+    }
+
+    private TimeweightedAverageStateProfile initTWAProfile(String duration, double delta, Supplier<Instant> now) {
         Configuration config = new Configuration();
         config.put("duration", duration);
         if (delta > 0) {
@@ -72,7 +80,7 @@ class TimeweightedAverageProfileTest {
         testLink = new ItemChannelLink(testItemName, testChannelUID, config);
         when(mockCallback.getItemChannelLink()).thenReturn(testLink);
 
-        return new TimeweightedAverageStateProfile(mockCallback, mockContext);
+        return new TimeweightedAverageStateProfile(mockCallback, mockContext, now);
     }
 
     public static Stream<Arguments> testTWATimeframe() {
@@ -169,4 +177,25 @@ class TimeweightedAverageProfileTest {
         verify(mockCallback, times(expectedCallbacks)).sendUpdate(any());
         reset(mockCallback);
     }
+
+    @Test
+    public void testTWAScheduledDelivery() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-01-01T00:00:00Z"));
+        TimeweightedAverageStateProfile profile = initTWAProfile("1h", 0, now::get);
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+
+        profile.onStateUpdateFromHandler(QuantityType.valueOf("500 W"));
+        now.set(Instant.parse("2024-01-01T00:00:30Z"));
+        profile.onStateUpdateFromHandler(QuantityType.valueOf("1000 W"));
+        now.set(Instant.parse("2024-01-01T00:01:00Z"));
+        // the mocked scheduler returns no future, so each update schedules the job
+        verify(mockScheduler, times(2)).schedule(job.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // time frame is delivered by the scheduled job
+        job.getValue().run();
+        verify(mockCallback).sendUpdate(eq(QuantityType.valueOf("750 W")));
+
+        // next time frame starts with the latest state
+        verify(mockScheduler, times(3)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.transform.TransformationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecCoProcessPool} keeps long-lived co-processes for exec transformations, so that a helper program is
+ * started once instead of once per transformation.
+ * <p>
+ * A co-process reads one request per line from its standard input and writes exactly one response line per request
+ * to its standard output. Backslashes, carriage returns and line feeds in requests and responses are escaped as
+ * <code>\\</code>, <code>\r</code> and <code>\n</code>. The output on standard error is logged.
+ * <p>
+ * Up to <code>poolSize</code> co-processes are started per command line when transformations run concurrently. A
+ * co-process that exited is started again with the next request. A co-process that does not respond in time is
+ * stopped, because its next response could belong to the request that timed out.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcessPool {
+    private final Logger logger = LoggerFactory.getLogger(ExecCoProcessPool.class);
+
+    private final Map<String, CommandPool> pools = new ConcurrentHashMap<>();
+    private final int poolSize;
+    private final Duration timeout;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param poolSize the maximum number of co-processes per command line
+     * @param timeout the time to wait for a free co-process and for its response
+     */
+    public ExecCoProcessPool(int poolSize, Duration timeout) {
+        this.poolSize = Math.max(1, poolSize);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Transforms the input by a co-process of the command line, which is started if necessary.
+     *
+     * @param commandLine the command line
+     * @param cmdLineParts the split command line
+     * @param source the input to transform
+     * @return the response of the co-process
+     * @throws TransformationException if the co-process could not be started or did not respond in time
+     */
+    public String transform(String commandLine, String[] cmdLineParts, String source) throws TransformationException {
+        return pools.computeIfAbsent(commandLine, c -> new CommandPool(c, cmdLineParts)).transform(source);
+    }
+
+    /**
+     * Stops the co-processes of a command line, e.g. because it was removed from the whitelist.
+     */
+    public void stop(String commandLine) {
+        CommandPool pool = pools.remove(commandLine);
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    /**
+     * Stops the co-processes of all command lines that are not accepted by the filter, e.g. because they were removed
+     * from the whitelist.
+     *
+     * @param filter returns true for the command lines to keep
+     */
+    public void retainAll(Predicate<String> filter) {
+        pools.keySet().stream().filter(filter.negate()).toList().forEach(this::stop);
+    }
+
+    /**
+     * Stops all co-processes.
+     */
+    public void stopAll() {
+        pools.keySet().forEach(this::stop);
+    }
+
+    static String encode(String value) {
+        return value.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    static String decode(String line) {
+        if (line.indexOf('\\') < 0) {
+            return line;
+        }
+        StringBuilder result = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                result.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private class CommandPool {
+        private final String commandLine;
+        private final String[] cmdLineParts;
+        private final Semaphore permits = new Semaphore(poolSize, true);
+        private final Deque<CoProcess> idle = new ConcurrentLinkedDeque<>();
+        private volatile boolean stopped;
+
+        private CommandPool(String commandLine, String[] cmdLineParts) {
+            this.commandLine = commandLine;
+            this.cmdLineParts = cmdLineParts;
+        }
+
+        private String transform(String source) throws TransformationException {
+            try {
+                if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new TransformationException("No co-process of '" + commandLine + "' available");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransformationException("Interrupted while waiting for a co-process", e);
+            }
+            try {
+                CoProcess coProcess = idle.pollFirst();
+                while (coProcess != null && !coProcess.isAlive()) {
+                    coProcess = idle.pollFirst();
+                }
+                if (coProcess == null) {
+                    coProcess = new CoProcess(commandLine, cmdLineParts);
+                }
+                String response = coProcess.request(source);
+                if (stopped) {
+                    coProcess.stop();
+                } else {
+                    idle.addFirst(coProcess);
+                }
+                return response;
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            CoProcess coProcess;
+            while ((coProcess = idle.pollFirst()) != null) {
+                coProcess.stop();
+            }
+        }
+    }
+
+    private class CoProcess {
+        private final String commandLine;
+        private final Process process;
+        private final BufferedWriter writer;
+        // an empty response marks the end of the output
+        private final BlockingQueue<Optional<String>> responses = new LinkedBlockingQueue<>();
+        private volatile boolean stopping;
+
+        private CoProcess(String commandLine, String[] cmdLineParts) throws TransformationException {
+            this.commandLine = commandLine;
+            try {
+                process = new ProcessBuilder(cmdLineParts).start();
+            } catch (IOException e) {
+                throw new TransformationException("Cannot start co-process '" + commandLine + "'", e);
+            }
+            logger.debug("Started co-process '{}' with pid {}", commandLine, process.pid());
+            writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            startThread("out", this::readResponses);
+            startThread("err", this::readErrors);
+        }
+
+        private boolean isAlive() {
+            return process.isAlive();
+        }
+
+        private String request(String source) throws TransformationException {
+            Optional<String> response;
+            try {
+                writer.write(encode(source));
+                writer.write('\n');
+                writer.flush();
+                response = responses.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (IOException e) {
+                stop();
+                throw new TransformationException("Cannot write to co-process '" + commandLine + "'", e);
+            } catch (InterruptedException e) {
+                stop();
+                Thread.currentThread().interrupt();
+                throw new TransformationException("Interrupted while waiting for co-process '" + commandLine + "'",
+                        e);
+            }
+            if (response == null) {
+                stop();
+                throw new TransformationException("Co-process '" + commandLine + "' did not respond within " + timeout);
+            }
+            if (response.isEmpty()) {
+                stop();
+                throw new TransformationException("Co-process '" + commandLine + "' exited");
+            }
+            return decode(response.get());
+        }
+
+        private void stop() {
+            stopping = true;
+            process.destroy();
+        }
+
+        private void startThread(String stream, Runnable runnable) {
+            Thread thread = new Thread(runnable, "OH-transform-exec-" + process.pid() + "-" + stream);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void readResponses() {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    responses.add(Optional.of(line));
+                }
+            } catch (IOException e) {
+                logger.debug("Cannot read output of co-process '{}': {}", commandLine, e.getMessage());
+            } finally {
+                responses.add(Optional.empty());
+                logExit();
+            }
+        }
+
+        private void readErrors() {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    logger.debug("Co-process '{}': {}", commandLine, line);
+                }
+            } catch (IOException e) {
+                // the process was stopped
+            }
+        }
+
+        private void logExit() {
+            try {
+                if (process.waitFor(1, TimeUnit.SECONDS)) {
+                    int exitValue = process.exitValue();
+                    if (exitValue != 0 && !stopping) {
+                        logger.warn("Co-process '{}' exited with {}, it is started again with the next request",
+                                commandLine, exitValue);
+                    } else {
+                        logger.debug("Co-process '{}' exited", commandLine);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
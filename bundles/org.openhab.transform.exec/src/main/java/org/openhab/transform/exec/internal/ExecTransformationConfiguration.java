@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ExecTransformationConfiguration} contains the settings of the exec transformation.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecTransformationConfiguration {
+    /** The maximum number of co-processes per command line */
+    public int coprocessPoolSize = 1;
+    /** The time in seconds to wait for the response of a co-process */
+    public int coprocessTimeout = 5;
+}
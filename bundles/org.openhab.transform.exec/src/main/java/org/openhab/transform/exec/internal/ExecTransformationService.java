@@ -13,15 +13,21 @@
 package org.openhab.transform.exec.internal;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.net.exec.ExecUtil;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,20 +36,48 @@ import org.slf4j.LoggerFactory;
  * The implementation of {@link TransformationService} which transforms the
  * input by command line.
  *
+ * Command lines that start with {@link #COPROCESS_PREFIX} are started once as a co-process, which is then used for
+ * all transformations by that command line, see {@link ExecCoProcessPool}. The co-processes of command lines that
+ * are removed from the whitelist are stopped.
+ *
  * @author Pauli Anttila - Initial contribution
  * @author Jan N. Klug - added command whitelist service
+ * @author agent - Co-processes
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=EXEC" })
+@Component(configurationPid = "org.openhab.transform.exec", property = { "openhab.transform=EXEC",
+        Constants.SERVICE_PID + "=org.openhab.transform.exec" })
+@ConfigurableService(category = "transformation", label = "Exec Transformation", description_uri = ExecTransformationService.CONFIG_DESCRIPTION_URI)
 public class ExecTransformationService implements TransformationService {
+    public static final String CONFIG_DESCRIPTION_URI = "transformation:exec";
+    public static final String COPROCESS_PREFIX = "coprocess:";
+
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
+    private final Runnable whitelistChangeListener = this::stopRemovedCoProcesses;
+    private volatile ExecCoProcessPool coProcessPool;
 
     @Activate
     public ExecTransformationService(
-            @Reference ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService) {
+            @Reference ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService,
+            Map<String, Object> config) {
         this.execTransformationWhitelistWatchService = execTransformationWhitelistWatchService;
+        this.coProcessPool = createCoProcessPool(config);
+        execTransformationWhitelistWatchService.addWhitelistChangeListener(whitelistChangeListener);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        ExecCoProcessPool oldPool = coProcessPool;
+        coProcessPool = createCoProcessPool(config);
+        oldPool.stopAll();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        execTransformationWhitelistWatchService.removeWhitelistChangeListener(whitelistChangeListener);
+        coProcessPool.stopAll();
     }
 
     /**
@@ -67,12 +101,34 @@ public class ExecTransformationService implements TransformationService {
 
         long startTime = System.currentTimeMillis();
 
-        String formattedCommandLine = String.format(commandLine, source);
-        String[] cmdLineParts = SPLIT_ON_SPACE.matcher(formattedCommandLine).results()
-                .map(mr -> mr.group(2) == null ? mr.group() : mr.group(2)).toArray(String[]::new);
-        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(5), cmdLineParts);
-        logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
+        String result;
+        if (commandLine.startsWith(COPROCESS_PREFIX)) {
+            // the input is passed on the standard input of the co-process, the command line is not formatted
+            result = coProcessPool.transform(commandLine, split(commandLine.substring(COPROCESS_PREFIX.length())),
+                    source);
+            logger.trace("co-process request elapsed {} ms", System.currentTimeMillis() - startTime);
+        } else {
+            String formattedCommandLine = String.format(commandLine, source);
+            result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(5), split(formattedCommandLine));
+            logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
+        }
 
         return result;
     }
+
+    private void stopRemovedCoProcesses() {
+        coProcessPool.retainAll(execTransformationWhitelistWatchService::isWhitelisted);
+    }
+
+    private static String[] split(String commandLine) {
+        return SPLIT_ON_SPACE.matcher(commandLine).results().map(mr -> mr.group(2) == null ? mr.group() : mr.group(2))
+                .toArray(String[]::new);
+    }
+
+    private static ExecCoProcessPool createCoProcessPool(Map<String, Object> config) {
+        ExecTransformationConfiguration configuration = new Configuration(config)
+                .as(ExecTransformationConfiguration.class);
+        return new ExecCoProcessPool(configuration.coprocessPoolSize,
+                Duration.ofSeconds(Math.max(1, configuration.coprocessTimeout)));
+    }
 }
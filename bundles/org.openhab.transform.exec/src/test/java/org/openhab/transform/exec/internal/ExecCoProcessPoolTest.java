@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Tests the {@link ExecCoProcessPool} with co-processes that run {@link TestCoProcess}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcessPoolTest {
+    private static final String COMMAND_LINE = "coprocess:test";
+    private static final String[] CMD_LINE_PARTS = { Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"), TestCoProcess.class.getName() };
+
+    private @Nullable ExecCoProcessPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        ExecCoProcessPool pool = this.pool;
+        if (pool != null) {
+            pool.stopAll();
+        }
+    }
+
+    @Test
+    public void encodeAndDecode() {
+        String value = "line 1\r\nline 2 \\n \\\\ \\";
+
+        String encoded = ExecCoProcessPool.encode(value);
+
+        assertFalse(encoded.contains("\n") || encoded.contains("\r"));
+        assertEquals(value, ExecCoProcessPool.decode(encoded));
+        assertEquals("plain", ExecCoProcessPool.decode("plain"));
+    }
+
+    @Test
+    public void requestAndResponseAreFramed() throws TransformationException {
+        ExecCoProcessPool pool = createPool(1, Duration.ofSeconds(10));
+        String value = "first line\nsecond line\r\nwith \\ backslash and \\n";
+
+        assertEquals(value, payload(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, value)));
+        assertEquals("", payload(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "")));
+    }
+
+    @Test
+    public void coProcessIsReused() throws TransformationException {
+        ExecCoProcessPool pool = createPool(1, Duration.ofSeconds(10));
+
+        long pid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "a"));
+
+        assertEquals(pid, pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "b")));
+    }
+
+    @Test
+    public void coProcessIsStoppedAndStartedAgainAfterTimeout() throws TransformationException, InterruptedException {
+        ExecCoProcessPool pool = createPool(1, Duration.ofSeconds(5));
+        long pid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "a"));
+
+        TransformationException e = assertThrows(TransformationException.class,
+                () -> pool.transform(COMMAND_LINE, CMD_LINE_PARTS, TestCoProcess.HANG));
+        assertTrue(e.getMessage().contains("did not respond"));
+        assertStopped(pid);
+
+        long restartedPid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "b"));
+        assertNotEquals(pid, restartedPid);
+    }
+
+    @Test
+    public void crashedCoProcessIsStartedAgain() throws TransformationException, InterruptedException {
+        ExecCoProcessPool pool = createPool(1, Duration.ofSeconds(10));
+        long pid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "a"));
+
+        TransformationException e = assertThrows(TransformationException.class,
+                () -> pool.transform(COMMAND_LINE, CMD_LINE_PARTS, TestCoProcess.CRASH));
+        assertTrue(e.getMessage().contains("exited"));
+        assertStopped(pid);
+
+        long restartedPid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "b"));
+        assertNotEquals(pid, restartedPid);
+    }
+
+    @Test
+    public void poolSizeLimitsConcurrentCoProcesses() throws Exception {
+        ExecCoProcessPool pool = createPool(2, Duration.ofSeconds(30));
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                responses.add(executor.submit(() -> pool.transform(COMMAND_LINE, CMD_LINE_PARTS, TestCoProcess.SLOW)));
+            }
+            Set<Long> pids = new HashSet<>();
+            for (Future<String> response : responses) {
+                pids.add(pid(response.get(60, TimeUnit.SECONDS)));
+            }
+            assertTrue(pids.size() <= 2, "more co-processes than the pool size: " + pids);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coProcessesOfRemovedCommandLinesAreStopped() throws TransformationException, InterruptedException {
+        ExecCoProcessPool pool = createPool(1, Duration.ofSeconds(10));
+        long pid = pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "a"));
+
+        pool.retainAll(COMMAND_LINE::equals);
+        assertEquals(pid, pid(pool.transform(COMMAND_LINE, CMD_LINE_PARTS, "b")));
+
+        pool.retainAll(commandLine -> false);
+        assertStopped(pid);
+    }
+
+    private ExecCoProcessPool createPool(int poolSize, Duration timeout) {
+        ExecCoProcessPool pool = new ExecCoProcessPool(poolSize, timeout);
+        this.pool = pool;
+        return pool;
+    }
+
+    private static long pid(String response) {
+        return Long.parseLong(response.substring(0, response.indexOf(':')));
+    }
+
+    private static String payload(String response) {
+        return response.substring(response.indexOf(':') + 1);
+    }
+
+    private static void assertStopped(long pid) throws InterruptedException {
+        for (int i = 0; i < 100 && ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false); i++) {
+            Thread.sleep(100);
+        }
+        assertFalse(ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false), "co-process is still running");
+    }
+
+    /**
+     * A co-process that answers each request with its pid and the request, both encoded.
+     */
+    public static class TestCoProcess {
+        static final String HANG = "hang";
+        static final String CRASH = "crash";
+        static final String SLOW = "slow";
+
+        public static void main(String[] args) throws IOException, InterruptedException {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                switch (line) {
+                    case HANG:
+                        Thread.sleep(Long.MAX_VALUE);
+                        break;
+                    case CRASH:
+                        System.exit(1);
+                        break;
+                    case SLOW:
+                        Thread.sleep(500);
+                        break;
+                    default:
+                        break;
+                }
+                System.out.println(ProcessHandle.current().pid() + ":" + line);
+                System.out.flush();
+            }
+        }
+    }
+}
@@ -14,11 +14,15 @@ package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,22 +35,45 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
  *
+ * <p>
+ * The parsed node trees of the most recently used templates are cached, and the parsed JSON of the last value is
+ * reused when several templates render the same value.
+ *
  * @author Jochen Klein - Initial contribution
+ * @author agent - Template cache and statistics
  *
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=JINJA" })
+@Component(service = { TransformationService.class, JinjaTransformationService.class }, property = {
+        "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
+    private static final int MAX_CACHED_TEMPLATES = 500;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
+    private final Map<String, Node> cachedTemplates = Collections
+            .synchronizedMap(new LRUMap<>(MAX_CACHED_TEMPLATES));
+    private volatile @Nullable ParsedValue lastValue;
+
+    private final AtomicLong renderCount = new AtomicLong();
+    private final AtomicLong templateCacheHits = new AtomicLong();
+    private final AtomicLong valueCacheHits = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final LongAccumulator maxRenderNanos = new LongAccumulator(Math::max, 0);
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -62,19 +89,23 @@ public class JinjaTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", value, template);
 
+        long start = System.nanoTime();
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
+        JsonNode tree = parseValue(value);
+        if (tree != null) {
             bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            transformationResult = render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            renderCount.incrementAndGet();
+            renderNanos.addAndGet(nanos);
+            maxRenderNanos.accumulate(nanos);
         }
 
         logger.debug("transformation resulted in '{}'", transformationResult);
@@ -82,6 +113,68 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
+    /**
+     * @return the statistics of the transformations since the service was started
+     */
+    public Statistics getStatistics() {
+        return new Statistics(renderCount.get(), templateCacheHits.get(), valueCacheHits.get(), cachedTemplates.size(),
+                renderNanos.get() / 1000, maxRenderNanos.get() / 1000);
+    }
+
+    /**
+     * Renders a template like {@link Jinjava#render(String, Map)}, but with the cached node tree of the template.
+     */
+    private String render(String template, Map<String, @Nullable Object> bindings) {
+        Context context = new Context(jinjava.getGlobalContext(), bindings);
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            Node root = cachedTemplates.get(template);
+            if (root != null) {
+                templateCacheHits.incrementAndGet();
+            } else {
+                root = interpreter.parse(template);
+                // templates with syntax errors are parsed again, so that the errors are reported on each call
+                if (interpreter.getErrorsCopy().isEmpty()) {
+                    cachedTemplates.put(template, root);
+                }
+            }
+            String output = interpreter.render(root);
+            List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                    .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(template, fatalErrors);
+            }
+            return output;
+        } catch (InterpretException e) {
+            throw new FatalTemplateErrorsException(template, List.of(TemplateError.fromException(e)));
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    /**
+     * Parses a value as JSON, or reuses the parsed JSON of the last value if it is the same.
+     *
+     * @return the JSON tree, or <code>null</code> if the value is no JSON
+     */
+    private @Nullable JsonNode parseValue(String value) {
+        ParsedValue last = lastValue;
+        if (last != null && last.value().equals(value)) {
+            valueCacheHits.incrementAndGet();
+            return last.tree();
+        }
+        JsonNode tree;
+        try {
+            tree = OBJECT_MAPPER.readTree(value);
+        } catch (IOException e) {
+            // ok, then value_json is null...
+            tree = null;
+        }
+        lastValue = new ParsedValue(value, tree);
+        return tree;
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -111,4 +204,40 @@ public class JinjaTransformationService implements TransformationService {
                 return null;
         }
     }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    /**
+     * The JSON tree of a value, shared by concurrent transformations. It is never modified, each transformation
+     * converts it to its own bindings.
+     */
+    private record ParsedValue(String value, @Nullable JsonNode tree) {
+    }
+
+    /**
+     * Statistics of the transformations
+     *
+     * @param renderCount the number of rendered templates
+     * @param templateCacheHits the number of templates that were rendered from the cached node tree
+     * @param valueCacheHits the number of values whose parsed JSON was reused
+     * @param cachedTemplates the number of currently cached templates
+     * @param renderMicros the total render time in microseconds
+     * @param maxRenderMicros the longest render time in microseconds
+     */
+    public record Statistics(long renderCount, long templateCacheHits, long valueCacheHits, int cachedTemplates,
+            long renderMicros, long maxRenderMicros) {
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.transform.jinja.internal.JinjaTransformationService;
+import org.openhab.transform.jinja.internal.JinjaTransformationService.Statistics;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JinjaCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class JinjaCommandExtension extends AbstractConsoleCommandExtension {
+    private static final String STATISTICS = "statistics";
+
+    private final JinjaTransformationService transformationService;
+
+    @Activate
+    public JinjaCommandExtension(final @Reference JinjaTransformationService transformationService) {
+        super("jinja", "Interact with the Jinja transformation.");
+        this.transformationService = transformationService;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && STATISTICS.equals(args[0])) {
+            Statistics statistics = transformationService.getStatistics();
+            long renderCount = statistics.renderCount();
+            console.println("Rendered templates:       " + renderCount);
+            console.println("Template cache hits:      " + statistics.templateCacheHits());
+            console.println("Parsed value reuses:      " + statistics.valueCacheHits());
+            console.println("Cached templates:         " + statistics.cachedTemplates());
+            console.println("Average render time (us): "
+                    + (renderCount == 0 ? 0 : statistics.renderMicros() / renderCount));
+            console.println("Maximum render time (us): " + statistics.maxRenderMicros());
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(STATISTICS, "show the render statistics of the Jinja transformation"));
+    }
+}
@@ -113,4 +113,22 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateAndValue() throws TransformationException {
+        String json = "{\"temperature\": 21.5, \"humidity\": 40}";
+
+        // when rendering the same template and value several times
+        assertEquals("21.5", processor.transform("{{ value_json.temperature }}", json));
+        assertEquals("40", processor.transform("{{ value_json.humidity }}", json));
+        assertEquals("21.5", processor.transform("{{ value_json.temperature }}", json));
+        assertEquals("22", processor.transform("{{ value_json.temperature }}", "{\"temperature\": 22}"));
+
+        // then the parsed template and value are reused
+        JinjaTransformationService.Statistics statistics = processor.getStatistics();
+        assertEquals(4, statistics.renderCount());
+        assertEquals(2, statistics.templateCacheHits());
+        assertEquals(2, statistics.valueCacheHits());
+        assertEquals(2, statistics.cachedTemplates());
+    }
 }
@@ -12,6 +12,9 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +33,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
+ * <p>
+ * The compiled patterns of the most recently used expressions are cached, so that profiles which transform values
+ * frequently don't compile their expression on each call.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
@@ -39,6 +46,10 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int MAX_CACHED_EXPRESSIONS = 1000;
+
+    private final Map<String, CompiledExpression> cachedExpressions = Collections
+            .synchronizedMap(new LRUMap<>(MAX_CACHED_EXPRESSIONS));
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -49,49 +60,78 @@ public class RegExTransformationService implements TransformationService {
         logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
 
         String result = "";
+        String trimmedSource = source.trim();
+        CompiledExpression expression = cachedExpressions.computeIfAbsent(regExpression, this::compile);
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        String substitution = expression.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
-            } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
-            }
+            Matcher matcher = expression.pattern().matcher(trimmedSource);
+            return expression.global() ? matcher.replaceAll(substitution) : matcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = expression.pattern().matcher(trimmedSource);
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
                     regExpression, source);
             return null;
         }
+        if (expression.groupCount() == 0) {
+            logger.info(
+                    "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
+                    regExpression);
+            return result;
+        }
+        if (expression.groupCount() > 1) {
+            logger.debug(
+                    "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
+                    regExpression);
+        }
         matcher.reset();
 
         while (matcher.find()) {
-            if (matcher.groupCount() == 0) {
-                logger.info(
-                        "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
-                        regExpression);
-                continue;
-            }
-
             result = matcher.group(1);
-
-            if (matcher.groupCount() > 1) {
-                logger.debug(
-                        "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
-                        regExpression);
-            }
         }
 
         return result;
     }
+
+    private CompiledExpression compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            Pattern pattern = Pattern.compile(substMatcher.group(1));
+            return new CompiledExpression(pattern, pattern.matcher("").groupCount(), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        }
+        Pattern pattern = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL);
+        return new CompiledExpression(pattern, pattern.matcher("").groupCount(), null, false);
+    }
+
+    /**
+     * A compiled regular expression
+     *
+     * @param pattern the compiled pattern
+     * @param groupCount the number of capturing groups of the pattern
+     * @param substitution the replacement of the substitution form, <code>null</code> for the match form
+     * @param global <code>true</code> if all occurrences are replaced by the substitution form
+     */
+    private record CompiledExpression(Pattern pattern, int groupCount, @Nullable String substitution,
+            boolean global) {
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -75,4 +75,24 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_cachedExpression() throws TransformationException {
+        // the compiled expressions are reused with other sources
+        assertEquals("12", processor.transform("X(\\d+)", "X12"));
+        assertEquals("345", processor.transform("X(\\d+)", " X345 "));
+        assertNull(processor.transform("X(\\d+)", "Y345"));
+
+        assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+        assertEquals("Reset(0)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:Reset,ARG:0"));
+    }
+
+    @Test
+    public void testTransformByRegex_manyExpressions() throws TransformationException {
+        // more expressions than the cache holds
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(String.valueOf(i), processor.transform("v" + i + "=(\\d+)", "v" + i + "=" + i));
+        }
+        assertEquals("8", processor.transform(".*?<current_conditions>.*?<temp_c data=\"(.*?)\".*", source));
+    }
 }
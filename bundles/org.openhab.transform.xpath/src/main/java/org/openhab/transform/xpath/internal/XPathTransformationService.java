@@ -12,13 +12,18 @@
  */
 package org.openhab.transform.xpath.internal;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,19 +35,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * <p>
+ * Neither the parsed documents nor the compiled expressions are thread safe, so each thread keeps its own
+ * {@link Evaluator}: the compiled expressions of the most recently used XPaths and the last parsed document. Channels
+ * that extract several values from the same payload thus parse it only once, and no lock is shared between threads.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author agent - Per-thread expression and document cache
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 100;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,40 +67,81 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
-            domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
-
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            Evaluator evaluator = evaluators.get();
+            String transformationResult = (String) evaluator.compile(xpathExpression).evaluate(evaluator.parse(source),
+                    XPathConstants.STRING);
 
             logger.debug("transformation resulted in '{}'", transformationResult);
 
             return transformationResult;
         } catch (Exception e) {
             throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
+        }
+    }
+
+    /**
+     * Parses and evaluates on the thread it belongs to.
+     */
+    private static class Evaluator {
+        private final XPath xpath = XPathFactory.newInstance().newXPath();
+        private final Map<String, XPathExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, XPathExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        };
+        private @Nullable DocumentBuilder builder;
+        private @Nullable String lastSource;
+        private @Nullable Document lastDocument;
+
+        private XPathExpression compile(String xpathExpression) throws XPathExpressionException {
+            XPathExpression expression = expressions.get(xpathExpression);
+            if (expression == null) {
+                expression = xpath.compile(xpathExpression);
+                expressions.put(xpathExpression, expression);
+            }
+            return expression;
+        }
+
+        private Document parse(String source) throws ParserConfigurationException, SAXException, IOException {
+            Document document = lastDocument;
+            if (document != null && source.equals(lastSource)) {
+                return document;
+            }
+            // don't keep the last document if the source can't be parsed
+            lastSource = null;
+            lastDocument = null;
+
+            InputSource inputSource = new InputSource(new StringReader(source));
+            inputSource.setEncoding("UTF-8");
+            document = getBuilder().parse(inputSource);
+
+            lastSource = source;
+            lastDocument = document;
+            return document;
+        }
+
+        private DocumentBuilder getBuilder() throws ParserConfigurationException {
+            DocumentBuilder builder = this.builder;
+            if (builder == null) {
+                DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+                // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
+                domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+                domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+                domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+                domFactory.setXIncludeAware(false);
+                domFactory.setExpandEntityReferences(false);
+                domFactory.setNamespaceAware(true);
+                domFactory.setValidating(false);
+                builder = domFactory.newDocumentBuilder();
+                this.builder = builder;
+            } else {
+                builder.reset();
             }
+            return builder;
         }
     }
 }
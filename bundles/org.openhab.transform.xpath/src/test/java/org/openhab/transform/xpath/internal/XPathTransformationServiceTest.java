@@ -14,6 +14,13 @@ package org.openhab.transform.xpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
@@ -38,4 +45,32 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXPath_sameSource() throws TransformationException {
+        // the parsed source is reused by the second expression, the compiled expression by another source
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+
+        assertEquals("1", processor.transform("/a/b", "<a><b>1</b></a>"));
+        assertEquals("", processor.transform("//current_conditions/temp_c/@data", "<a/>"));
+    }
+
+    @Test
+    public void testTransformByXPath_concurrently() throws Exception {
+        // each thread evaluates with its own compiled expression and parsed document
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String value = Integer.toString(i);
+                results.add(executor.submit(() -> processor.transform("/a/b", "<a><b>" + value + "</b></a>")));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Integer.toString(i), results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +55,19 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXSLT_modifiedFile() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("modified.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), xsl, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/modified.xsl", source));
+        // the cached stylesheet is used for the next transformation
+        assertEquals("8", processor.transform("http/modified.xsl", source));
+
+        String modified = Files.readString(xsl).replace("temp_c", "temp_f");
+        Files.writeString(xsl, modified);
+        Files.setLastModifiedTime(xsl, FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + 1000));
+
+        assertEquals("46", processor.transform("http/modified.xsl", source));
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link PiperAudioStream} class is a wav {@link AudioStream} which is written while the audio is being generated,
+ * so consumers can start reading the first sentence while the next ones are still being synthesized.
+ *
+ * As the final length is unknown when the stream starts, the wav header uses the max chunk sizes, as usually done
+ * for streamed wav audio. For that reason these streams are not stored in the TTS cache.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PiperAudioStream extends AudioStream {
+    private static final byte[] END_OF_STREAM = new byte[0];
+    private static final int UNKNOWN_SIZE = 0xFFFFFFFF;
+
+    private final AudioFormat audioFormat;
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private byte[] currentChunk;
+    private int currentChunkPosition = 0;
+    private volatile boolean closed = false;
+    private volatile @Nullable IOException error;
+
+    /**
+     *
+     * @param audioFormat openHAB audio format of the stream.
+     * @param jAudioFormat pcm format of the audio that will be written, used to build the wav header.
+     */
+    public PiperAudioStream(AudioFormat audioFormat, javax.sound.sampled.AudioFormat jAudioFormat) {
+        this.audioFormat = audioFormat;
+        this.currentChunk = getWavHeader(jAudioFormat);
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    /**
+     * Appends pcm data to the stream.
+     *
+     * @param pcmData audio data in the format used to create the stream.
+     */
+    public void write(byte[] pcmData) {
+        if (!closed && pcmData.length > 0) {
+            chunks.add(pcmData);
+        }
+    }
+
+    /**
+     * Marks the end of the audio, readers will reach the end of the stream after the written data.
+     */
+    public void complete() {
+        chunks.add(END_OF_STREAM);
+    }
+
+    /**
+     * Marks the end of the audio because of a generation error, readers will get the error after the written data.
+     *
+     * @param e generation error.
+     */
+    public void fail(IOException e) {
+        error = e;
+        chunks.add(END_OF_STREAM);
+    }
+
+    /**
+     * @return true if the consumer has closed the stream, so no more audio needs to be generated.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextChunk()) {
+            return -1;
+        }
+        return currentChunk[currentChunkPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int read = Math.min(len, currentChunk.length - currentChunkPosition);
+        System.arraycopy(currentChunk, currentChunkPosition, b, off, read);
+        currentChunkPosition += read;
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return currentChunk.length - currentChunkPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        chunks.clear();
+        currentChunk = END_OF_STREAM;
+        currentChunkPosition = 0;
+    }
+
+    /**
+     * Waits until there is unread data.
+     *
+     * @return false if the end of the stream has been reached.
+     */
+    private boolean nextChunk() throws IOException {
+        while (currentChunkPosition >= currentChunk.length) {
+            if (currentChunk == END_OF_STREAM) {
+                IOException error = this.error;
+                if (error != null && !closed) {
+                    throw error;
+                }
+                return false;
+            }
+            try {
+                currentChunk = chunks.take();
+                currentChunkPosition = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for audio");
+            }
+        }
+        return true;
+    }
+
+    private static byte[] getWavHeader(javax.sound.sampled.AudioFormat jAudioFormat) {
+        int channels = jAudioFormat.getChannels();
+        int sampleRate = (int) jAudioFormat.getSampleRate();
+        int bitsPerSample = jAudioFormat.getSampleSizeInBits();
+        int blockAlign = channels * bitsPerSample / 8;
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_SIZE);
+        header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) 1); // PCM
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitsPerSample);
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_SIZE);
+        return header.array();
+    }
+}
@@ -28,6 +28,7 @@ import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -41,6 +42,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.sound.sampled.AudioFileFormat;
@@ -79,6 +81,7 @@ import io.github.jvoiceproject.piperjni.PiperVoice;
  * The {@link PiperTTSService} class is a service implementation to use Piper for Text-to-Speech.
  *
  * @author Miguel Álvarez - Initial contribution
+ * @author agent - Multi-sentence streaming and time to first audio
  */
 @NonNullByDefault
 @Component(service = TTSService.class, configurationPid = SERVICE_PID, property = Constants.SERVICE_PID + "="
@@ -93,9 +96,12 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private static final Path JAR_FILE = PIPER_FOLDER.resolve("piper-jni-" + PIPER_VERSION + ".jar");
     private static final String JAR_URL = "https://openhab.jfrog.io/artifactory/libs-online-deps/io/github/jvoice-project/piper-jni/"
             + PIPER_VERSION + "/piper-jni-" + PIPER_VERSION + ".jar";
+    private static final Pattern ABBREVIATION_END = Pattern.compile("(^|\\s)\\p{Lu}\\p{Ll}{0,3}\\.$");
+
     private final Logger logger = LoggerFactory.getLogger(PiperTTSService.class);
     private final Object modelLock = new Object();
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-pipertts");
+    private final TimeToFirstAudioMetric timeToFirstAudio = new TimeToFirstAudioMetric();
     private PiperTTSConfiguration config = new PiperTTSConfiguration();
     private Map<String, List<Voice>> cachedVoicesByModel = new HashMap<>();
     private boolean ready = false;
@@ -326,6 +332,18 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 null));
     }
 
+    @Override
+    public AudioStream synthesize(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
+        if (config.streaming && voice instanceof PiperTTSVoice ttsVoice) {
+            List<String> sentences = splitSentences(text, ttsVoice.getLocale());
+            if (sentences.size() > 1) {
+                // the streamed wav header can not contain the final sizes, so streamed audio skips the cache
+                return synthesizeStreamed(sentences, ttsVoice, requestedFormat);
+            }
+        }
+        return super.synthesize(text, voice, requestedFormat);
+    }
+
     @Override
     public AudioStream synthesizeForCache(String text, Voice voice, AudioFormat audioFormat) throws TTSException {
         if (!ready) {
@@ -334,61 +352,156 @@ public class PiperTTSService extends AbstractCachedTTSService {
         if (!(voice instanceof PiperTTSVoice ttsVoice)) {
             throw new TTSException("No piper voice provided");
         }
-        VoiceModel voiceModel = null;
-        boolean usingPreloadedModel = false;
-        short[] buffer;
-        int sampleRate;
-        final VoiceModel preloadedModel = this.preloadedModel;
+        long startTime = System.nanoTime();
+        ModelLease modelLease = acquireModel(ttsVoice);
         try {
-            try {
-                if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
-                    logger.debug("Using preloaded voice model");
-                    preloadedModel.consumers.incrementAndGet();
-                    voiceModel = preloadedModel;
-                    usingPreloadedModel = true;
-                } else {
-                    unloadModel();
-                    logger.debug("Loading voice model...");
-                    voiceModel = loadModel(ttsVoice);
-                    synchronized (modelLock) {
-                        usingPreloadedModel = voiceModel.equals(this.preloadedModel);
-                    }
-                }
-            } catch (IOException e) {
-                throw new TTSException("Unable to load voice model: " + e.getMessage());
-            }
-            try {
-                logger.debug("Generating audio for: '{}'", text);
-                buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
-                sampleRate = voiceModel.sampleRate;
-                logger.debug("Generated {} samples of audio", buffer.length);
-            } catch (IOException e) {
-                throw new TTSException("Voice generation failed: " + e.getMessage());
-            }
+            PiperJNI piper = getPiper();
+            VoiceModel voiceModel = modelLease.voiceModel();
+            logger.debug("Generating audio for: '{}'", text);
+            short[] buffer = piper.textToAudio(voiceModel.piperVoice, text);
+            logger.debug("Generated {} samples of audio", buffer.length);
+            logger.debug("Return re-encoded audio stream");
+            AudioStream audioStream = getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+            timeToFirstAudio.record(System.nanoTime() - startTime);
+            return audioStream;
         } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
             throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (IOException e) {
+            throw new TTSException("Voice generation failed: " + e.getMessage());
         } catch (RuntimeException e) {
             logger.warn("RuntimeException running text to audio: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
         } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
+            releaseModel(modelLease);
+        }
+    }
+
+    /**
+     * Generates the first sentence and returns a stream that receives the remaining ones as they are generated.
+     */
+    private AudioStream synthesizeStreamed(List<String> sentences, PiperTTSVoice ttsVoice, AudioFormat audioFormat)
+            throws TTSException {
+        if (!ready) {
+            throw new TTSException("Add-on is not loaded");
+        }
+        long startTime = System.nanoTime();
+        ModelLease modelLease = acquireModel(ttsVoice);
+        boolean releaseModel = true;
+        try {
+            PiperJNI piper = getPiper();
+            VoiceModel voiceModel = modelLease.voiceModel();
+            // Generate the first sentence before returning so errors are reported and the stream starts with audio
+            javax.sound.sampled.AudioFormat jTargetFormat = getJavaTargetFormat(audioFormat);
+            logger.debug("Generating streamed audio for {} sentences, first: '{}'", sentences.size(), sentences.get(0));
+            short[] firstSamples = piper.textToAudio(voiceModel.piperVoice, sentences.get(0));
+            PiperAudioStream audioStream = new PiperAudioStream(audioFormat, jTargetFormat);
+            audioStream.write(toTargetPCM(firstSamples, voiceModel.sampleRate, jTargetFormat));
+            timeToFirstAudio.record(System.nanoTime() - startTime);
+            executor.execute(() -> streamRemainingSentences(piper, modelLease, sentences, jTargetFormat, audioStream));
+            releaseModel = false;
+            return audioStream;
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (IOException e) {
+            throw new TTSException("Voice generation failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            throw new TTSException("There was an error running Piper");
+        } finally {
+            if (releaseModel) {
+                releaseModel(modelLease);
+            }
+        }
+    }
+
+    private void streamRemainingSentences(PiperJNI piper, ModelLease modelLease, List<String> sentences,
+            javax.sound.sampled.AudioFormat jTargetFormat, PiperAudioStream audioStream) {
+        VoiceModel voiceModel = modelLease.voiceModel();
+        try {
+            for (String sentence : sentences.subList(1, sentences.size())) {
+                if (audioStream.isClosed()) {
+                    logger.debug("Audio stream closed, stop generation");
+                    break;
                 }
+                logger.debug("Generating audio for: '{}'", sentence);
+                short[] samples = piper.textToAudio(voiceModel.piperVoice, sentence);
+                audioStream.write(toTargetPCM(samples, voiceModel.sampleRate, jTargetFormat));
             }
+            audioStream.complete();
+        } catch (IOException e) {
+            logger.warn("Voice generation failed: {}", e.getMessage());
+            audioStream.fail(e);
+        } catch (PiperJNI.NotInitialized e) {
+            logger.warn("Piper not initialized, try restarting the add-on.");
+            audioStream.fail(new IOException("Piper not initialized", e));
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            audioStream.fail(new IOException("There was an error running Piper", e));
+        } finally {
+            releaseModel(modelLease);
         }
+    }
+
+    private ModelLease acquireModel(PiperTTSVoice ttsVoice) throws TTSException {
+        final VoiceModel preloadedModel = this.preloadedModel;
         try {
-            logger.debug("Return re-encoded audio stream");
-            return getAudioStream(buffer, sampleRate, audioFormat);
+            if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
+                logger.debug("Using preloaded voice model");
+                preloadedModel.consumers.incrementAndGet();
+                return new ModelLease(preloadedModel, true);
+            }
+            unloadModel();
+            logger.debug("Loading voice model...");
+            VoiceModel voiceModel = loadModel(ttsVoice);
+            synchronized (modelLock) {
+                return new ModelLease(voiceModel, voiceModel.equals(this.preloadedModel));
+            }
         } catch (IOException e) {
-            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+            throw new TTSException("Unable to load voice model: " + e.getMessage());
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException loading voice model: {}", e.getMessage());
+            throw new TTSException("There was an error running Piper");
+        }
+    }
+
+    private void releaseModel(ModelLease modelLease) {
+        VoiceModel voiceModel = modelLease.voiceModel();
+        if (!modelLease.preloaded()
+                || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
+            logger.debug("Unloading voice model");
+            voiceModel.close();
+        } else {
+            logger.debug("Skipping voice model unload");
         }
     }
 
+    /**
+     * Splits the text at the sentence boundaries of the voice language, so audio can be generated and played by parts.
+     * A boundary after a short capitalized abbreviation like "Dr." is ignored, as the break iterator takes it as the
+     * end of a sentence when it is followed by a name.
+     */
+    static List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (sentence.isEmpty() || ABBREVIATION_END.matcher(sentence).find() && end < text.length()) {
+                continue;
+            }
+            sentences.add(sentence);
+            start = end;
+        }
+        String rest = text.substring(start).trim();
+        if (!rest.isEmpty()) {
+            sentences.add(rest);
+        }
+        return sentences;
+    }
+
     private VoiceModel loadModel(PiperTTSVoice voice) throws IOException, PiperJNI.NotInitialized, LibraryNotLoaded {
         if (!Files.exists(voice.voiceModelPath()) || !Files.exists(voice.voiceModelConfigPath())) {
             throw new IOException("Missing voice files");
@@ -461,6 +574,37 @@ public class PiperTTSService extends AbstractCachedTTSService {
         return getAudioStreamWithRIFFHeader(convertedInputStream.readAllBytes(), jTargetFormat, targetFormat);
     }
 
+    /**
+     * Converts the i16 samples returned by piper into raw pcm data in the target format.
+     */
+    private byte[] toTargetPCM(short[] samples, int sampleRate, javax.sound.sampled.AudioFormat jTargetFormat)
+            throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        byteBuffer.asShortBuffer().put(samples);
+        byte[] bytes = byteBuffer.array();
+        javax.sound.sampled.AudioFormat jAudioFormat = new javax.sound.sampled.AudioFormat(sampleRate, 16, 1, true,
+                false);
+        if (jAudioFormat.matches(jTargetFormat)) {
+            return bytes;
+        }
+        try (AudioInputStream convertedInputStream = AudioSystem.getAudioInputStream(jTargetFormat,
+                new AudioInputStream(new ByteArrayInputStream(bytes), jAudioFormat, samples.length))) {
+            return convertedInputStream.readAllBytes();
+        }
+    }
+
+    private javax.sound.sampled.AudioFormat getJavaTargetFormat(AudioFormat targetFormat) {
+        int bitDepth = Objects.requireNonNull(targetFormat.getBitDepth());
+        // wav stores 8 bits samples as unsigned
+        return new javax.sound.sampled.AudioFormat(
+                bitDepth == 8 ? javax.sound.sampled.AudioFormat.Encoding.PCM_UNSIGNED
+                        : javax.sound.sampled.AudioFormat.Encoding.PCM_SIGNED,
+                Objects.requireNonNull(targetFormat.getFrequency()), bitDepth,
+                Objects.requireNonNull(targetFormat.getChannels()),
+                Objects.requireNonNull(targetFormat.getChannels()) * bitDepth / 8,
+                Objects.requireNonNull(targetFormat.getFrequency()), false);
+    }
+
     private String capitalize(String text) {
         return text.substring(0, 1).toUpperCase() + text.substring(1);
     }
@@ -503,6 +647,9 @@ public class PiperTTSService extends AbstractCachedTTSService {
         }
     }
 
+    private record ModelLease(VoiceModel voiceModel, boolean preloaded) {
+    }
+
     private record VoiceModel(PiperTTSVoice ttsVoice, PiperVoice piperVoice, int sampleRate, AtomicInteger consumers,
             Logger logger) implements AutoCloseable {
 
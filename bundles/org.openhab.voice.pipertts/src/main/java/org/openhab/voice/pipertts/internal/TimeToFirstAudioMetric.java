@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TimeToFirstAudioMetric} class tracks the time elapsed between a synthesis request and the moment its
+ * first audio is available to be played.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimeToFirstAudioMetric {
+    private final Logger logger = LoggerFactory.getLogger(TimeToFirstAudioMetric.class);
+    private long count;
+    private long totalNanos;
+    private long lastNanos;
+    private long maxNanos;
+
+    /**
+     * Registers the time to first audio of a synthesis request.
+     *
+     * @param nanos elapsed nanoseconds.
+     */
+    public void record(long nanos) {
+        synchronized (this) {
+            count++;
+            totalNanos += nanos;
+            lastNanos = nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+        logger.debug("Time to first audio: {}", this);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getLastMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastNanos);
+    }
+
+    public synchronized long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+    }
+
+    public synchronized long getAverageMillis() {
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+
+    @Override
+    public String toString() {
+        return "last " + getLastMillis() + "ms, average " + getAverageMillis() + "ms, max " + getMaxMillis()
+                + "ms, requests " + getCount();
+    }
+}
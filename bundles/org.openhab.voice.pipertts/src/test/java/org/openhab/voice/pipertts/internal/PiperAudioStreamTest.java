@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.audio.AudioFormat;
+
+/**
+ * Tests the {@link PiperAudioStream} as it is filled by a generation worker.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PiperAudioStreamTest {
+    private static final int HEADER_SIZE = 44;
+
+    private final AudioFormat audioFormat = new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED,
+            false, 16, null, 22050L, 1);
+    private final javax.sound.sampled.AudioFormat jAudioFormat = new javax.sound.sampled.AudioFormat(22050, 16, 1,
+            true, false);
+
+    @Test
+    public void firstChunkIsReadableBeforeCompletion() throws Exception {
+        PiperAudioStream stream = new PiperAudioStream(audioFormat, jAudioFormat);
+        CountDownLatch firstChunkRead = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            stream.write(new byte[] { 1, 2 });
+            try {
+                // the next sentence is only generated once the first one has been read
+                assertTrue(firstChunkRead.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stream.write(new byte[] { 3, 4 });
+            stream.complete();
+        });
+        worker.start();
+
+        assertEquals(HEADER_SIZE, stream.readNBytes(HEADER_SIZE).length);
+        assertArrayEquals(new byte[] { 1, 2 }, stream.readNBytes(2));
+        firstChunkRead.countDown();
+        assertArrayEquals(new byte[] { 3, 4 }, stream.readAllBytes());
+        assertEquals(-1, stream.read());
+        worker.join(5000);
+    }
+
+    @Test
+    public void workerErrorIsThrownAfterTheWrittenAudio() throws Exception {
+        PiperAudioStream stream = new PiperAudioStream(audioFormat, jAudioFormat);
+        Thread worker = new Thread(() -> {
+            stream.write(new byte[] { 1, 2 });
+            stream.fail(new IOException("generation failed"));
+        });
+        worker.start();
+        worker.join(5000);
+
+        stream.readNBytes(HEADER_SIZE);
+        assertArrayEquals(new byte[] { 1, 2 }, stream.readNBytes(2));
+        IOException error = assertThrows(IOException.class, stream::read);
+        assertEquals("generation failed", error.getMessage());
+    }
+
+    @Test
+    public void closedStreamStopsTheWorker() throws Exception {
+        PiperAudioStream stream = new PiperAudioStream(audioFormat, jAudioFormat);
+        stream.write(new byte[] { 1, 2 });
+        stream.close();
+
+        assertTrue(stream.isClosed());
+        assertEquals(-1, stream.read());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the sentence splitting of the {@link PiperTTSService}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PiperTTSServiceTest {
+
+    @Test
+    public void splitsAtSentenceBoundaries() {
+        assertEquals(List.of("Wait... what?", "Yes!", "Turn on the light."),
+                PiperTTSService.splitSentences("Wait... what? Yes! Turn on the light.", Locale.ENGLISH));
+    }
+
+    @Test
+    public void keepsAbbreviationsInTheSentence() {
+        assertEquals(List.of("Dr. Smith is at the door.", "It is 3 p.m. now."),
+                PiperTTSService.splitSentences("Dr. Smith is at the door. It is 3 p.m. now.", Locale.ENGLISH));
+        assertEquals(List.of("Mr. Brown arrived, e.g. today."),
+                PiperTTSService.splitSentences("Mr. Brown arrived, e.g. today.", Locale.ENGLISH));
+    }
+
+    @Test
+    public void keepsTextWithoutTerminalPunctuation() {
+        assertEquals(List.of("Hello world"), PiperTTSService.splitSentences("Hello world", Locale.ENGLISH));
+        assertEquals(List.of("The door is open.", "Close it"),
+                PiperTTSService.splitSentences("The door is open. Close it", Locale.ENGLISH));
+    }
+
+    @Test
+    public void emptyTextHasNoSentences() {
+        assertEquals(List.of(), PiperTTSService.splitSentences("", Locale.ENGLISH));
+        assertEquals(List.of(), PiperTTSService.splitSentences("  ", Locale.ENGLISH));
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.rustpotterks.internal;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.core.voice.KSErrorEvent;
+import org.openhab.core.voice.KSListener;
+import org.openhab.core.voice.KSpottedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.givimad.rustpotter_java.Rustpotter;
+import io.github.givimad.rustpotter_java.RustpotterConfig;
+import io.github.givimad.rustpotter_java.RustpotterDetection;
+
+/**
+ * The {@link RustpotterDetectionStream} class runs the detection for one audio stream.
+ *
+ * The audio is read on its own thread, as reads block until the source has data, while the frame processing is
+ * delegated to the shared detection workers, so the number of cores used for detection does not grow with the number
+ * of streams. Frames are processed in order and their buffers are reused, so the stream does not allocate while
+ * running.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RustpotterDetectionStream {
+    /**
+     * Max number of frames read and not yet processed, the audio source buffers the rest when workers are busy.
+     */
+    private static final int MAX_PENDING_FRAMES = 8;
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Logger logger = LoggerFactory.getLogger(RustpotterDetectionStream.class);
+    private final Rustpotter rustpotter;
+    private final Executor detectionWorkers;
+    private final KSListener ksListener;
+    private final AudioStream audioStream;
+    private final long bytesPerMs;
+    private final int bytesPerFrame;
+    private final AtomicBoolean aborted = new AtomicBoolean(false);
+    private final AtomicBoolean processing = new AtomicBoolean(false);
+    private final BlockingQueue<Frame> freeFrames = new ArrayBlockingQueue<>(MAX_PENDING_FRAMES);
+    private final Queue<Frame> pendingFrames = new ConcurrentLinkedQueue<>();
+    private boolean deleted = false;
+    // metrics, only updated while holding the rustpotter lock
+    private long processedFrames;
+    private long cpuTimeNanos;
+    private long detections;
+    private long totalDetectionLatencyNanos;
+
+    /**
+     *
+     * @param rustpotter detector with the wakeword loaded, owned by the stream.
+     * @param detectionWorkers executor used for processing the audio frames.
+     * @param ksListener listener for the detection events.
+     * @param audioStream audio to process.
+     * @param bytesPerMs audio bytes per millisecond.
+     */
+    public RustpotterDetectionStream(Rustpotter rustpotter, Executor detectionWorkers, KSListener ksListener,
+            AudioStream audioStream, long bytesPerMs) {
+        this.rustpotter = rustpotter;
+        this.detectionWorkers = detectionWorkers;
+        this.ksListener = ksListener;
+        this.audioStream = audioStream;
+        this.bytesPerMs = bytesPerMs;
+        this.bytesPerFrame = (int) rustpotter.getBytesPerFrame();
+        for (int i = 0; i < MAX_PENDING_FRAMES; i++) {
+            freeFrames.add(new Frame(new byte[bytesPerFrame]));
+        }
+    }
+
+    /**
+     * Stops the detection.
+     */
+    public void abort() {
+        aborted.set(true);
+    }
+
+    public void updateConfig(RustpotterConfig config) {
+        synchronized (rustpotter) {
+            if (!deleted) {
+                rustpotter.updateConfig(config);
+            }
+        }
+    }
+
+    /**
+     * Reads the audio stream until the detection is aborted or the stream ends, then releases the detector.
+     */
+    public void run() {
+        boolean hasFailed = false;
+        try {
+            Frame frame = takeFreeFrame();
+            int remaining = bytesPerFrame;
+            while (frame != null && !aborted.get()) {
+                try {
+                    int numBytesRead = audioStream.read(frame.data, bytesPerFrame - remaining, remaining);
+                    if (aborted.get() || numBytesRead == -1) {
+                        break;
+                    }
+                    hasFailed = false;
+                    if (numBytesRead != remaining) {
+                        remaining = remaining - numBytesRead;
+                        Thread.sleep(remaining / bytesPerMs);
+                        continue;
+                    }
+                    remaining = bytesPerFrame;
+                    frame.readNanos = System.nanoTime();
+                    pendingFrames.add(frame);
+                    scheduleProcessing();
+                    frame = takeFreeFrame();
+                } catch (IOException e) {
+                    String errorMessage = e.getMessage();
+                    ksListener.ksEventReceived(
+                            new KSErrorEvent(errorMessage != null ? errorMessage : "Unexpected error"));
+                    if (hasFailed) {
+                        logger.warn("Multiple consecutive errors, stopping service");
+                        break;
+                    }
+                    hasFailed = true;
+                }
+            }
+        } catch (InterruptedException ignored) {
+            logger.warn("Thread interrupted while waiting for audio, aborting execution");
+        } finally {
+            aborted.set(true);
+            delete();
+        }
+    }
+
+    private @Nullable Frame takeFreeFrame() throws InterruptedException {
+        while (!aborted.get()) {
+            Frame frame = freeFrames.poll(100, TimeUnit.MILLISECONDS);
+            if (frame != null) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleProcessing() {
+        if (processing.compareAndSet(false, true)) {
+            try {
+                detectionWorkers.execute(this::processPendingFrames);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Detection workers unavailable, aborting execution");
+                processing.set(false);
+                aborted.set(true);
+            }
+        }
+    }
+
+    /**
+     * Processes the pending frames in order, only one worker runs it for a stream at the same time.
+     */
+    private void processPendingFrames() {
+        do {
+            Frame frame;
+            while ((frame = pendingFrames.poll()) != null) {
+                if (!aborted.get()) {
+                    processFrame(frame);
+                }
+                freeFrames.offer(frame);
+            }
+            processing.set(false);
+        } while (!pendingFrames.isEmpty() && processing.compareAndSet(false, true));
+    }
+
+    private void processFrame(Frame frame) {
+        Optional<RustpotterDetection> result;
+        synchronized (rustpotter) {
+            if (deleted) {
+                return;
+            }
+            long cpuTimeStart = getCurrentThreadCpuTime();
+            result = rustpotter.processBytes(frame.data);
+            cpuTimeNanos += getCurrentThreadCpuTime() - cpuTimeStart;
+            processedFrames++;
+            if (result.isPresent()) {
+                detections++;
+                totalDetectionLatencyNanos += System.nanoTime() - frame.readNanos;
+            }
+        }
+        if (result.isPresent()) {
+            var detection = result.get();
+            if (logger.isDebugEnabled()) {
+                ArrayList<String> scores = new ArrayList<>();
+                var scoreNames = detection.getScoreNames().split("\\|\\|");
+                var scoreValues = detection.getScores();
+                for (var i = 0; i < Integer.min(scoreNames.length, scoreValues.length); i++) {
+                    scores.add("'" + scoreNames[i] + "': " + scoreValues[i]);
+                }
+                logger.debug(
+                        "Detected '{}' with: Score: {}, AvgScore: {}, Count: {}, Gain: {}, Scores: {}, Latency: {}ms",
+                        detection.getName(), detection.getScore(), detection.getAvgScore(), detection.getCounter(),
+                        detection.getGain(), String.join(", ", scores),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - frame.readNanos));
+            }
+            detection.delete();
+            ksListener.ksEventReceived(new KSpottedEvent());
+        }
+    }
+
+    private void delete() {
+        synchronized (rustpotter) {
+            if (deleted) {
+                return;
+            }
+            deleted = true;
+            rustpotter.delete();
+            if (logger.isDebugEnabled()) {
+                long audioMs = processedFrames * bytesPerFrame / Math.max(1, bytesPerMs);
+                logger.debug("Rustpotter stopped, processed {}ms of audio using {}ms of cpu time, "
+                        + "{} detections with {}ms average latency", audioMs,
+                        TimeUnit.NANOSECONDS.toMillis(cpuTimeNanos), detections,
+                        detections == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalDetectionLatencyNanos / detections));
+            }
+        }
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static class Frame {
+        private final byte[] data;
+        private long readNanos;
+
+        private Frame(byte[] data) {
+            this.data = data;
+        }
+    }
+}
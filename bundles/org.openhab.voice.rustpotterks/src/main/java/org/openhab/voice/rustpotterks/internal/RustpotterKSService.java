@@ -21,10 +21,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,15 +32,14 @@ import org.openhab.core.audio.AudioStream;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
-import org.openhab.core.voice.KSErrorEvent;
 import org.openhab.core.voice.KSException;
 import org.openhab.core.voice.KSListener;
 import org.openhab.core.voice.KSService;
 import org.openhab.core.voice.KSServiceHandle;
-import org.openhab.core.voice.KSpottedEvent;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,7 +47,6 @@ import org.slf4j.LoggerFactory;
 import io.github.givimad.rustpotter_java.Endianness;
 import io.github.givimad.rustpotter_java.Rustpotter;
 import io.github.givimad.rustpotter_java.RustpotterConfig;
-import io.github.givimad.rustpotter_java.RustpotterDetection;
 import io.github.givimad.rustpotter_java.SampleFormat;
 import io.github.givimad.rustpotter_java.ScoreMode;
 import io.github.givimad.rustpotter_java.VADMode;
@@ -59,6 +55,7 @@ import io.github.givimad.rustpotter_java.VADMode;
  * The {@link RustpotterKSService} is a keyword spotting implementation based on rustpotter.
  *
  * @author Miguel Álvarez - Initial contribution
+ * @author agent - Shared detection workers
  */
 @NonNullByDefault
 @Component(configurationPid = SERVICE_PID, property = Constants.SERVICE_PID + "=" + SERVICE_PID)
@@ -70,7 +67,9 @@ public class RustpotterKSService implements KSService {
     private final Logger logger = LoggerFactory.getLogger(RustpotterKSService.class);
     private final ExecutorService executor = ThreadPoolManager.getPool("voice-rustpotterks");
     private RustpotterKSConfiguration config = new RustpotterKSConfiguration();
-    private final List<RustpotterMutex> runningInstances = new ArrayList<>();
+    private final List<RustpotterDetectionStream> runningInstances = new ArrayList<>();
+    // frame processing is done by a bounded number of threads shared by all the running detections
+    private final ExecutorService detectionWorkers = ThreadPoolManager.getPool("voice-rustpotterks-detection");
 
     @Activate
     protected void activate(Map<String, Object> config) {
@@ -91,6 +90,13 @@ public class RustpotterKSService implements KSService {
         asyncUpdateActiveInstances();
     }
 
+    @Deactivate
+    protected void deactivate() {
+        synchronized (this.runningInstances) {
+            this.runningInstances.forEach(RustpotterDetectionStream::abort);
+        }
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -150,18 +156,24 @@ public class RustpotterKSService implements KSService {
             throw new KSException("Unable to load wakeword file: " + e.getMessage());
         }
         logger.debug("Wakeword '{}' loaded", wakewordPath);
-        AtomicBoolean aborted = new AtomicBoolean(false);
-        int bufferSize = (int) rustpotter.getBytesPerFrame();
         long bytesPerMs = frequency / 1000 * (long) bitDepth;
-        RustpotterMutex rustpotterMutex = new RustpotterMutex(rustpotter);
+        RustpotterDetectionStream detectionStream = new RustpotterDetectionStream(rustpotter, detectionWorkers,
+                ksListener, audioStream, bytesPerMs);
         synchronized (this.runningInstances) {
-            this.runningInstances.add(rustpotterMutex);
+            this.runningInstances.add(detectionStream);
         }
-        executor.submit(
-                () -> processAudioStream(rustpotterMutex, bufferSize, bytesPerMs, ksListener, audioStream, aborted));
+        executor.submit(() -> {
+            try {
+                detectionStream.run();
+            } finally {
+                synchronized (this.runningInstances) {
+                    this.runningInstances.remove(detectionStream);
+                }
+            }
+        });
         return () -> {
             logger.debug("Stopping service");
-            aborted.set(true);
+            detectionStream.abort();
         };
     }
 
@@ -203,67 +215,6 @@ public class RustpotterKSService implements KSService {
         return rustpotterConfig;
     }
 
-    private void processAudioStream(RustpotterMutex rustpotter, int bufferSize, long bytesPerMs, KSListener ksListener,
-            AudioStream audioStream, AtomicBoolean aborted) {
-        int numBytesRead;
-        byte[] audioBuffer = new byte[bufferSize];
-        int remaining = bufferSize;
-        boolean hasFailed = false;
-        while (!aborted.get()) {
-            try {
-                numBytesRead = audioStream.read(audioBuffer, bufferSize - remaining, remaining);
-                if (aborted.get() || numBytesRead == -1) {
-                    break;
-                }
-                if (numBytesRead != remaining) {
-                    remaining = remaining - numBytesRead;
-                    try {
-                        Thread.sleep(remaining / bytesPerMs);
-                    } catch (InterruptedException ignored) {
-                        logger.warn("Thread interrupted while waiting for audio, aborting execution");
-                        aborted.set(true);
-                    }
-                    if (aborted.get()) {
-                        break;
-                    }
-                    continue;
-                }
-                remaining = bufferSize;
-                var result = rustpotter.processBytes(audioBuffer);
-                hasFailed = false;
-                if (result.isPresent()) {
-                    var detection = result.get();
-                    if (logger.isDebugEnabled()) {
-                        ArrayList<String> scores = new ArrayList<>();
-                        var scoreNames = detection.getScoreNames().split("\\|\\|");
-                        var scoreValues = detection.getScores();
-                        for (var i = 0; i < Integer.min(scoreNames.length, scoreValues.length); i++) {
-                            scores.add("'" + scoreNames[i] + "': " + scoreValues[i]);
-                        }
-                        logger.debug("Detected '{}' with: Score: {}, AvgScore: {}, Count: {}, Gain: {}, Scores: {}",
-                                detection.getName(), detection.getScore(), detection.getAvgScore(),
-                                detection.getCounter(), detection.getGain(), String.join(", ", scores));
-                    }
-                    detection.delete();
-                    ksListener.ksEventReceived(new KSpottedEvent());
-                }
-            } catch (IOException e) {
-                String errorMessage = e.getMessage();
-                ksListener.ksEventReceived(new KSErrorEvent(errorMessage != null ? errorMessage : "Unexpected error"));
-                if (hasFailed) {
-                    logger.warn("Multiple consecutive errors, stopping service");
-                    break;
-                }
-                hasFailed = true;
-            }
-        }
-        synchronized (this.runningInstances) {
-            this.runningInstances.remove(rustpotter);
-        }
-        rustpotter.delete();
-        logger.debug("Rustpotter stopped");
-    }
-
     private void asyncUpdateActiveInstances() {
         int nInstances;
         synchronized (this.runningInstances) {
@@ -276,8 +227,8 @@ public class RustpotterKSService implements KSService {
         executor.submit(() -> {
             logger.debug("Updating running instances");
             synchronized (this.runningInstances) {
-                for (RustpotterMutex rustpotter : this.runningInstances) {
-                    rustpotter.updateConfig(rustpotterConfig);
+                for (RustpotterDetectionStream detectionStream : this.runningInstances) {
+                    detectionStream.updateConfig(rustpotterConfig);
                 }
                 logger.debug("{} running instances updated", this.runningInstances.size());
             }
@@ -327,25 +278,4 @@ public class RustpotterKSService implements KSService {
             }
         }
     }
-
-    private record RustpotterMutex(Rustpotter rustpotter) {
-
-        public Optional<RustpotterDetection> processBytes(byte[] bytes) {
-            synchronized (this.rustpotter) {
-                return this.rustpotter.processBytes(bytes);
-            }
-        }
-
-        public void updateConfig(RustpotterConfig config) {
-            synchronized (this.rustpotter) {
-                this.rustpotter.updateConfig(config);
-            }
-        }
-
-        public void delete() {
-            synchronized (this.rustpotter) {
-                this.rustpotter.delete();
-            }
-        }
-    }
 }
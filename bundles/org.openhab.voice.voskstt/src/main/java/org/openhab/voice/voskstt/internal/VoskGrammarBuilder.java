@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.voskstt.internal;
+
+import static org.openhab.voice.voskstt.internal.VoskSTTConstants.UNKNOWN_WORD;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The {@link VoskGrammarBuilder} class builds the phrase list used to restrict the recognizer vocabulary.
+ *
+ * Vosk allows any sequence of the grammar phrases, so adding the single words of the interpreter commands and the
+ * item labels as phrases is enough to recognize the commands that target those items.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class VoskGrammarBuilder {
+    private static final Pattern NOT_WORD_CHARS = Pattern.compile("[^\\p{L}\\p{N}' ]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern JSGF_HEADER = Pattern.compile("(?m)^\\s*(#JSGF|grammar|import)[^;]*;");
+    private static final Pattern JSGF_COMMENT = Pattern.compile("(?s)/\\*.*?\\*/|//[^\\n]*");
+    private static final Pattern JSGF_RULE_NAME = Pattern.compile("<[^>]*>");
+    private static final Pattern JSGF_TAG = Pattern.compile("\\{[^}]*}");
+    private static final Pattern JSGF_WEIGHT = Pattern.compile("/[0-9.]+/");
+    private static final Pattern JSGF_KEYWORD = Pattern.compile("\\bpublic\\b");
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Locale locale;
+    private final Set<String> phrases = new TreeSet<>();
+
+    public VoskGrammarBuilder(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * @return a new builder with the phrases of this one.
+     */
+    public VoskGrammarBuilder copy() {
+        VoskGrammarBuilder copy = new VoskGrammarBuilder(locale);
+        copy.phrases.addAll(phrases);
+        return copy;
+    }
+
+    /**
+     * Adds phrases, like item labels, which are normalized before added to the grammar.
+     *
+     * @param phrases phrases to add.
+     * @return this builder.
+     */
+    public VoskGrammarBuilder addPhrases(Collection<String> phrases) {
+        phrases.forEach(this::addPhrase);
+        return this;
+    }
+
+    /**
+     * Adds a phrase, it is normalized before added to the grammar.
+     *
+     * @param phrase phrase to add.
+     * @return this builder.
+     */
+    public VoskGrammarBuilder addPhrase(@Nullable String phrase) {
+        if (phrase != null) {
+            String normalized = normalize(phrase);
+            if (!normalized.isEmpty()) {
+                phrases.add(normalized);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the words of a JSGF grammar, as the ones provided by the rule based interpreters.
+     *
+     * @param jsgfGrammar grammar in JSGF format.
+     * @return this builder.
+     */
+    public VoskGrammarBuilder addJSGFWords(String jsgfGrammar) {
+        String content = JSGF_COMMENT.matcher(jsgfGrammar).replaceAll(" ");
+        content = JSGF_HEADER.matcher(content).replaceAll(" ");
+        content = JSGF_RULE_NAME.matcher(content).replaceAll(" ");
+        content = JSGF_TAG.matcher(content).replaceAll(" ");
+        content = JSGF_WEIGHT.matcher(content).replaceAll(" ");
+        content = JSGF_KEYWORD.matcher(content).replaceAll(" ");
+        for (String word : WHITESPACE.split(normalize(content))) {
+            if (!word.isEmpty()) {
+                phrases.add(word);
+            }
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return phrases.isEmpty();
+    }
+
+    public int size() {
+        return phrases.size();
+    }
+
+    /**
+     * @return the grammar in the json format expected by vosk.
+     * @throws JsonProcessingException if serialization fails.
+     */
+    public String build() throws JsonProcessingException {
+        Set<String> grammar = new TreeSet<>(phrases);
+        // allows unknown speech without forcing it into a command
+        grammar.add(UNKNOWN_WORD);
+        return mapper.writeValueAsString(grammar);
+    }
+
+    private String normalize(String text) {
+        String normalized = NOT_WORD_CHARS.matcher(text.toLowerCase(locale)).replaceAll(" ");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.voskstt.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vosk.Model;
+import org.vosk.Recognizer;
+
+/**
+ * The {@link VoskRecognizerPool} class keeps a resident vosk {@link Model} and a bounded set of idle recognizers
+ * created from it, so consecutive dialogs do not pay the model load or the recognizer setup.
+ *
+ * Recognizers are reused only for the same sample rate and grammar, as both are fixed when the recognizer is created.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class VoskRecognizerPool implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(VoskRecognizerPool.class);
+    private final Model model;
+    private final int maxIdleRecognizers;
+    private final Deque<PooledRecognizer> idleRecognizers = new ArrayDeque<>();
+    private boolean closed = false;
+
+    /**
+     *
+     * @param model loaded model, owned by the pool.
+     * @param maxIdleRecognizers max number of recognizers kept ready to be used.
+     */
+    public VoskRecognizerPool(Model model, int maxIdleRecognizers) {
+        this.model = model;
+        this.maxIdleRecognizers = Math.max(0, maxIdleRecognizers);
+    }
+
+    /**
+     * Takes an idle recognizer with the same configuration or creates a new one.
+     *
+     * @param sampleRate audio sample rate.
+     * @param grammar json grammar or null for the full model vocabulary.
+     * @return recognizer to be given back with {@link #release(PooledRecognizer)}.
+     * @throws IOException if the recognizer could not be created.
+     */
+    public PooledRecognizer acquire(float sampleRate, @Nullable String grammar) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Model unloaded");
+            }
+            Iterator<PooledRecognizer> iterator = idleRecognizers.iterator();
+            while (iterator.hasNext()) {
+                PooledRecognizer pooledRecognizer = iterator.next();
+                if (pooledRecognizer.matches(sampleRate, grammar)) {
+                    iterator.remove();
+                    logger.debug("Reusing recognizer");
+                    return pooledRecognizer;
+                }
+            }
+        }
+        return createRecognizer(sampleRate, grammar);
+    }
+
+    /**
+     * Gives back a recognizer taken with {@link #acquire(float, String)}. Its state is reset so it can be used for a
+     * new transcription, or it is closed if the pool is full.
+     *
+     * @param pooledRecognizer recognizer to release.
+     */
+    public void release(PooledRecognizer pooledRecognizer) {
+        PooledRecognizer evicted = null;
+        try {
+            pooledRecognizer.recognizer.reset();
+        } catch (RuntimeException e) {
+            logger.debug("Unable to reset recognizer, discarding it: {}", e.getMessage());
+            pooledRecognizer.recognizer.close();
+            return;
+        }
+        synchronized (this) {
+            if (closed || maxIdleRecognizers == 0) {
+                evicted = pooledRecognizer;
+            } else {
+                idleRecognizers.push(pooledRecognizer);
+                if (idleRecognizers.size() > maxIdleRecognizers) {
+                    evicted = idleRecognizers.removeLast();
+                }
+            }
+        }
+        if (evicted != null) {
+            evicted.recognizer.close();
+        }
+    }
+
+    /**
+     * Creates idle recognizers in advance, up to the max number of idle recognizers.
+     *
+     * @param sampleRate audio sample rate.
+     * @param grammar json grammar or null for the full model vocabulary.
+     */
+    public void warmUp(float sampleRate, @Nullable String grammar) {
+        int missing;
+        synchronized (this) {
+            missing = maxIdleRecognizers - (int) idleRecognizers.stream()
+                    .filter(pooledRecognizer -> pooledRecognizer.matches(sampleRate, grammar)).count();
+        }
+        for (int i = 0; i < missing; i++) {
+            try {
+                release(createRecognizer(sampleRate, grammar));
+            } catch (IOException e) {
+                logger.warn("Unable to warm up recognizer: {}", e.getMessage());
+                return;
+            }
+        }
+        logger.debug("{} recognizers warmed up", Math.max(0, missing));
+    }
+
+    /**
+     * Closes the idle recognizers and releases the model. Recognizers in use keep working, as vosk keeps the model
+     * memory until the last recognizer using it is closed.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idleRecognizers.forEach(pooledRecognizer -> pooledRecognizer.recognizer.close());
+            idleRecognizers.clear();
+        }
+        model.close();
+    }
+
+    private PooledRecognizer createRecognizer(float sampleRate, @Nullable String grammar) throws IOException {
+        logger.debug("Creating recognizer");
+        Recognizer recognizer = grammar != null ? new Recognizer(model, sampleRate, grammar)
+                : new Recognizer(model, sampleRate);
+        return new PooledRecognizer(recognizer, sampleRate, grammar);
+    }
+
+    public record PooledRecognizer(Recognizer recognizer, float sampleRate, @Nullable String grammar) {
+        private boolean matches(float sampleRate, @Nullable String grammar) {
+            return this.sampleRate == sampleRate && Objects.equals(this.grammar, grammar);
+        }
+    }
+}
@@ -46,4 +46,17 @@ public class VoskSTTConfiguration {
      * Keep language model loaded
      */
     public boolean preloadModel = true;
+    /**
+     * Max number of recognizers kept ready to be reused while the model is loaded.
+     */
+    public int recognizerPoolSize = 2;
+    /**
+     * Vocabulary used by the recognizer, "none" for the full model vocabulary or "items" for a grammar built from the
+     * item labels and the interpreter commands.
+     */
+    public String grammarMode = "none";
+    /**
+     * Comma separated list of extra phrases added to the grammar.
+     */
+    public String grammarPhrases = "";
 }
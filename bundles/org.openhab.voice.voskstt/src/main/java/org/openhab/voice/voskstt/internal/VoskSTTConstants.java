@@ -39,4 +39,24 @@ public class VoskSTTConstants {
      * Service pid
      */
     public static final String SERVICE_PID = "org.openhab." + SERVICE_CATEGORY + "." + SERVICE_ID;
+
+    /**
+     * Sample rate of the recognizers created in advance, the one supported by most of the models
+     */
+    public static final float DEFAULT_SAMPLE_RATE = 16000f;
+
+    /**
+     * Grammar mode that restricts the vocabulary to the item labels and the interpreter commands
+     */
+    public static final String GRAMMAR_MODE_ITEMS = "items";
+
+    /**
+     * Grammar format requested to the human language interpreter
+     */
+    public static final String JSGF_GRAMMAR_FORMAT = "JSGF";
+
+    /**
+     * Grammar phrase that matches the words out of the grammar, also used to report them on the results
+     */
+    public static final String UNKNOWN_WORD = "[unk]";
 }
@@ -18,8 +18,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -32,9 +34,16 @@ import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
 import org.openhab.core.audio.utils.AudioWaveUtils;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.rest.LocaleService;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.voice.HumanLanguageInterpreter;
 import org.openhab.core.voice.RecognitionStartEvent;
 import org.openhab.core.voice.RecognitionStopEvent;
 import org.openhab.core.voice.STTException;
@@ -43,6 +52,8 @@ import org.openhab.core.voice.STTService;
 import org.openhab.core.voice.STTServiceHandle;
 import org.openhab.core.voice.SpeechRecognitionErrorEvent;
 import org.openhab.core.voice.SpeechRecognitionEvent;
+import org.openhab.core.voice.VoiceManager;
+import org.openhab.voice.voskstt.internal.VoskRecognizerPool.PooledRecognizer;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -56,6 +67,7 @@ import org.vosk.LogLevel;
 import org.vosk.Model;
 import org.vosk.Recognizer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.jna.NativeLibrary;
 
@@ -63,6 +75,7 @@ import com.sun.jna.NativeLibrary;
  * The {@link VoskSTTService} class is a service implementation to use Vosk-API for Speech-to-Text.
  *
  * @author Miguel Álvarez - Initial contribution
+ * @author agent - Recognizer pool and items grammar mode
  */
 @NonNullByDefault
 @Component(configurationPid = SERVICE_PID, property = Constants.SERVICE_PID + "=" + SERVICE_PID)
@@ -82,13 +95,26 @@ public class VoskSTTService implements STTService {
     }
     private final Logger logger = LoggerFactory.getLogger(VoskSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-voskstt");
+    private final ObjectMapper mapper = new ObjectMapper();
     private final LocaleService localeService;
+    private final ItemRegistry itemRegistry;
+    private final MetadataRegistry metadataRegistry;
+    private final VoiceManager voiceManager;
     private VoskSTTConfiguration config = new VoskSTTConfiguration();
-    private @Nullable Model model;
+    private @Nullable VoskRecognizerPool recognizerPool;
+    /* All access must be guarded by "configuredGrammars" */
+    private final Map<Locale, ConfiguredGrammar> configuredGrammars = new HashMap<>();
+    private int configuredGrammarsVersion;
+    private final RegistryChangeListener<Item> itemChangeListener = new GrammarInvalidator<>();
+    private final RegistryChangeListener<Metadata> metadataChangeListener = new GrammarInvalidator<>();
 
     @Activate
-    public VoskSTTService(@Reference LocaleService localeService) {
+    public VoskSTTService(@Reference LocaleService localeService, @Reference ItemRegistry itemRegistry,
+            @Reference MetadataRegistry metadataRegistry, @Reference VoiceManager voiceManager) {
         this.localeService = localeService;
+        this.itemRegistry = itemRegistry;
+        this.metadataRegistry = metadataRegistry;
+        this.voiceManager = voiceManager;
     }
 
     @Activate
@@ -101,6 +127,8 @@ public class VoskSTTService implements STTService {
                 loadSharedLibrariesArmv7l();
             }
             LibVosk.setLogLevel(LogLevel.WARNINGS);
+            itemRegistry.addRegistryChangeListener(itemChangeListener);
+            metadataRegistry.addRegistryChangeListener(metadataChangeListener);
             configChange(config);
         } catch (LinkageError e) {
             logger.warn("LinkageError, service will not work: {}", e.getMessage());
@@ -114,6 +142,8 @@ public class VoskSTTService implements STTService {
 
     @Deactivate
     protected void deactivate(Map<String, Object> config) {
+        itemRegistry.removeRegistryChangeListener(itemChangeListener);
+        metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         try {
             unloadModel();
         } catch (IOException e) {
@@ -123,9 +153,11 @@ public class VoskSTTService implements STTService {
 
     private void configChange(Map<String, Object> config) {
         this.config = new Configuration(config).as(VoskSTTConfiguration.class);
+        invalidateConfiguredGrammars();
         if (this.config.preloadModel) {
             try {
                 loadModel();
+                executor.submit(this::warmUpRecognizers);
             } catch (IOException e) {
                 logger.warn("IOException loading model: {}", e.getMessage());
             } catch (UnsatisfiedLinkError e) {
@@ -177,7 +209,7 @@ public class VoskSTTService implements STTService {
             if (AudioFormat.CONTAINER_WAVE.equals(format.getContainer())) {
                 AudioWaveUtils.removeFMT(audioStream);
             }
-            backgroundRecognize(sttListener, audioStream, frequency, aborted);
+            backgroundRecognize(sttListener, audioStream, frequency, locale, set, aborted);
         } catch (IOException e) {
             throw new STTException(e);
         }
@@ -186,49 +218,183 @@ public class VoskSTTService implements STTService {
         };
     }
 
-    private Model getModel() throws IOException, UnsatisfiedLinkError {
-        var model = this.model;
-        if (model != null) {
-            return model;
+    private synchronized VoskRecognizerPool getRecognizerPool() throws IOException, UnsatisfiedLinkError {
+        var recognizerPool = this.recognizerPool;
+        if (recognizerPool != null) {
+            return recognizerPool;
         }
         return loadModel();
     }
 
-    private Model loadModel() throws IOException, UnsatisfiedLinkError {
+    private synchronized VoskRecognizerPool loadModel() throws IOException, UnsatisfiedLinkError {
         unloadModel();
         var modelFile = new File(MODEL_PATH);
         if (!modelFile.exists() || !modelFile.isDirectory()) {
             throw new IOException("missing model dir: " + MODEL_PATH);
         }
         logger.debug("loading model");
-        var model = new Model(MODEL_PATH);
+        var recognizerPool = new VoskRecognizerPool(new Model(MODEL_PATH), config.recognizerPoolSize);
         if (config.preloadModel) {
-            this.model = model;
+            this.recognizerPool = recognizerPool;
         }
-        return model;
+        return recognizerPool;
     }
 
-    private void unloadModel() throws IOException {
-        var model = this.model;
-        if (model != null) {
+    private synchronized void unloadModel() throws IOException {
+        var recognizerPool = this.recognizerPool;
+        if (recognizerPool != null) {
             logger.debug("unloading model");
-            model.close();
-            this.model = null;
+            recognizerPool.close();
+            this.recognizerPool = null;
+        }
+    }
+
+    private void warmUpRecognizers() {
+        var recognizerPool = this.recognizerPool;
+        if (recognizerPool != null) {
+            try {
+                String grammar = GRAMMAR_MODE_ITEMS.equals(config.grammarMode)
+                        ? getConfiguredGrammar(localeService.getLocale(null)).grammar()
+                        : null;
+                recognizerPool.warmUp(DEFAULT_SAMPLE_RATE, grammar);
+            } catch (UnsatisfiedLinkError e) {
+                logger.warn("Missing native dependency: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the grammar used to restrict the recognizer vocabulary when the grammar mode is enabled.
+     *
+     * The grammar built from the item labels, the configured phrases and the interpreter is kept until one of them
+     * changes, so requests without new phrases use the same grammar the idle recognizers were warmed up with.
+     *
+     * @param locale recognition locale.
+     * @param grammars phrases provided on the recognition request.
+     * @return json grammar or null to use the full model vocabulary.
+     */
+    private @Nullable String getGrammar(Locale locale, Set<String> grammars) {
+        if (!GRAMMAR_MODE_ITEMS.equals(config.grammarMode)) {
+            return null;
+        }
+        ConfiguredGrammar configuredGrammar = getConfiguredGrammar(locale);
+        if (grammars.isEmpty()) {
+            return configuredGrammar.grammar();
+        }
+        VoskGrammarBuilder grammarBuilder = configuredGrammar.builder().copy().addPhrases(grammars);
+        if (grammarBuilder.size() == configuredGrammar.builder().size()) {
+            return configuredGrammar.grammar();
+        }
+        return buildGrammar(grammarBuilder);
+    }
+
+    private ConfiguredGrammar getConfiguredGrammar(Locale locale) {
+        HumanLanguageInterpreter interpreter = voiceManager.getHLI();
+        String interpreterId = interpreter != null ? interpreter.getId() : null;
+        int version;
+        synchronized (configuredGrammars) {
+            ConfiguredGrammar configuredGrammar = configuredGrammars.get(locale);
+            if (configuredGrammar != null && Objects.equals(configuredGrammar.interpreterId(), interpreterId)) {
+                return configuredGrammar;
+            }
+            version = configuredGrammarsVersion;
+        }
+        VoskGrammarBuilder grammarBuilder = getConfiguredGrammarBuilder(locale, interpreter);
+        ConfiguredGrammar configuredGrammar = new ConfiguredGrammar(interpreterId, grammarBuilder,
+                buildGrammar(grammarBuilder));
+        synchronized (configuredGrammars) {
+            // not kept if the items changed while it was built
+            if (version == configuredGrammarsVersion) {
+                configuredGrammars.put(locale, configuredGrammar);
+            }
+        }
+        return configuredGrammar;
+    }
+
+    private void invalidateConfiguredGrammars() {
+        synchronized (configuredGrammars) {
+            configuredGrammarsVersion++;
+            configuredGrammars.clear();
+        }
+    }
+
+    private VoskGrammarBuilder getConfiguredGrammarBuilder(Locale locale,
+            @Nullable HumanLanguageInterpreter interpreter) {
+        var grammarBuilder = new VoskGrammarBuilder(locale);
+        for (Item item : itemRegistry.getItems()) {
+            grammarBuilder.addPhrase(item.getLabel());
+            Metadata synonyms = metadataRegistry.get(new MetadataKey("synonyms", item.getName()));
+            if (synonyms != null) {
+                for (String synonym : synonyms.getValue().split(",")) {
+                    grammarBuilder.addPhrase(synonym);
+                }
+            }
+        }
+        for (String phrase : config.grammarPhrases.split(",")) {
+            grammarBuilder.addPhrase(phrase);
+        }
+        if (interpreter != null && interpreter.getSupportedGrammarFormats().contains(JSGF_GRAMMAR_FORMAT)) {
+            String interpreterGrammar = interpreter.getGrammar(locale, JSGF_GRAMMAR_FORMAT);
+            if (interpreterGrammar != null) {
+                grammarBuilder.addJSGFWords(interpreterGrammar);
+            }
+        }
+        return grammarBuilder;
+    }
+
+    private @Nullable String buildGrammar(VoskGrammarBuilder grammarBuilder) {
+        if (grammarBuilder.isEmpty()) {
+            logger.debug("No phrases available, using full vocabulary");
+            return null;
+        }
+        try {
+            return grammarBuilder.build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Unable to build grammar, using full vocabulary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The grammar built from the configured sources and the interpreter it was built with.
+     */
+    private record ConfiguredGrammar(@Nullable String interpreterId, VoskGrammarBuilder builder,
+            @Nullable String grammar) {
+    }
+
+    /**
+     * Drops the configured grammars when the items or their metadata change.
+     */
+    private class GrammarInvalidator<E> implements RegistryChangeListener<E> {
+        @Override
+        public void added(E element) {
+            invalidateConfiguredGrammars();
+        }
+
+        @Override
+        public void removed(E element) {
+            invalidateConfiguredGrammars();
+        }
+
+        @Override
+        public void updated(E oldElement, E element) {
+            invalidateConfiguredGrammars();
         }
     }
 
     private Future<?> backgroundRecognize(STTListener sttListener, InputStream audioStream, long frequency,
-            AtomicBoolean aborted) {
+            Locale locale, Set<String> grammars, AtomicBoolean aborted) {
         StringBuilder transcriptBuilder = new StringBuilder();
         long maxTranscriptionMillis = (config.maxTranscriptionSeconds * 1000L);
         long maxSilenceMillis = (config.maxSilenceSeconds * 1000L);
         long startTime = System.currentTimeMillis();
         return executor.submit(() -> {
-            Recognizer recognizer = null;
-            Model model = null;
+            VoskRecognizerPool recognizerPool = null;
+            PooledRecognizer pooledRecognizer = null;
             try {
-                model = getModel();
-                recognizer = new Recognizer(model, frequency);
+                recognizerPool = getRecognizerPool();
+                pooledRecognizer = recognizerPool.acquire(frequency, getGrammar(locale, grammars));
+                Recognizer recognizer = pooledRecognizer.recognizer();
                 long lastInputTime = System.currentTimeMillis();
                 int nbytes;
                 byte[] b = new byte[4096];
@@ -254,9 +420,10 @@ public class VoskSTTService implements STTService {
                         lastInputTime = System.currentTimeMillis();
                         var result = recognizer.getResult();
                         logger.debug("Result: {}", result);
-                        ObjectMapper mapper = new ObjectMapper();
                         var json = mapper.readTree(result);
-                        transcriptBuilder.append(json.get("text").asText()).append(" ");
+                        // words out of the grammar are reported as unknown
+                        transcriptBuilder.append(json.get("text").asText().replace(UNKNOWN_WORD, ""))
+                                .append(" ");
                         if (config.singleUtteranceMode) {
                             break;
                         }
@@ -266,7 +433,7 @@ public class VoskSTTService implements STTService {
                 }
                 if (!aborted.get()) {
                     sttListener.sttEventReceived(new RecognitionStopEvent());
-                    var transcript = transcriptBuilder.toString().trim();
+                    var transcript = transcriptBuilder.toString().replaceAll("\\s+", " ").trim();
                     logger.debug("Final: {}", transcript);
                     if (!transcript.isBlank()) {
                         sttListener.sttEventReceived(new SpeechRecognitionEvent(transcript, 1F));
@@ -281,11 +448,14 @@ public class VoskSTTService implements STTService {
                 logger.warn("Missing native dependency: {}", e.getMessage());
                 sttListener.sttEventReceived(new SpeechRecognitionErrorEvent(config.errorMessage));
             } finally {
-                if (recognizer != null) {
-                    recognizer.close();
-                }
-                if (!config.preloadModel && model != null) {
-                    model.close();
+                if (recognizerPool != null) {
+                    if (pooledRecognizer != null) {
+                        recognizerPool.release(pooledRecognizer);
+                    }
+                    if (recognizerPool != this.recognizerPool) {
+                        // model loaded only for this transcription
+                        recognizerPool.close();
+                    }
                 }
             }
             try {
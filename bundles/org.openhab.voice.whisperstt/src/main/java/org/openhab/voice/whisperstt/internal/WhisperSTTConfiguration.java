@@ -122,6 +122,10 @@ public class WhisperSTTConfiguration {
      * OpenVINO device name
      */
     public String openvinoDevice = "CPU";
+    /**
+     * Number of whisper states kept for concurrent transcriptions when the model is preloaded.
+     */
+    public int statePoolSize = 1;
     /**
      * Single phrase mode.
      */
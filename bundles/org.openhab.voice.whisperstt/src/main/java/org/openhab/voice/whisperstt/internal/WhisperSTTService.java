@@ -20,6 +20,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -67,6 +68,7 @@ import org.openhab.core.voice.SpeechRecognitionErrorEvent;
 import org.openhab.core.voice.SpeechRecognitionEvent;
 import org.openhab.voice.whisperstt.internal.WhisperSTTConfiguration.Mode;
 import org.openhab.voice.whisperstt.internal.utils.VAD;
+import org.openhab.voice.whisperstt.internal.utils.WhisperStatePool;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -89,6 +91,7 @@ import io.github.givimad.whisperjni.WhisperState;
  * The {@link WhisperSTTService} class is a service implementation to use whisper.cpp for Speech-to-Text.
  *
  * @author Miguel Álvarez - Initial contribution
+ * @author agent - Whisper state pool
  */
 @NonNullByDefault
 @Component(configurationPid = SERVICE_PID, property = Constants.SERVICE_PID + "=" + SERVICE_PID)
@@ -98,11 +101,13 @@ public class WhisperSTTService implements STTService {
     protected static final Path WHISPER_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "whisper");
     private static final Path SAMPLES_FOLDER = Path.of(WHISPER_FOLDER.toString(), "samples");
     private static final int WHISPER_SAMPLE_RATE = 16000;
+    private static final long STATE_ACQUIRE_TIMEOUT_MS = 30000;
     private final Logger logger = LoggerFactory.getLogger(WhisperSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-whisperstt");
     private final LocaleService localeService;
     private WhisperSTTConfiguration config = new WhisperSTTConfiguration();
     private @Nullable WhisperContext context;
+    private @Nullable WhisperStatePool statePool;
     private @Nullable WhisperGrammar grammar;
     private @Nullable WhisperJNI whisper;
     private boolean isWhisperLibAlreadyLoaded = false;
@@ -294,7 +299,7 @@ public class WhisperSTTService implements STTService {
                     config.vadStep, config.vadSensitivity);
             logger.debug("VAD instance created");
             sttListener.sttEventReceived(new RecognitionStartEvent());
-            backgroundRecognize(nSamplesStep, locale, sttListener, audioStream, vad, aborted);
+            backgroundRecognize(config, nSamplesStep, locale, sttListener, audioStream, vad, aborted);
         } catch (IOException e) {
             throw new STTException("Exception during initialization", e);
         }
@@ -309,14 +314,6 @@ public class WhisperSTTService implements STTService {
         return whisper;
     }
 
-    private WhisperContext getContext() throws IOException, UnsatisfiedLinkError {
-        var context = this.context;
-        if (context != null) {
-            return context;
-        }
-        return loadContext();
-    }
-
     private synchronized WhisperContext loadContext() throws IOException {
         unloadContext();
         String modelFilename = this.config.modelName;
@@ -339,17 +336,32 @@ public class WhisperSTTService implements STTService {
         WhisperJNI whisper = getWhisper();
         var context = whisper.initNoState(modelPath, getWhisperContextParams());
         logger.debug("Whisper context loaded");
-        if (config.preloadModel) {
-            this.context = context;
-        }
         if (!config.openvinoDevice.isBlank()) {
             // has no effect if OpenVINO is not enabled in whisper.cpp library.
             logger.debug("Init OpenVINO device");
             whisper.initOpenVINO(context, config.openvinoDevice);
         }
+        if (config.preloadModel) {
+            this.context = context;
+            logger.debug("Whisper state pool size {}", config.statePoolSize);
+            this.statePool = new WhisperStatePool(whisper, context, config.statePoolSize);
+        }
         return context;
     }
 
+    private synchronized WhisperStatePool getStatePool() throws IOException, UnsatisfiedLinkError {
+        var statePool = this.statePool;
+        if (statePool != null) {
+            return statePool;
+        }
+        loadContext();
+        statePool = this.statePool;
+        if (statePool == null) {
+            throw new IOException("Whisper state pool not available");
+        }
+        return statePool;
+    }
+
     private WhisperContextParams getWhisperContextParams() {
         var params = new WhisperContextParams();
         params.useGPU = config.useGPU;
@@ -357,6 +369,11 @@ public class WhisperSTTService implements STTService {
     }
 
     private void unloadContext() throws IOException {
+        var statePool = this.statePool;
+        if (statePool != null) {
+            statePool.close();
+            this.statePool = null;
+        }
         var context = this.context;
         if (context != null) {
             logger.debug("Unloading model");
@@ -365,8 +382,8 @@ public class WhisperSTTService implements STTService {
         }
     }
 
-    private void backgroundRecognize(final int nSamplesStep, Locale locale, STTListener sttListener,
-            AudioStream audioStream, VAD vad, AtomicBoolean aborted) {
+    void backgroundRecognize(final WhisperSTTConfiguration config, final int nSamplesStep, Locale locale,
+            STTListener sttListener, AudioStream audioStream, VAD vad, AtomicBoolean aborted) {
         final int nSamplesMax = config.maxSeconds * WHISPER_SAMPLE_RATE;
         final int nSamplesMin = (int) (config.minSeconds * (float) WHISPER_SAMPLE_RATE);
         final int nInitSilenceSamples = (int) (config.initSilenceSeconds * (float) WHISPER_SAMPLE_RATE);
@@ -395,6 +412,8 @@ public class WhisperSTTService implements STTService {
                     }
                     final ByteBuffer captureBuffer = ByteBuffer.allocate(nSamplesStep * 2)
                             .order(ByteOrder.LITTLE_ENDIAN);
+                    // view over the capture buffer, reused across steps
+                    final ShortBuffer captureShortBuffer = captureBuffer.asShortBuffer();
                     // init remaining to full capacity
                     int remaining = captureBuffer.capacity();
                     while (!aborted.get()) {
@@ -411,14 +430,11 @@ public class WhisperSTTService implements STTService {
                         // reset remaining to full capacity
                         remaining = captureBuffer.capacity();
                         // encode step samples and copy them to the audio buffers
-                        var shortBuffer = captureBuffer.asShortBuffer();
-                        while (shortBuffer.hasRemaining()) {
-                            var position = shortBuffer.position();
-                            short i16BitSample = shortBuffer.get();
-                            stepAudioSamples[position] = i16BitSample;
-                            audioSamples[audioSamplesOffset++] = i16BitSample;
-                            nProcessedSamples++;
-                        }
+                        captureShortBuffer.rewind();
+                        captureShortBuffer.get(stepAudioSamples);
+                        System.arraycopy(stepAudioSamples, 0, audioSamples, audioSamplesOffset, nSamplesStep);
+                        audioSamplesOffset += nSamplesStep;
+                        nProcessedSamples += nSamplesStep;
                         // run vad
                         if (nProcessedSamples + nSamplesStep > nSamplesMax - nSamplesStep) {
                             logger.debug("VAD: Skipping, max length reached");
@@ -503,10 +519,8 @@ public class WhisperSTTService implements STTService {
                             }
                         }
                         // run whisper, either locally or by remote API
-                        String tempTranscription = (switch (config.mode) {
-                            case LOCAL -> recognizeLocal(audioSamplesOffset, audioSamples, locale.getLanguage());
-                            case API -> recognizeAPI(audioSamplesOffset, audioSamples, locale.getLanguage());
-                        });
+                        String tempTranscription = transcribe(config, audioSamplesOffset, audioSamples,
+                                locale.getLanguage());
 
                         if (tempTranscription != null && !tempTranscription.isBlank()) {
                             if (config.createWAVRecord) {
@@ -550,31 +564,48 @@ public class WhisperSTTService implements STTService {
         });
     }
 
+    /**
+     * Transcribes the first samples of the buffer, either locally or by remote API.
+     */
+    @Nullable
+    String transcribe(WhisperSTTConfiguration config, int audioSamplesOffset, short[] audioSamples, String language)
+            throws STTException {
+        return switch (config.mode) {
+            case LOCAL -> recognizeLocal(audioSamplesOffset, audioSamples, language);
+            case API -> recognizeAPI(audioSamplesOffset, audioSamples, language);
+        };
+    }
+
     @Nullable
     private String recognizeLocal(int audioSamplesOffset, short[] audioSamples, String language) throws STTException {
         logger.debug("running whisper with {} seconds of audio...",
                 Math.round((((float) audioSamplesOffset) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
-        var releaseContext = !config.preloadModel;
+        // convert to local whisper format (float), only the retained samples
+        float[] floatAudioSamples = new float[audioSamplesOffset];
+        for (int i = 0; i < audioSamplesOffset; i++) {
+            floatAudioSamples[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
+        }
 
-        WhisperJNI whisper = null;
+        WhisperStatePool pool = null;
         WhisperContext ctx = null;
         WhisperState state = null;
         try {
-            whisper = getWhisper();
-            ctx = getContext();
-            logger.debug("Creating whisper state...");
-            state = whisper.initState(ctx);
-            logger.debug("Whisper state created");
-            WhisperFullParams params = getWhisperFullParams(ctx, language);
-
-            // convert to local whisper format (float)
-            float[] floatArray = new float[audioSamples.length];
-            for (int i = 0; i < audioSamples.length; i++) {
-                floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
+            WhisperJNI whisper = getWhisper();
+            if (config.preloadModel) {
+                // shared context, the state is taken from the pool so concurrent sessions decode in parallel
+                pool = getStatePool();
+                ctx = pool.getContext();
+                state = pool.acquire(STATE_ACQUIRE_TIMEOUT_MS);
+            } else {
+                ctx = loadContext();
+                logger.debug("Creating whisper state...");
+                state = whisper.initState(ctx);
+                logger.debug("Whisper state created");
             }
+            WhisperFullParams params = getWhisperFullParams(ctx, language);
 
             long execStartTime = System.currentTimeMillis();
-            var result = whisper.fullWithState(ctx, state, params, floatArray, audioSamplesOffset);
+            var result = whisper.fullWithState(ctx, state, params, floatAudioSamples, audioSamplesOffset);
             logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime,
                     result);
             // process result
@@ -594,12 +625,16 @@ public class WhisperSTTService implements STTService {
                 return null;
             }
         } catch (IOException e) {
-            if (state != null) {
-                state.close();
-            }
             throw new STTException("Cannot use whisper locally", e);
         } finally {
-            if (releaseContext && ctx != null) {
+            if (state != null) {
+                if (pool != null) {
+                    pool.release(state);
+                } else {
+                    state.close();
+                }
+            }
+            if (pool == null && ctx != null) {
                 ctx.close();
             }
         }
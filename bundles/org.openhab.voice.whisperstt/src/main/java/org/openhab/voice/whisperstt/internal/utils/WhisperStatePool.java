@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * The {@link WhisperStatePool} class keeps a bounded set of reusable whisper states over a shared
+ * {@link WhisperContext}, so concurrent transcriptions can run in parallel without reloading the model or
+ * re-allocating the decoding state on each run.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePool implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(WhisperStatePool.class);
+    private final WhisperJNI whisper;
+    private final WhisperContext context;
+    private final Semaphore permits;
+    private final Deque<WhisperState> idleStates = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     *
+     * @param whisper whisper library instance.
+     * @param context shared whisper context, the pool does not take its ownership.
+     * @param size max number of states, which is the max number of concurrent transcriptions.
+     */
+    public WhisperStatePool(WhisperJNI whisper, WhisperContext context, int size) {
+        this.whisper = whisper;
+        this.context = context;
+        this.permits = new Semaphore(Math.max(1, size), true);
+    }
+
+    public WhisperContext getContext() {
+        return context;
+    }
+
+    /**
+     * Takes an idle state from the pool, creating a new one if none is available, waiting when all states are in use.
+     *
+     * @param timeoutMs max milliseconds to wait for a state.
+     * @return whisper state to be given back with {@link #release(WhisperState)}.
+     * @throws IOException if the pool is closed, no state was available in time or the state could not be created.
+     */
+    public WhisperState acquire(long timeoutMs) throws IOException {
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Timeout waiting for an available whisper state");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for an available whisper state");
+        }
+        try {
+            @Nullable
+            WhisperState state;
+            synchronized (this) {
+                if (closed) {
+                    throw new IOException("Whisper state pool closed");
+                }
+                state = idleStates.poll();
+            }
+            if (state == null) {
+                logger.debug("Creating whisper state...");
+                state = whisper.initState(context);
+                logger.debug("Whisper state created");
+            }
+            return state;
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives back a state taken with {@link #acquire(long)}.
+     *
+     * @param state whisper state.
+     */
+    public void release(WhisperState state) {
+        boolean reuse;
+        synchronized (this) {
+            reuse = !closed;
+            if (reuse) {
+                idleStates.push(state);
+            }
+        }
+        if (!reuse) {
+            state.close();
+        }
+        permits.release();
+    }
+
+    /**
+     * Frees the idle states, states in use are freed when released.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            idleStates.forEach(WhisperState::close);
+            idleStates.clear();
+        }
+    }
+}
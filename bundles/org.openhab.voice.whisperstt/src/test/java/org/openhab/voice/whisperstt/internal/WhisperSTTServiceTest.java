@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.core.io.net.http.HttpClientFactory;
+import org.openhab.core.io.rest.LocaleService;
+import org.openhab.core.voice.RecognitionStopEvent;
+import org.openhab.core.voice.STTEvent;
+import org.openhab.core.voice.SpeechRecognitionEvent;
+import org.openhab.voice.whisperstt.internal.utils.VAD;
+
+/**
+ * Tests the events emitted by the {@link WhisperSTTService} for an utterance.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperSTTServiceTest {
+    private static final int SAMPLE_RATE = 16000;
+    private static final int STEP_SAMPLES = 1600;
+    private static final int VOICE_STEPS = 10;
+    private static final int SILENCE_STEPS = 3;
+
+    @Test
+    public void utteranceIsTranscribedOnceAndEmittedAsRecognitionEvent() throws Exception {
+        AtomicInteger transcriptions = new AtomicInteger();
+        WhisperSTTService service = new WhisperSTTService(mock(LocaleService.class), mock(HttpClientFactory.class)) {
+            @Override
+            @Nullable
+            String transcribe(WhisperSTTConfiguration config, int audioSamplesOffset, short[] audioSamples,
+                    String language) {
+                transcriptions.incrementAndGet();
+                return " turn on the light";
+            }
+        };
+
+        WhisperSTTConfiguration config = new WhisperSTTConfiguration();
+        config.stepSeconds = (float) STEP_SAMPLES / SAMPLE_RATE;
+        config.minSeconds = 0.2f;
+        config.maxSilenceSeconds = 0.2f;
+        config.removeSilence = false;
+
+        // voice for the first steps, then silence until the utterance ends
+        AtomicInteger analyzedSteps = new AtomicInteger();
+        VAD vad = mock(VAD.class);
+        when(vad.analyze(any())).thenAnswer(invocation -> {
+            if (analyzedSteps.incrementAndGet() <= VOICE_STEPS) {
+                return new VAD.VADResult(true, STEP_SAMPLES, STEP_SAMPLES);
+            }
+            return new VAD.VADResult(false, 0, 0);
+        });
+
+        List<STTEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        service.backgroundRecognize(config, STEP_SAMPLES, Locale.ENGLISH, event -> {
+            events.add(event);
+            if (event instanceof SpeechRecognitionEvent) {
+                finished.countDown();
+            }
+        }, audioStream((VOICE_STEPS + SILENCE_STEPS) * STEP_SAMPLES), vad, new AtomicBoolean(false));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(1, transcriptions.get());
+        assertThat(events, hasSize(2));
+        assertThat(events.get(0), instanceOf(RecognitionStopEvent.class));
+        SpeechRecognitionEvent result = (SpeechRecognitionEvent) events.get(1);
+        assertEquals("turn on the light", result.getTranscript());
+        assertEquals(1f, result.getConfidence());
+    }
+
+    private static AudioStream audioStream(int samples) {
+        AudioFormat format = new AudioFormat(AudioFormat.CONTAINER_NONE, AudioFormat.CODEC_PCM_SIGNED, false, 16, null,
+                (long) SAMPLE_RATE, 1);
+        ByteArrayInputStream input = new ByteArrayInputStream(new byte[samples * 2]);
+        return new AudioStream() {
+            @Override
+            public AudioFormat getFormat() {
+                return format;
+            }
+
+            @Override
+            public int read() throws IOException {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte @Nullable [] b, int off, int len) throws IOException {
+                return input.read(b, off, len);
+            }
+        };
+    }
+}